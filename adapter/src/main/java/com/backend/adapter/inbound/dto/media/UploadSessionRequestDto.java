@@ -0,0 +1,18 @@
+package com.backend.adapter.inbound.dto.media;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import java.util.List;
+
+/**
+ * Request DTO for reserving presigned upload URLs.
+ *
+ * @param filenames original names of the files the client is about to upload
+ */
+@Schema(description = "Request for presigned upload URLs, one per file")
+public record UploadSessionRequestDto(
+    @Schema(
+        description = "Original names of the files to upload",
+        example = "[\"photo.jpg\", \"clip.mp4\"]"
+    )
+    @NotEmpty List<String> filenames) { }
@@ -0,0 +1,36 @@
+package com.backend.adapter.inbound.dto.media;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * DTO describing where a single file has to be uploaded.
+ *
+ * @param key        object key to send back when creating the incident
+ * @param uploadUrl  URL accepting a single multipart POST of the file
+ * @param formFields signed form fields to send before the {@code file} part
+ * @param expiresAt  instant after which the upload is rejected by the storage
+ */
+@Schema(description = "Presigned upload target for a single file")
+public record UploadSlotDto(
+    @Schema(
+        description = "Object key to reference the file when creating the incident",
+        example = "uploads/3Fh2kLm9/5b0e6a0c-7f1d-4c55-9d2b-1c7a6f2f9e11-photo.jpg"
+    )
+    String key,
+
+    @Schema(
+        description = "URL the file must be uploaded to with a multipart/form-data POST request",
+        example = "https://storage.example.com/aroundly"
+    )
+    String uploadUrl,
+
+    @Schema(
+        description = "Form fields to send as they are, followed by the file in a part named \"file\". "
+            + "The signed policy limits the upload to this key, content type and the maximum file size."
+    )
+    Map<String, String> formFields,
+
+    @Schema(description = "Expiry of the upload URL")
+    Instant expiresAt) { }
@@ -0,0 +1,18 @@
+package com.backend.adapter.inbound.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+/**
+ * Request DTO for creating or editing a comment.
+ *
+ * @param text content of the comment
+ */
+@Schema(description = "Request to create or edit a comment on an incident")
+public record CommentRequestDto(
+    @Schema(
+        description = "Content of the comment",
+        example = "The road is open again on the north side"
+    )
+    @NotBlank @Size(max = 2000) String text) { }
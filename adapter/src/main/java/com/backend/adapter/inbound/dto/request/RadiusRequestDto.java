@@ -8,6 +8,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
  * @param lat    latitude of the center point
  * @param lon    longitude of the center point
  * @param radius search radius in kilometers
+ * @param cursor cursor of the next page, as returned in the {@code X-Next-Cursor} header
  */
 @Schema(description = "Request containing geographic coordinates and search radius for location-based queries")
 public record RadiusRequestDto(
@@ -27,4 +28,10 @@ public record RadiusRequestDto(
         description = "Search radius in meters from the specified coordinates",
         example = "1000.0"
     )
-    double radius) { }
+    double radius,
+
+    @Schema(
+        description = "Opaque cursor returned in the X-Next-Cursor header of the previous page; omit for the first page",
+        nullable = true
+    )
+    String cursor) { }
@@ -0,0 +1,19 @@
+package com.backend.adapter.inbound.dto.response;
+
+import java.time.Instant;
+
+/**
+ * REST response payload describing one comment on an incident.
+ *
+ * @param id         comment identifier
+ * @param incidentId incident the comment belongs to
+ * @param userId     Firebase UID of the author
+ * @param text       content of the comment
+ * @param createdAt  time the comment was written
+ */
+public record CommentResponseDto(
+    long id,
+    long incidentId,
+    String userId,
+    String text,
+    Instant createdAt) { }
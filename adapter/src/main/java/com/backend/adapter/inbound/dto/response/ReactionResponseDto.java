@@ -1,15 +1,19 @@
 package com.backend.adapter.inbound.dto.response;
 
+import com.backend.port.inbound.commands.ReactionType;
+
 /**
  * REST response payload exposing the aggregate reaction state for a specific incident.
  *
- * @param incidentId incident identifier the reactions belong to
- * @param likes      total like count
- * @param dislikes   total dislike count
- * @param score      convenience metric computed as likes minus dislikes
+ * @param incidentId   incident identifier the reactions belong to
+ * @param likes        total like count
+ * @param dislikes     total dislike count
+ * @param score        convenience metric computed as likes minus dislikes
+ * @param reactionType the caller's own reaction
  */
 public record ReactionResponseDto(
     long incidentId,
     int likes,
     int dislikes,
-    int score) { }
+    int score,
+    ReactionType reactionType) { }
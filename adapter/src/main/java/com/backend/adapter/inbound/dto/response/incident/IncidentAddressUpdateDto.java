@@ -0,0 +1,20 @@
+package com.backend.adapter.inbound.dto.response.incident;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+/**
+ * Follow-up message sent once the address of recently created incidents has been resolved.
+ *
+ * @param incidentIds incidents whose address is now known
+ * @param address     the resolved address
+ */
+@Schema(description = "Resolved address of incidents that were broadcast before their address was known")
+public record IncidentAddressUpdateDto(
+    List<Long> incidentIds,
+
+    @Schema(
+        description = "Human-readable formatted address",
+        example = "str. Mamei Tale 69/1, Hârtopul Vechi, Moldova"
+    )
+    String address) { }
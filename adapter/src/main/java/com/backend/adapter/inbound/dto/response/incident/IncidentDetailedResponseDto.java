@@ -21,6 +21,8 @@ import lombok.Builder;
  * @param lat                latitude of the incident location
  * @param lon                longitude of the incident location
  * @param address            human-readable formatted address of the incident
+ * @param createdAt          when the incident was created
+ * @param expiresAt          when the incident expires unless confirmations extend it
  */
 @Schema(description = "Detailed incident information including location, media, and community engagement metrics")
 @Builder(toBuilder = true)
@@ -102,4 +104,10 @@ public record IncidentDetailedResponseDto(
         description = "Describes when the incident was created",
         example = "created at: 12:10PM"
     )
-    Instant createdAt) { }
\ No newline at end of file
+    Instant createdAt,
+
+    @Schema(
+        description = "When the incident expires unless confirmations extend it",
+        example = "2025-05-01T12:40:00Z"
+    )
+    Instant expiresAt) { }
\ No newline at end of file
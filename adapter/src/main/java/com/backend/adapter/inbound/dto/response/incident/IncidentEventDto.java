@@ -0,0 +1,39 @@
+package com.backend.adapter.inbound.dto.response.incident;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.Instant;
+
+/**
+ * Compact WebSocket event announcing that an incident was created or changed. It carries what a
+ * map needs to place and refresh a marker; clients fetch the media and description from the REST
+ * API when they need them.
+ *
+ * @param id                incident identifier
+ * @param type              what happened to the incident
+ * @param lat               latitude of the incident location
+ * @param lon               longitude of the incident location
+ * @param title             short title of the incident
+ * @param address           formatted address, or {@code null} while it is being resolved
+ * @param confirms          number of confirmations
+ * @param denies            number of denials
+ * @param consecutiveDenies denials since the last confirmation
+ * @param expiresAt         when the incident expires unless confirmations extend it
+ * @param version           number of engagements counted on the incident, taken from its
+ *                          persisted counters; see {@code IncidentBroadcast} for how to use it
+ */
+@Schema(description = "Compact real-time event about an incident")
+public record IncidentEventDto(
+    long id,
+    Type type,
+    double lat,
+    double lon,
+    String title,
+    String address,
+    int confirms,
+    int denies,
+    int consecutiveDenies,
+    Instant expiresAt,
+    long version) {
+
+  public enum Type { CREATED, UPDATED }
+}
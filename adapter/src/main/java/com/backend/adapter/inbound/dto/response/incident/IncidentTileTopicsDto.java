@@ -0,0 +1,24 @@
+package com.backend.adapter.inbound.dto.response.incident;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+/**
+ * Response DTO listing the WebSocket topics a client subscribes to for one viewport.
+ *
+ * @param incidentTopics topics carrying new incidents, one per tile
+ * @param addressTopics  topics carrying resolved incident addresses, one per tile
+ */
+@Schema(description = "WebSocket topics of the tiles covering a viewport")
+public record IncidentTileTopicsDto(
+    @Schema(
+        description = "Topics carrying new incidents, one per tile",
+        example = "[\"/topic/incident/tile/888:520\"]"
+    )
+    List<String> incidentTopics,
+
+    @Schema(
+        description = "Topics carrying resolved incident addresses, one per tile",
+        example = "[\"/topic/incident/address/tile/888:520\"]"
+    )
+    List<String> addressTopics) { }
@@ -0,0 +1,29 @@
+package com.backend.adapter.inbound.mapper;
+
+import com.backend.adapter.inbound.dto.response.CommentResponseDto;
+import com.backend.domain.actor.Comment;
+
+/**
+ * Converts domain {@link Comment}s into REST-facing DTOs.
+ */
+public final class CommentResponseMapper {
+
+  private CommentResponseMapper() {
+    // utility class
+  }
+
+  /**
+   * Maps a saved {@link Comment} into the response payload used by the REST controller.
+   *
+   * @param comment domain comment to convert
+   * @return DTO carrying the comment
+   */
+  public static CommentResponseDto mapToCommentResponseDto(Comment comment) {
+    return new CommentResponseDto(
+        comment.id().value(),
+        comment.happeningId().id(),
+        comment.userId().value(),
+        comment.text(),
+        comment.createdAt());
+  }
+}
@@ -1,6 +1,7 @@
 package com.backend.adapter.inbound.mapper;
 
 import com.backend.adapter.inbound.dto.media.MediaDto;
+import com.backend.adapter.inbound.dto.request.IncidentFromUploadsRequestDto;
 import com.backend.adapter.inbound.dto.request.IncidentRequestDto;
 import com.backend.adapter.inbound.dto.response.incident.IncidentDetailedResponseDto;
 import com.backend.adapter.inbound.dto.response.incident.IncidentPreviewResponseDto;
@@ -10,11 +11,15 @@ import com.backend.domain.actor.UserId;
 import com.backend.domain.happening.Incident;
 import com.backend.domain.location.Location;
 import com.backend.port.inbound.commands.CreateIncidentCommand;
+import com.backend.port.inbound.commands.IncidentPreview;
 import com.backend.port.inbound.commands.UploadMediaCommand;
 import com.backend.port.outbound.repo.LocationRepository;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -51,6 +56,23 @@ public class IncidentResponseMapper {
         incidentRequestDto.lon());
   }
 
+  /**
+   * Converts a creation request referencing directly uploaded media into a command.
+   *
+   * @param incidentRequestDto payload received from the client
+   * @return command including authenticated user id, metadata, and uploaded media keys
+   */
+  public CreateIncidentCommand toCreateIncidentCommand(final IncidentFromUploadsRequestDto incidentRequestDto) {
+    return CreateIncidentCommand.builder()
+        .userId(extractUserId())
+        .title(incidentRequestDto.title())
+        .description(incidentRequestDto.description())
+        .mediaKeys(incidentRequestDto.mediaKeys())
+        .lat(incidentRequestDto.lat())
+        .lon(incidentRequestDto.lon())
+        .build();
+  }
+
   /**
    * Builds the detailed incident response view, including media, stats, and location data.
    *
@@ -67,7 +89,7 @@ public class IncidentResponseMapper {
         .title(incident.getTitle())
         .description(incident.getDescription())
         .media(mediaDtos)
-        .address(location.address())
+        .address(location.isAddressPending() ? null : location.address())
         .lat(location.latitude())
         .lon(location.longitude())
         .like(incident.getSentimentEngagement().likes())
@@ -76,6 +98,7 @@ public class IncidentResponseMapper {
         .deny(incident.getEngagementStats().denies())
         .consecutiveDenies(incident.getEngagementStats().consecutiveDenies())
         .createdAt(incident.createdAt())
+        .expiresAt(incident.getExpiresAt())
         .build();
   }
 
@@ -86,13 +109,62 @@ public class IncidentResponseMapper {
    * @return DTO containing basic info suitable for feed rendering
    */
   public IncidentPreviewResponseDto toIncidentPreviewResponseDto(final Incident incident) {
-    final Set<MediaDto> mediaDtos = toMediaDto(incident);
-    final Location location = extractLocation(incident);
+    return toIncidentPreviewResponseDto(incident, extractLocation(incident));
+  }
+
+  /**
+   * Builds preview responses for a list of incidents, resolving all referenced locations
+   * with a single repository call instead of one lookup per incident.
+   *
+   * @param incidents domain incidents, in the order they should be returned
+   * @return preview DTOs in the same order
+   */
+  public List<IncidentPreviewResponseDto> toIncidentPreviewResponseDtos(final List<Incident> incidents) {
+    if (incidents.isEmpty()) return List.of();
+
+    final Set<Long> locationIds = incidents.stream()
+        .map(incident -> incident.getLocationId().value())
+        .collect(Collectors.toSet());
+    final Map<Long, Location> locationsById = locationRepository.findAllByIds(locationIds).stream()
+        .collect(Collectors.toMap(location -> location.id().value(), Function.identity()));
+
+    return incidents.stream()
+        .map(incident -> toIncidentPreviewResponseDto(
+            incident, locationsById.get(incident.getLocationId().value())))
+        .toList();
+  }
+
+  /**
+   * Builds preview responses from feed projections. No repository lookups are needed since the
+   * projection already carries coordinates and media keys.
+   *
+   * @param previews feed projections, in the order they should be returned
+   * @return preview DTOs in the same order
+   */
+  public List<IncidentPreviewResponseDto> toPreviewResponseDtos(final List<IncidentPreview> previews) {
+    return previews.stream()
+        .map(preview -> IncidentPreviewResponseDto.builder()
+            .id(preview.id())
+            .title(preview.title())
+            .media(mediaPreviewFactory.buildFromKeys(preview.mediaKeys()))
+            .lat(preview.lat())
+            .lon(preview.lon())
+            .createdAt(preview.createdAt())
+            .build())
+        .toList();
+  }
+
+  private IncidentPreviewResponseDto toIncidentPreviewResponseDto(
+      final Incident incident, final Location location) {
+
+    if (location == null) {
+      throw new IllegalStateException("Location not found for incident " + incident.getId().value());
+    }
 
     return IncidentPreviewResponseDto.builder()
         .id(incident.getId().value())
         .title(incident.getTitle())
-        .media(mediaDtos)
+        .media(mediaPreviewFactory.buildPreviews(incident.getMedia()))
         .lat(location.latitude())
         .lon(location.longitude())
         .createdAt(incident.createdAt())
@@ -15,7 +15,8 @@ public final class LocationMapper {
     return new RadiusCommand(
         radiusRequestDto.lat(),
         radiusRequestDto.lon(),
-        radiusRequestDto.radius());
+        radiusRequestDto.radius(),
+        radiusRequestDto.cursor());
   }
 
   public static CoordinatesCommand toCoordinatesCommand(CoordinatesRequestDto coordinatesRequestDto) {
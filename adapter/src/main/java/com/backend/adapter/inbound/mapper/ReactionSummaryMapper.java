@@ -24,6 +24,7 @@ public final class ReactionSummaryMapper {
         reactionSummary.incidentId(),
         reactionSummary.likes(),
         reactionSummary.dislikes(),
-        reactionSummary.score());
+        reactionSummary.score(),
+        reactionSummary.reactionType());
   }
 }
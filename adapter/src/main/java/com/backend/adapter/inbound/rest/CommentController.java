@@ -0,0 +1,196 @@
+package com.backend.adapter.inbound.rest;
+
+import static com.backend.adapter.inbound.mapper.CommentResponseMapper.mapToCommentResponseDto;
+
+import com.backend.adapter.inbound.dto.request.CommentRequestDto;
+import com.backend.adapter.inbound.dto.response.CommentResponseDto;
+import com.backend.adapter.inbound.mapper.CommentResponseMapper;
+import com.backend.domain.actor.Comment;
+import com.backend.port.inbound.CommentUseCase;
+import com.backend.port.inbound.commands.CommentTextCommand;
+import com.backend.port.inbound.commands.CursorPage;
+import com.backend.services.UserService;
+import com.backend.services.exceptions.CommentNotFoundException;
+import com.backend.services.exceptions.CommentNotOwnedException;
+import com.backend.services.exceptions.IncidentNotFoundException;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller exposing the comments of incidents. Comments are listed one page at a time,
+ * newest first, and only their author may edit or delete them.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/incidents")
+@RequiredArgsConstructor
+@Tag(name = "Comments", description = "Incident comment endpoints")
+@SecurityRequirement(name = "bearerAuth")
+public class CommentController {
+
+  private final CommentUseCase commentUseCase;
+  private final UserService userService;
+
+  /**
+   * Lists one page of the comments of an incident.
+   *
+   * @param incidentId identifier of the incident
+   * @param cursor     cursor returned with the previous page, absent for the first page
+   */
+  @GetMapping("/{incidentId}/comments")
+  @Operation(
+      summary = "Lists comments of an incident",
+      description = "Returns one page of comments, newest first. The X-Total-Count response header carries the "
+          + "number of comments; when more exist, the X-Next-Cursor header carries the cursor of the next page."
+  )
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = "Comments retrieved successfully"),
+      @ApiResponse(responseCode = "400", description = "Malformed cursor"),
+      @ApiResponse(responseCode = "404", description = "Incident not found")
+  })
+  public ResponseEntity<List<CommentResponseDto>> findComments(
+      @PathVariable long incidentId,
+      @RequestParam(required = false) String cursor) {
+
+    try {
+      int totalCount = commentUseCase.countByIncidentId(incidentId);
+      CursorPage<Comment> page = commentUseCase.findByIncidentId(incidentId, cursor);
+
+      return CursorHeaders.ok(
+          page.items().stream().map(CommentResponseMapper::mapToCommentResponseDto).toList(),
+          page.nextCursor(),
+          totalCount);
+    } catch (IncidentNotFoundException e) {
+      return ResponseEntity.notFound().build();
+    } catch (IllegalArgumentException e) {
+      log.warn("Invalid comment cursor for incident {}: {}", incidentId, e.getMessage());
+      return ResponseEntity.badRequest().build();
+    }
+  }
+
+  /**
+   * Adds a comment to an incident as the authenticated user.
+   *
+   * @param incidentId identifier of the incident
+   * @param request    the comment text
+   */
+  @PostMapping("/{incidentId}/comments")
+  @Operation(summary = "Comments on an incident", description = "Adds a comment by the authenticated user.")
+  @ApiResponses({
+      @ApiResponse(responseCode = "201", description = "Comment created successfully"),
+      @ApiResponse(responseCode = "400", description = "Invalid comment text"),
+      @ApiResponse(responseCode = "401", description = "Authentication required"),
+      @ApiResponse(responseCode = "404", description = "Incident not found")
+  })
+  public ResponseEntity<CommentResponseDto> create(
+      @PathVariable long incidentId,
+      @RequestBody @Valid CommentRequestDto request) {
+
+    String userId = currentUserId();
+    if (userId == null) {
+      return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+    }
+
+    try {
+      Comment comment = commentUseCase.create(incidentId, userId, new CommentTextCommand(request.text()));
+      return ResponseEntity.status(HttpStatus.CREATED).body(mapToCommentResponseDto(comment));
+    } catch (IncidentNotFoundException e) {
+      return ResponseEntity.notFound().build();
+    } catch (IllegalArgumentException e) {
+      return ResponseEntity.badRequest().build();
+    }
+  }
+
+  /**
+   * Replaces the text of one of the authenticated user's comments.
+   *
+   * @param incidentId identifier of the incident
+   * @param commentId  identifier of the comment
+   * @param request    the new comment text
+   */
+  @PutMapping("/{incidentId}/comments/{commentId}")
+  @Operation(summary = "Edits a comment", description = "Replaces the text of a comment by the authenticated user.")
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = "Comment updated successfully"),
+      @ApiResponse(responseCode = "400", description = "Invalid comment text"),
+      @ApiResponse(responseCode = "401", description = "Authentication required"),
+      @ApiResponse(responseCode = "403", description = "Comment belongs to another user"),
+      @ApiResponse(responseCode = "404", description = "Comment not found")
+  })
+  public ResponseEntity<CommentResponseDto> update(
+      @PathVariable long incidentId,
+      @PathVariable long commentId,
+      @RequestBody @Valid CommentRequestDto request) {
+
+    String userId = currentUserId();
+    if (userId == null) {
+      return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+    }
+
+    try {
+      Comment comment = commentUseCase.update(incidentId, commentId, userId, new CommentTextCommand(request.text()));
+      return ResponseEntity.ok(mapToCommentResponseDto(comment));
+    } catch (CommentNotFoundException e) {
+      return ResponseEntity.notFound().build();
+    } catch (CommentNotOwnedException e) {
+      return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+    } catch (IllegalArgumentException e) {
+      return ResponseEntity.badRequest().build();
+    }
+  }
+
+  /**
+   * Deletes one of the authenticated user's comments.
+   *
+   * @param incidentId identifier of the incident
+   * @param commentId  identifier of the comment
+   */
+  @DeleteMapping("/{incidentId}/comments/{commentId}")
+  @Operation(summary = "Deletes a comment", description = "Deletes a comment by the authenticated user.")
+  @ApiResponses({
+      @ApiResponse(responseCode = "204", description = "Comment deleted successfully"),
+      @ApiResponse(responseCode = "401", description = "Authentication required"),
+      @ApiResponse(responseCode = "403", description = "Comment belongs to another user"),
+      @ApiResponse(responseCode = "404", description = "Comment not found")
+  })
+  public ResponseEntity<Void> delete(@PathVariable long incidentId, @PathVariable long commentId) {
+    String userId = currentUserId();
+    if (userId == null) {
+      return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+    }
+
+    try {
+      commentUseCase.delete(incidentId, commentId, userId);
+      return ResponseEntity.noContent().build();
+    } catch (CommentNotFoundException e) {
+      return ResponseEntity.notFound().build();
+    } catch (CommentNotOwnedException e) {
+      return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+    }
+  }
+
+  /**
+   * @return Firebase UID of the authenticated caller, or {@code null} for anonymous requests
+   */
+  private String currentUserId() {
+    return userService.getUser().map(user -> user.uid().value()).orElse(null);
+  }
+}
@@ -0,0 +1,46 @@
+package com.backend.adapter.inbound.rest;
+
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Helpers for keyset-paginated endpoints. The page body stays a plain list and the cursor of the
+ * next page travels in the {@value #NEXT_CURSOR} response header.
+ */
+final class CursorHeaders {
+
+  static final String NEXT_CURSOR = "X-Next-Cursor";
+  static final String TOTAL_COUNT = "X-Total-Count";
+
+  private CursorHeaders() {
+  }
+
+  /**
+   * Builds a 200 response carrying the next-page cursor, if there is one.
+   *
+   * @param body       the page content
+   * @param nextCursor cursor of the next page, or {@code null} on the last page
+   */
+  static <T> ResponseEntity<T> ok(T body, String nextCursor) {
+    return builder(nextCursor).body(body);
+  }
+
+  /**
+   * Builds a 200 response carrying the next-page cursor, if there is one, and the total number of
+   * items across all pages in the {@value #TOTAL_COUNT} header.
+   *
+   * @param body       the page content
+   * @param nextCursor cursor of the next page, or {@code null} on the last page
+   * @param totalCount number of items across all pages
+   */
+  static <T> ResponseEntity<T> ok(T body, String nextCursor, long totalCount) {
+    return builder(nextCursor).header(TOTAL_COUNT, Long.toString(totalCount)).body(body);
+  }
+
+  private static ResponseEntity.BodyBuilder builder(String nextCursor) {
+    final ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+    if (nextCursor != null) {
+      builder.header(NEXT_CURSOR, nextCursor);
+    }
+    return builder;
+  }
+}
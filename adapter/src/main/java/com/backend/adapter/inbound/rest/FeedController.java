@@ -4,9 +4,13 @@ import static com.backend.adapter.inbound.mapper.LocationMapper.toRadiusCommand;
 
 import com.backend.adapter.inbound.dto.request.RadiusRequestDto;
 import com.backend.adapter.inbound.dto.response.incident.IncidentPreviewResponseDto;
+import com.backend.adapter.inbound.dto.response.incident.IncidentTileTopicsDto;
 import com.backend.adapter.inbound.mapper.IncidentResponseMapper;
-import com.backend.domain.happening.Incident;
+import com.backend.adapter.inbound.websocket.IncidentTiles;
+import com.backend.domain.location.GeoCell;
 import com.backend.port.inbound.IncidentUseCase;
+import com.backend.port.inbound.commands.CursorPage;
+import com.backend.port.inbound.commands.IncidentPreview;
 import com.backend.port.inbound.commands.RadiusCommand;
 import com.backend.services.exceptions.InvalidCoordinatesException;
 import io.swagger.v3.oas.annotations.Operation;
@@ -20,6 +24,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -33,22 +38,27 @@ public class FeedController {
 
   private final IncidentUseCase incidentUseCase;
   private final IncidentResponseMapper incidentResponseMapper;
+  private final IncidentTiles incidentTiles;
 
   public FeedController(
       IncidentUseCase incidentUseCase,
-      IncidentResponseMapper incidentResponseMapper) {
+      IncidentResponseMapper incidentResponseMapper,
+      IncidentTiles incidentTiles) {
 
     this.incidentUseCase = incidentUseCase;
     this.incidentResponseMapper = incidentResponseMapper;
+    this.incidentTiles = incidentTiles;
   }
 
   @GetMapping
     @Operation(
             summary = "Get feed content",
-            description = "Retrieves incidents and events for the user's personalized feed"
+            description = "Retrieves incidents and events for the user's personalized feed, nearest first. "
+                + "When more results exist, the X-Next-Cursor response header carries the cursor of the next page."
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved feed content"),
+            @ApiResponse(responseCode = "400", description = "Invalid coordinates, radius or cursor"),
             @ApiResponse(responseCode = "401", description = "Authentication required"),
             @ApiResponse(responseCode = "403", description = "Insufficient permissions")
     })
@@ -56,15 +66,41 @@ public class FeedController {
       @ModelAttribute @Valid RadiusRequestDto radiusRequestDto) {
       try {
         RadiusCommand radiusCommand = toRadiusCommand(radiusRequestDto);
-        List<Incident> incidents = incidentUseCase.findAllInGivenRange(radiusCommand);
-        List<IncidentPreviewResponseDto> responseDtos = incidents.stream()
-            .map(incidentResponseMapper::toIncidentPreviewResponseDto)
-            .toList();
+        CursorPage<IncidentPreview> page = incidentUseCase.findPreviewsInGivenRange(radiusCommand);
+        List<IncidentPreviewResponseDto> responseDtos =
+            incidentResponseMapper.toPreviewResponseDtos(page.items());
 
-        return ResponseEntity.ok(responseDtos);
+        return CursorHeaders.ok(responseDtos, page.nextCursor());
       } catch (InvalidCoordinatesException e) {
         log.warn("Invalid coordinates provided: {}", e.getMessage());
         return ResponseEntity.badRequest().build();
       }
     }
+
+  @GetMapping("/tiles")
+  @Operation(
+      summary = "Get live update topics",
+      description = "Lists the WebSocket topics of the tiles covering the given viewport. Clients subscribe to "
+          + "these instead of the global incident topics and resubscribe when the viewport moves to other tiles."
+  )
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Successfully computed the topics"),
+      @ApiResponse(responseCode = "400", description = "Invalid viewport or viewport covering too many tiles")
+  })
+  public ResponseEntity<IncidentTileTopicsDto> findTileTopics(
+      @RequestParam double minLat,
+      @RequestParam double minLon,
+      @RequestParam double maxLat,
+      @RequestParam double maxLon) {
+    try {
+      List<GeoCell> tiles = incidentTiles.tilesCovering(minLat, minLon, maxLat, maxLon);
+
+      return ResponseEntity.ok(new IncidentTileTopicsDto(
+          tiles.stream().map(IncidentTiles::newIncidentTopic).toList(),
+          tiles.stream().map(IncidentTiles::addressTopic).toList()));
+    } catch (IllegalArgumentException e) {
+      log.warn("Invalid viewport for tile topics: {}", e.getMessage());
+      return ResponseEntity.badRequest().build();
+    }
+  }
 }
@@ -2,6 +2,7 @@ package com.backend.adapter.inbound.rest;
 
 import static com.backend.adapter.inbound.mapper.LocationMapper.toRadiusCommand;
 
+import com.backend.adapter.inbound.dto.request.IncidentFromUploadsRequestDto;
 import com.backend.adapter.inbound.dto.request.IncidentRequestDto;
 import com.backend.adapter.inbound.dto.request.RadiusRequestDto;
 import com.backend.adapter.inbound.dto.response.incident.IncidentDetailedResponseDto;
@@ -12,6 +13,8 @@ import com.backend.services.UserService;
 import com.backend.domain.happening.Incident;
 import com.backend.port.inbound.IncidentUseCase;
 import com.backend.port.inbound.commands.CreateIncidentCommand;
+import com.backend.port.inbound.commands.CursorPage;
+import com.backend.port.inbound.commands.IncidentPreview;
 import com.backend.port.inbound.commands.RadiusCommand;
 import com.backend.services.exceptions.ActorNotFoundException;
 import com.backend.services.exceptions.DuplicateIncidentException;
@@ -104,6 +107,46 @@ public class IncidentController {
     }
   }
 
+  /**
+   * Creates a new incident from media the client already uploaded through an upload session.
+   *
+   * @param incidentRequestDto DTO containing incident data and uploaded media keys
+   * @return detailed DTO of the created incident
+   */
+  @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+  @Operation(
+      summary = "Creates an incident from uploaded media",
+      description = "Creates an incident referencing media uploaded directly to storage via /api/v1/media/uploads. "
+          + "Every key is verified against the stored object before the incident is saved."
+  )
+  @ApiResponses({
+      @ApiResponse(responseCode = "201", description = "IncidentEntity created successfully"),
+      @ApiResponse(responseCode = "400", description = "Invalid input data or media keys"),
+      @ApiResponse(responseCode = "409", description = "IncidentEntity already exists")
+  })
+  @SecurityRequirement(name = "bearerAuth")
+  public ResponseEntity<IncidentDetailedResponseDto> createFromUploads(
+      @RequestBody @Valid final IncidentFromUploadsRequestDto incidentRequestDto) {
+
+    try {
+      final CreateIncidentCommand createIncidentCommand = incidentResponseMapper.toCreateIncidentCommand(incidentRequestDto);
+
+      final Incident incident = incidentUseCase.create(createIncidentCommand);
+      final IncidentDetailedResponseDto incidentDetailedResponseDto = incidentResponseMapper.toIncidentDetailedResponseDto(incident);
+
+      incidentBroadcast.broadcastCreatedIncident(incidentDetailedResponseDto);
+
+      return new ResponseEntity<>(incidentDetailedResponseDto, HttpStatus.CREATED);
+
+    } catch (DuplicateIncidentException e) {
+      log.warn("Attempted to create duplicate incident: {}", e.getMessage());
+      return ResponseEntity.status(HttpStatus.CONFLICT).build();
+    } catch (com.backend.services.exceptions.ValidationException e) {
+      log.warn("Invalid incident data: {}", e.getMessage());
+      return ResponseEntity.badRequest().build();
+    }
+  }
+
   /**
    * Updates an existing incident.
    *
@@ -224,9 +267,8 @@ public class IncidentController {
 
     try {
       final List<Incident> incidents = incidentUseCase.findByUserId(id);
-      final List<IncidentPreviewResponseDto> incidentPreviewResponseDtos = incidents.stream()
-          .map(incidentResponseMapper::toIncidentPreviewResponseDto)
-          .toList();
+      final List<IncidentPreviewResponseDto> incidentPreviewResponseDtos =
+          incidentResponseMapper.toIncidentPreviewResponseDtos(incidents);
 
       return ResponseEntity.ok(incidentPreviewResponseDtos);
     } catch (ActorNotFoundException e) {
@@ -244,23 +286,23 @@ public class IncidentController {
   @GetMapping("/nearby")
   @Operation(
       summary = "Incidents nearby user",
-      description = "Finds all incidents in user's setup range"
+      description = "Finds incidents in user's setup range, nearest first. When more results exist, "
+          + "the X-Next-Cursor response header carries the cursor of the next page."
   )
   @ApiResponses({
       @ApiResponse(responseCode = "200", description = "Nearby incidents retrieved successfully"),
-      @ApiResponse(responseCode = "400", description = "Invalid coordinates or radius")
+      @ApiResponse(responseCode = "400", description = "Invalid coordinates, radius or cursor")
   })
   public ResponseEntity<List<IncidentPreviewResponseDto>> findNearbyIncidents(
       @ModelAttribute @Valid final RadiusRequestDto radiusRequestDto) {
 
     try {
       final RadiusCommand radiusCommand = toRadiusCommand(radiusRequestDto);
-      final List<Incident> incidents = incidentUseCase.findAllInGivenRange(radiusCommand);
-      final List<IncidentPreviewResponseDto> responseDtos = incidents.stream()
-          .map(incidentResponseMapper::toIncidentPreviewResponseDto)
-          .toList();
+      final CursorPage<IncidentPreview> page = incidentUseCase.findPreviewsInGivenRange(radiusCommand);
+      final List<IncidentPreviewResponseDto> responseDtos =
+          incidentResponseMapper.toPreviewResponseDtos(page.items());
 
-      return ResponseEntity.ok(responseDtos);
+      return CursorHeaders.ok(responseDtos, page.nextCursor());
     } catch (InvalidCoordinatesException e) {
       log.warn("Invalid coordinates provided: {}", e.getMessage());
       return ResponseEntity.badRequest().build();
@@ -289,6 +331,7 @@ public class IncidentController {
       if (userService.isAuthenticated()) {
         final Incident incident = incidentUseCase.confirm(id, userService.getUser().get().uid());
         final IncidentDetailedResponseDto incidentDetailedResponseDto = incidentResponseMapper.toIncidentDetailedResponseDto(incident);
+        incidentBroadcast.broadcastUpdatedIncident(incidentDetailedResponseDto);
 
         return ResponseEntity.ok(incidentDetailedResponseDto);
       }
@@ -325,6 +368,7 @@ public class IncidentController {
       if (userService.isAuthenticated()) {
         final Incident incident = incidentUseCase.deny(id, userService.getUser().get().uid());
         final IncidentDetailedResponseDto incidentDetailedResponseDto = incidentResponseMapper.toIncidentDetailedResponseDto(incident);
+        incidentBroadcast.broadcastUpdatedIncident(incidentDetailedResponseDto);
 
         return ResponseEntity.ok(incidentDetailedResponseDto);
       }
@@ -3,13 +3,17 @@ package com.backend.adapter.inbound.rest;
 import static com.backend.adapter.inbound.mapper.ReactionSummaryMapper.mapToReactionResponseDto;
 
 import com.backend.adapter.inbound.dto.response.ReactionResponseDto;
+import com.backend.adapter.inbound.mapper.ReactionSummaryMapper;
 import com.backend.port.inbound.ReactionUseCase;
 import com.backend.port.inbound.commands.ReactToIncidentCommand;
+import com.backend.port.inbound.commands.ReactionSummariesCommand;
 import com.backend.port.inbound.commands.ReactionSummary;
+import com.backend.services.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -18,6 +22,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 /**
@@ -25,19 +30,20 @@ import org.springframework.web.bind.annotation.RestController;
  * the business logic to the reaction use case and mapping results into API DTOs.
  */
 @RestController
-@RequestMapping("/api/v1/incidents/{incidentId}/reactions")
+@RequestMapping("/api/v1/incidents")
 @RequiredArgsConstructor
 @Tag(name = "Reactions", description = "ReactionEntity manipulation endpoints")
 public class IncidentReactionController {
 
   private final ReactionUseCase reactionUseCase;
+  private final UserService userService;
 
   /**
    * Registers a like reaction for the given incident and returns the updated reaction summary.
    *
    * @param incidentId identifier of the incident to like
    */
-  @PostMapping("/like")
+  @PostMapping("/{incidentId}/reactions/like")
   @Operation(
       summary = "Registers a like reaction",
       description = "Adds a like for the specified incident and returns refreshed engagement counters."
@@ -47,7 +53,7 @@ public class IncidentReactionController {
       @ApiResponse(responseCode = "404", description = "Incident not found")
   })
   public ResponseEntity<ReactionResponseDto> likeIncident(@PathVariable long incidentId) {
-    ReactionSummary summary = reactionUseCase.addLike(new ReactToIncidentCommand(incidentId, null));
+    ReactionSummary summary = reactionUseCase.addLike(new ReactToIncidentCommand(incidentId, currentUserId()));
 
     return ResponseEntity.status(HttpStatus.CREATED).body(mapToReactionResponseDto(summary));
   }
@@ -57,7 +63,7 @@ public class IncidentReactionController {
    *
    * @param incidentId identifier of the incident to dislike
    */
-  @PostMapping("/dislike")
+  @PostMapping("/{incidentId}/reactions/dislike")
   @Operation(
       summary = "Registers a dislike reaction",
       description = "Adds a dislike for the specified incident and returns refreshed engagement counters."
@@ -67,7 +73,7 @@ public class IncidentReactionController {
       @ApiResponse(responseCode = "404", description = "Incident not found")
   })
   public ResponseEntity<ReactionResponseDto> dislikeIncident(@PathVariable long incidentId) {
-    ReactionSummary summary = reactionUseCase.addDislike(new ReactToIncidentCommand(incidentId, null));
+    ReactionSummary summary = reactionUseCase.addDislike(new ReactToIncidentCommand(incidentId, currentUserId()));
 
     return ResponseEntity.status(HttpStatus.CREATED).body(mapToReactionResponseDto(summary));
   }
@@ -77,7 +83,7 @@ public class IncidentReactionController {
    *
    * @param incidentId identifier of the incident whose like is being removed
    */
-  @DeleteMapping("/like")
+  @DeleteMapping("/{incidentId}/reactions/like")
   @Operation(
       summary = "Removes a like reaction",
       description = "Deletes the like for the specified incident and returns refreshed engagement counters."
@@ -87,7 +93,7 @@ public class IncidentReactionController {
       @ApiResponse(responseCode = "404", description = "Incident not found")
   })
   public ResponseEntity<ReactionResponseDto> removeLike(@PathVariable long incidentId) {
-    ReactionSummary summary = reactionUseCase.removeLike(new ReactToIncidentCommand(incidentId, null));
+    ReactionSummary summary = reactionUseCase.removeLike(new ReactToIncidentCommand(incidentId, currentUserId()));
 
     return ResponseEntity.ok(mapToReactionResponseDto(summary));
   }
@@ -97,7 +103,7 @@ public class IncidentReactionController {
    *
    * @param incidentId identifier of the incident whose dislike is being removed
    */
-  @DeleteMapping("/dislike")
+  @DeleteMapping("/{incidentId}/reactions/dislike")
   @Operation(
       summary = "Removes a dislike reaction",
       description = "Deletes the dislike for the specified incident and returns refreshed engagement counters."
@@ -107,7 +113,7 @@ public class IncidentReactionController {
       @ApiResponse(responseCode = "404", description = "Incident not found")
   })
   public ResponseEntity<ReactionResponseDto> removeDislike(@PathVariable long incidentId) {
-    ReactionSummary summary = reactionUseCase.removeDislike(new ReactToIncidentCommand(incidentId, null));
+    ReactionSummary summary = reactionUseCase.removeDislike(new ReactToIncidentCommand(incidentId, currentUserId()));
 
     return ResponseEntity.ok(mapToReactionResponseDto(summary));
   }
@@ -117,7 +123,7 @@ public class IncidentReactionController {
    *
    * @param incidentId identifier of the incident for which to fetch reactions
    */
-  @GetMapping
+  @GetMapping("/{incidentId}/reactions")
   @Operation(
       summary = "Fetches reaction summary",
       description = "Returns the current like/dislike totals and net score for the specified incident."
@@ -127,8 +133,44 @@ public class IncidentReactionController {
       @ApiResponse(responseCode = "404", description = "Incident not found")
   })
   public ResponseEntity<ReactionResponseDto> getSummary(@PathVariable long incidentId) {
-    ReactionSummary summary = reactionUseCase.getSummary(new ReactToIncidentCommand(incidentId, null));
+    ReactionSummary summary = reactionUseCase.getSummary(new ReactToIncidentCommand(incidentId, currentUserId()));
 
     return ResponseEntity.ok(mapToReactionResponseDto(summary));
   }
+
+  /**
+   * Retrieves the reaction summaries of several incidents at once, e.g. for all cards of a feed
+   * page, including the caller's own reaction to each.
+   *
+   * @param ids identifiers of the incidents, at most {@value ReactionSummariesCommand#MAX_INCIDENTS}
+   */
+  @GetMapping("/reactions")
+  @Operation(
+      summary = "Fetches reaction summaries of several incidents",
+      description = "Returns the like/dislike totals, net score and the caller's reaction for each requested "
+          + "incident, in request order. Unknown incidents are reported without reactions."
+  )
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = "Reaction summaries retrieved successfully"),
+      @ApiResponse(responseCode = "400", description = "Invalid or too many incident identifiers")
+  })
+  public ResponseEntity<List<ReactionResponseDto>> getSummaries(@RequestParam List<Long> ids) {
+    try {
+      List<ReactionSummary> summaries =
+          reactionUseCase.getSummaries(new ReactionSummariesCommand(ids, currentUserId()));
+
+      return ResponseEntity.ok(summaries.stream()
+          .map(ReactionSummaryMapper::mapToReactionResponseDto)
+          .toList());
+    } catch (IllegalArgumentException e) {
+      return ResponseEntity.badRequest().build();
+    }
+  }
+
+  /**
+   * @return Firebase UID of the authenticated caller, or {@code null} for anonymous requests
+   */
+  private String currentUserId() {
+    return userService.getUser().map(user -> user.uid().value()).orElse(null);
+  }
 }
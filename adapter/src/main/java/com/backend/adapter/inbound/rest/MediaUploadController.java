@@ -0,0 +1,81 @@
+package com.backend.adapter.inbound.rest;
+
+import com.backend.adapter.inbound.dto.media.UploadSessionRequestDto;
+import com.backend.adapter.inbound.dto.media.UploadSlotDto;
+import com.backend.domain.actor.User;
+import com.backend.port.inbound.MediaUploadUseCase;
+import com.backend.port.inbound.commands.UploadSlot;
+import com.backend.services.UserService;
+import com.backend.services.exceptions.ValidationException;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import java.util.List;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller handing out presigned upload forms, so clients can upload media straight to
+ * object storage and reference the resulting keys when creating an incident.
+ */
+@RestController
+@Slf4j
+@RequestMapping("/api/v1/media")
+@Tag(name = "Media", description = "Direct media upload endpoints")
+public class MediaUploadController {
+
+  private final MediaUploadUseCase mediaUploadUseCase;
+  private final UserService userService;
+
+  public MediaUploadController(MediaUploadUseCase mediaUploadUseCase, UserService userService) {
+    this.mediaUploadUseCase = mediaUploadUseCase;
+    this.userService = userService;
+  }
+
+  /**
+   * Reserves one object key per requested file and returns a presigned upload form for each.
+   *
+   * @param uploadSessionRequestDto names of the files to upload
+   * @return upload targets, in request order
+   */
+  @PostMapping("/uploads")
+  @Operation(
+      summary = "Creates an upload session",
+      description = "Returns one presigned upload form per file. POST each file with its form fields to the upload "
+          + "URL, then create the incident with the returned keys."
+  )
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = "Upload URLs created successfully"),
+      @ApiResponse(responseCode = "400", description = "No files, too many files or unsupported file types requested"),
+      @ApiResponse(responseCode = "401", description = "User is not authenticated")
+  })
+  @SecurityRequirement(name = "bearerAuth")
+  public ResponseEntity<List<UploadSlotDto>> createUploadSession(
+      @RequestBody @Valid final UploadSessionRequestDto uploadSessionRequestDto) {
+
+    final Optional<User> user = userService.getUser();
+    if (user.isEmpty()) return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+
+    try {
+      final List<UploadSlot> slots =
+          mediaUploadUseCase.createUploadSession(user.get().uid(), uploadSessionRequestDto.filenames());
+
+      return ResponseEntity.ok(slots.stream()
+          .map(slot -> new UploadSlotDto(slot.key(), slot.uploadUrl(), slot.formFields(), slot.expiresAt()))
+          .toList());
+
+    } catch (ValidationException e) {
+      log.warn("Invalid upload session request: {}", e.getMessage());
+      return ResponseEntity.badRequest().build();
+    }
+  }
+}
@@ -1,33 +1,161 @@
 package com.backend.adapter.inbound.websocket;
 
+import com.backend.adapter.inbound.dto.response.incident.IncidentAddressUpdateDto;
 import com.backend.adapter.inbound.dto.response.incident.IncidentDetailedResponseDto;
-import lombok.RequiredArgsConstructor;
+import com.backend.adapter.inbound.dto.response.incident.IncidentEventDto;
+import com.backend.services.events.LocationAddressResolvedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
 
 /**
  * Publishes incident events to connected WebSocket subscribers using the configured topics.
  * <p>
  * Intended to be invoked from REST/controllers after an incident is created or updated so
  * real-time clients can refresh immediately.
+ * <p>
+ * Events go to the topic of the tile containing the incident (see {@link IncidentTiles}), so
+ * clients subscribed to the tiles of their viewport only receive local activity. Tile topics carry
+ * the compact {@link IncidentEventDto}, serialized to JSON once per event and shared by every
+ * subscribed session. Updates are coalesced: within one {@code incident.broadcast.coalesce-ms}
+ * window only the latest update of an incident is sent, so a burst of confirms produces a single
+ * event.
+ * <p>
+ * The global {@code /topic/incident/new} and {@code /topic/incident/address} topics are kept, with
+ * their original payloads, for clients that have not moved to tiles yet and can be turned off with
+ * {@code incident.broadcast.global-topics=false}. They carry no updates.
+ * <p>
+ * The {@code version} of an event is the number of engagements counted on the incident, read from
+ * its persisted counters rather than from a clock, so it orders the events of an incident whichever
+ * instance sent them: a client keeps the event with the highest version and treats an equal version
+ * as a duplicate. With the engagement buffer enabled the counters of an instance can briefly lag
+ * behind the database, so a newer event may then carry a lower version until the next one.
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class IncidentBroadcast {
 
   private final SimpMessagingTemplate template;
+  private final IncidentTiles incidentTiles;
+  private final ObjectMapper objectMapper;
+  private final boolean globalTopics;
+  private final Map<Long, IncidentEventDto> pendingUpdates = new ConcurrentHashMap<>();
+
+  public IncidentBroadcast(
+      SimpMessagingTemplate template,
+      IncidentTiles incidentTiles,
+      ObjectMapper objectMapper,
+      @Value("${incident.broadcast.global-topics:true}") boolean globalTopics) {
+
+    this.template = template;
+    this.incidentTiles = incidentTiles;
+    this.objectMapper = objectMapper;
+    this.globalTopics = globalTopics;
+  }
 
   /**
-   * Broadcasts a newly created incident to all clients subscribed to {@code /topic/incident/new}.
+   * Broadcasts a newly created incident to the clients subscribed to the tile of its location.
    *
-   * @param incidentDetailedResponseDto incident payload sent to the subscribers
+   * @param incidentDetailedResponseDto the created incident
    */
   public void broadcastCreatedIncident(IncidentDetailedResponseDto incidentDetailedResponseDto) {
-    template.convertAndSend("/topic/incident/new", incidentDetailedResponseDto);
+    send(toEvent(incidentDetailedResponseDto, IncidentEventDto.Type.CREATED));
+    if (globalTopics) {
+      template.convertAndSend("/topic/incident/new", incidentDetailedResponseDto);
+    }
+
+    log.debug("Incident {} is broadcasted", incidentDetailedResponseDto.id());
+  }
 
-    log.info("Incident {} is broadcasted", incidentDetailedResponseDto);
+  /**
+   * Queues an update of the incident for the next {@link #flushUpdates()}, replacing a queued
+   * update of the same incident unless that one has a higher version.
+   *
+   * @param incidentDetailedResponseDto the incident after the change
+   */
+  public void broadcastUpdatedIncident(IncidentDetailedResponseDto incidentDetailedResponseDto) {
+    pendingUpdates.merge(
+        incidentDetailedResponseDto.id(),
+        toEvent(incidentDetailedResponseDto, IncidentEventDto.Type.UPDATED),
+        (queued, latest) -> latest.version() >= queued.version() ? latest : queued);
+  }
+
+  /**
+   * Sends the latest queued update of every incident.
+   */
+  @Scheduled(fixedDelayString = "${incident.broadcast.coalesce-ms:1000}")
+  public void flushUpdates() {
+    pendingUpdates.forEach((incidentId, event) -> {
+      if (pendingUpdates.remove(incidentId, event)) {
+        send(event);
+      }
+    });
   }
 
+  /**
+   * Sends the resolved address of incidents that were broadcast with a pending address to the
+   * tile of their location.
+   *
+   * @param event the resolved address and the incidents reported at that location
+   */
+  @EventListener
+  public void broadcastResolvedAddress(LocationAddressResolvedEvent event) {
+    if (event.incidentIds().isEmpty()) return;
+
+    final IncidentAddressUpdateDto update = new IncidentAddressUpdateDto(event.incidentIds(), event.address());
+    template.convertAndSend(
+        IncidentTiles.addressTopic(incidentTiles.tileOf(event.latitude(), event.longitude())), update);
+    if (globalTopics) {
+      template.convertAndSend("/topic/incident/address", update);
+    }
+
+    log.debug("Resolved address of incidents {} is broadcasted", event.incidentIds());
+  }
+
+  private static IncidentEventDto toEvent(IncidentDetailedResponseDto incident, IncidentEventDto.Type type) {
+    return new IncidentEventDto(
+        incident.id(),
+        type,
+        incident.lat(),
+        incident.lon(),
+        incident.title(),
+        incident.address(),
+        incident.confirm(),
+        incident.deny(),
+        incident.consecutiveDenies(),
+        incident.expiresAt(),
+        (long) incident.confirm() + incident.deny());
+  }
+
+  /**
+   * Serializes the event once and sends the bytes to the tile topic, so the broker hands the same
+   * payload to every subscribed session.
+   */
+  private void send(IncidentEventDto event) {
+    final byte[] payload;
+    try {
+      payload = objectMapper.writeValueAsBytes(event);
+    } catch (JsonProcessingException e) {
+      log.warn("Failed to serialize event of incident {}", event.id(), e);
+      return;
+    }
+
+    final SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.create();
+    headers.setContentType(MimeTypeUtils.APPLICATION_JSON);
+    headers.setLeaveMutable(true);
+
+    template.send(
+        IncidentTiles.newIncidentTopic(incidentTiles.tileOf(event.lat(), event.lon())),
+        MessageBuilder.createMessage(payload, headers.getMessageHeaders()));
+  }
 }
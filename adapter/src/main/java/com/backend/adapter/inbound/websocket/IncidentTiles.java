@@ -0,0 +1,84 @@
+package com.backend.adapter.inbound.websocket;
+
+import com.backend.domain.location.GeoCell;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Maps coordinates to tile-scoped WebSocket topics. The map is cut into {@link GeoCell}s of
+ * {@code incident.broadcast.tile-degrees} (0.05 degrees, about 5.5 km north-south, by default) and
+ * every tile has its own topics, so a client only receives the incidents of the tiles covering its
+ * viewport.
+ */
+@Component
+public class IncidentTiles {
+
+  public static final String NEW_INCIDENT_TOPIC_PREFIX = "/topic/incident/tile/";
+  public static final String ADDRESS_TOPIC_PREFIX = "/topic/incident/address/tile/";
+
+  /** Upper bound of the tiles one viewport may cover, about 55 x 55 km with the default size. */
+  public static final int MAX_TILES = 100;
+
+  private final double tileDegrees;
+
+  public IncidentTiles(@Value("${incident.broadcast.tile-degrees:0.05}") double tileDegrees) {
+    this.tileDegrees = tileDegrees;
+  }
+
+  /**
+   * @return the tile containing the given coordinates
+   */
+  public GeoCell tileOf(double latitude, double longitude) {
+    return GeoCell.of(latitude, longitude, tileDegrees);
+  }
+
+  /**
+   * @return the topic carrying new incidents reported in the given tile
+   */
+  public static String newIncidentTopic(GeoCell tile) {
+    return NEW_INCIDENT_TOPIC_PREFIX + tile.key();
+  }
+
+  /**
+   * @return the topic carrying resolved addresses of incidents in the given tile
+   */
+  public static String addressTopic(GeoCell tile) {
+    return ADDRESS_TOPIC_PREFIX + tile.key();
+  }
+
+  /**
+   * Lists the tiles covering a bounding box, row by row from the south-west corner.
+   *
+   * @throws IllegalArgumentException if a bound is not finite, the box is not a valid
+   *                                  latitude/longitude range, crosses the antimeridian or covers
+   *                                  more than {@value #MAX_TILES} tiles
+   */
+  public List<GeoCell> tilesCovering(double minLat, double minLon, double maxLat, double maxLon) {
+    // NaN fails every comparison below, so it has to be rejected on its own.
+    if (!Double.isFinite(minLat) || !Double.isFinite(minLon)
+        || !Double.isFinite(maxLat) || !Double.isFinite(maxLon)) {
+      throw new IllegalArgumentException("Bounding box must be finite");
+    }
+    if (minLat < -90 || maxLat > 90 || minLon < -180 || maxLon > 180 || minLat > maxLat || minLon > maxLon) {
+      throw new IllegalArgumentException("Invalid bounding box");
+    }
+
+    final GeoCell southWest = tileOf(minLat, minLon);
+    final GeoCell northEast = tileOf(maxLat, maxLon);
+    final long rows = northEast.latIndex() - southWest.latIndex() + 1;
+    final long columns = northEast.lonIndex() - southWest.lonIndex() + 1;
+    if (rows * columns > MAX_TILES) {
+      throw new IllegalArgumentException("Bounding box covers more than " + MAX_TILES + " tiles");
+    }
+
+    final List<GeoCell> tiles = new ArrayList<>((int) (rows * columns));
+    for (long lat = southWest.latIndex(); lat <= northEast.latIndex(); lat++) {
+      for (long lon = southWest.lonIndex(); lon <= northEast.lonIndex(); lon++) {
+        tiles.add(new GeoCell(lat, lon, tileDegrees));
+      }
+    }
+    return tiles;
+  }
+}
@@ -1,6 +1,6 @@
 package com.backend.adapter.outbound.auth;
 
-import com.backend.services.UserService;
+import com.backend.services.UserSyncService;
 import com.backend.domain.actor.User;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -22,14 +22,15 @@ import org.springframework.web.filter.OncePerRequestFilter;
 /**
  * Filter that intercepts HTTP requests and validates Firebase authentication tokens.
  * If a valid token is present, it populates the Spring Security context with user information
- * and syncs the user to the database.
+ * and syncs the user to the database through {@link UserSyncService}, which only writes when
+ * the user is new or their profile claims changed.
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class AuthenticationFilter extends OncePerRequestFilter {
 
-  private final UserService userService;
+  private final UserSyncService userSyncService;
   private final TokenValidationService tokenValidationService;
 
   @Override
@@ -49,7 +50,7 @@ public class AuthenticationFilter extends OncePerRequestFilter {
 
           if (userInfo.isPresent()) {
             try {
-              userService.create(userInfo.get());
+              userSyncService.sync(userInfo.get());
             } catch (Exception e) {
               log.error("Failed to sync user to database: {}", userInfo.get().uid(), e);
             }
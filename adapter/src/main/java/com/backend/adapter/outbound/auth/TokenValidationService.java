@@ -2,17 +2,68 @@ package com.backend.adapter.outbound.auth;
 
 import com.backend.domain.actor.UserId;
 import com.backend.domain.actor.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.google.firebase.auth.FirebaseAuth;
 import com.google.firebase.auth.FirebaseAuthException;
 import com.google.firebase.auth.FirebaseToken;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
 import java.util.Optional;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+/**
+ * Validates Firebase ID tokens and keeps the decoded user of every valid token until the token
+ * expires, so a client sending the same token on each request pays for signature verification once.
+ *
+ * <p>Entries are keyed by the SHA-256 of the token rather than the token itself, so bearer
+ * credentials are not kept in memory. Hits and misses are published as {@code cache.gets}
+ * metrics tagged {@code cache=auth.verified-tokens}.</p>
+ */
 @Slf4j
 @Service
 class TokenValidationService {
 
+  /**
+   * Verifies a raw ID token, see {@link FirebaseAuth#verifyIdToken(String)}.
+   */
+  @FunctionalInterface
+  interface IdTokenVerifier {
+    FirebaseToken verify(String idToken) throws FirebaseAuthException;
+  }
+
+  private final IdTokenVerifier idTokenVerifier;
+  private final Cache<String, VerifiedToken> verifiedTokens;
+
+  @Autowired
+  TokenValidationService(
+      MeterRegistry meterRegistry,
+      @Value("${auth.token-cache.max-size:10000}") long maxCachedTokens) {
+
+    this(idToken -> FirebaseAuth.getInstance().verifyIdToken(idToken), meterRegistry, maxCachedTokens);
+  }
+
+  TokenValidationService(IdTokenVerifier idTokenVerifier, MeterRegistry meterRegistry, long maxCachedTokens) {
+    this.idTokenVerifier = idTokenVerifier;
+    this.verifiedTokens = Caffeine.newBuilder()
+        .maximumSize(maxCachedTokens)
+        .expireAfter(new UntilTokenExpiry())
+        .recordStats()
+        .build();
+
+    CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "auth.verified-tokens");
+  }
+
   /**
    * Validates a Firebase ID token and extracts user information.
    *
@@ -20,8 +71,15 @@ class TokenValidationService {
    * @return Optional containing FirebaseUserInfo if token is valid, empty otherwise
    */
   Optional<User> validateToken(String idToken) {
+    final String hash = sha256(idToken);
+
+    final VerifiedToken cached = verifiedTokens.getIfPresent(hash);
+    if (cached != null && cached.expiresAt().isAfter(Instant.now())) {
+      return Optional.of(cached.user());
+    }
+
     try {
-      FirebaseToken decodedToken = FirebaseAuth.getInstance().verifyIdToken(idToken);
+      FirebaseToken decodedToken = idTokenVerifier.verify(idToken);
 
       User userInfo = User.builder()
           .uid(new UserId(decodedToken.getUid()))
@@ -31,6 +89,9 @@ class TokenValidationService {
           .emailVerified(decodedToken.isEmailVerified())
           .build();
 
+      expiry(decodedToken).ifPresent(expiresAt ->
+          verifiedTokens.put(hash, new VerifiedToken(userInfo, expiresAt)));
+
       log.debug("Successfully validated token for user: {}", userInfo.uid());
       return Optional.of(userInfo);
 
@@ -56,4 +117,45 @@ class TokenValidationService {
     }
     return Optional.empty();
   }
+
+  /**
+   * @return the {@code exp} claim of the token, if present
+   */
+  private static Optional<Instant> expiry(FirebaseToken token) {
+    return token.getClaims().get("exp") instanceof Number exp
+        ? Optional.of(Instant.ofEpochSecond(exp.longValue()))
+        : Optional.empty();
+  }
+
+  private static String sha256(String token) {
+    try {
+      final byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+      return HexFormat.of().formatHex(digest);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 not available", e);
+    }
+  }
+
+  private record VerifiedToken(User user, Instant expiresAt) { }
+
+  /**
+   * Expires each entry at the {@code exp} of its token; reads and updates do not extend it.
+   */
+  private static final class UntilTokenExpiry implements Expiry<String, VerifiedToken> {
+
+    @Override
+    public long expireAfterCreate(String hash, VerifiedToken token, long currentTime) {
+      return Math.max(0, Duration.between(Instant.now(), token.expiresAt()).toNanos());
+    }
+
+    @Override
+    public long expireAfterUpdate(String hash, VerifiedToken token, long currentTime, long currentDuration) {
+      return expireAfterCreate(hash, token, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(String hash, VerifiedToken token, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+  }
 }
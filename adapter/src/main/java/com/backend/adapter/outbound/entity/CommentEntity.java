@@ -6,7 +6,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import java.time.LocalDateTime;
+import java.time.Instant;
 
 @Entity(name = "comments")
 @Data
@@ -19,19 +19,35 @@ public class CommentEntity {
     @SequenceGenerator(name = "comment_id_seq", sequenceName = "comment_id_seq", allocationSize = 1)
     private long id;
 
-    @ManyToOne
-    @JoinColumn(name = "incident_id", foreignKey = @ForeignKey(name = "FK_COMMENT_INCIDENT"))
+    /**
+     * Incident and author are written and read as plain columns, so loading a page of comments
+     * joins nothing; {@link #incident} and {@link #user} map the same columns read-only.
+     */
+    @Column(name = "incident_id")
+    private Long incidentId;
+
+    @Column(name = "user_uid", length = 128)
+    private String userUid;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(
+            name = "incident_id",
+            insertable = false,
+            updatable = false,
+            foreignKey = @ForeignKey(name = "FK_COMMENT_INCIDENT"))
     private IncidentEntity incident;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(
             name = "user_uid",
             referencedColumnName = "firebase_uid",
+            insertable = false,
+            updatable = false,
             foreignKey = @ForeignKey(name = "FK_COMMENT_USER"))
     private UserEntity user;
 
     @Column(columnDefinition = "TEXT")
     private String value;
 
-    private LocalDateTime createdAt;
+    private Instant createdAt;
 }
@@ -33,10 +33,19 @@ public class IncidentEntity {
   @Builder.Default
   private Set<MediaEntity> media = new HashSet<>();
 
+  /**
+   * Firebase UID of the author. Written directly, so saving an incident needs no user lookup;
+   * {@link #user} maps the same column read-only for queries that join the author.
+   */
+  @Column(name = "user_uid", length = 128)
+  private String userUid;
+
   @ManyToOne
   @JoinColumn(
       name = "user_uid",
       referencedColumnName = "firebase_uid",
+      insertable = false,
+      updatable = false,
       foreignKey = @ForeignKey(name = "FK_INCIDENT_USER"))
   private UserEntity user;
 
@@ -47,6 +56,13 @@ public class IncidentEntity {
   private int consecutiveDenies;
   private Instant expiresAt;
 
+  /**
+   * Number of comments, maintained by the comment repository alongside every comment insert and
+   * delete. Read-only here, so saving an incident never overwrites it.
+   */
+  @Column(name = "comment_count", insertable = false, updatable = false)
+  private int commentCount;
+
   public void addMedia(MediaEntity m) {
     media.add(m);
     m.setIncidentEntity(this);
@@ -25,4 +25,7 @@ public class LocationEntity {
 
     @Column(name = "address_text")
     private String addressText;
+
+    @Column(name = "cell_key", length = 64)
+    private String cellKey;
 }
\ No newline at end of file
@@ -38,6 +38,9 @@ public class MediaEntity {
   @Column(name = "size", nullable = false)
   private long size;
 
+  @Column(name = "preview_key")
+  private String previewKey;
+
   @Column(name = "created_at", nullable = false, updatable = false)
   private OffsetDateTime createdAt;
 
@@ -45,12 +48,13 @@ public class MediaEntity {
   @JoinColumn(name = "incident_id", foreignKey = @ForeignKey(name = "FK_MEDIA_INCIDENT"))
   private IncidentEntity incidentEntity;
 
-  public MediaEntity(long id, String key, String contentType, long size, OffsetDateTime createdAt,
-      IncidentEntity incidentEntity) {
+  public MediaEntity(long id, String key, String contentType, long size, String previewKey,
+      OffsetDateTime createdAt, IncidentEntity incidentEntity) {
     this.id = id;
     this.key = key;
     this.contentType = contentType;
     this.size = size;
+    this.previewKey = previewKey;
     this.createdAt = createdAt;
     this.incidentEntity = incidentEntity;
   }
@@ -95,6 +99,14 @@ public class MediaEntity {
     this.size = size;
   }
 
+  public String getPreviewKey() {
+    return previewKey;
+  }
+
+  public void setPreviewKey(String previewKey) {
+    this.previewKey = previewKey;
+  }
+
   public OffsetDateTime getCreatedAt() {
     return createdAt;
   }
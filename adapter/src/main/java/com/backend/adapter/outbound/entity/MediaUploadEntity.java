@@ -0,0 +1,34 @@
+package com.backend.adapter.outbound.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * JPA entity recording an object key handed out for a direct upload and whether it has been
+ * attached to an incident yet.
+ */
+@Entity(name = "media_uploads")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MediaUploadEntity {
+  @Id
+  @Column(name = "key", nullable = false)
+  private String key;
+
+  @Column(name = "user_uid", nullable = false)
+  private String userUid;
+
+  @Column(name = "expires_at", nullable = false)
+  private Instant expiresAt;
+
+  @Column(name = "attached_at")
+  private Instant attachedAt;
+}
@@ -3,35 +3,88 @@ package com.backend.adapter.outbound.factory;
 import com.backend.adapter.inbound.dto.media.MediaDto;
 import com.backend.domain.media.Media;
 import com.backend.port.outbound.storage.ObjectStoragePort;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import java.time.Duration;
+import java.util.Collection;
 import java.util.Set;
 import java.util.stream.Collectors;
-import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+/**
+ * Turns stored media keys into presigned download URLs.
+ *
+ * <p>Detail views get the original objects ({@link #build}); list views get the downscaled previews
+ * where one has been generated ({@link #buildPreviews}, {@link #buildFromKeys}).</p>
+ *
+ * <p>Presigned URLs are cached per key and reused until shortly before they expire, so repeated
+ * feed renders of the same incidents do not re-sign every object. Cache hits and misses are
+ * published as {@code cache.gets} metrics tagged {@code cache=media.presigned-urls}.</p>
+ */
 @Component
-@RequiredArgsConstructor
 public class MediaPreviewFactory {
 
+  private static final Duration MEDIA_TTL = Duration.ofMinutes(10);
+
+  /**
+   * A cached URL is handed out only while it still has at least this much validity left,
+   * so clients never receive a link that expires while the page is loading.
+   */
+  private static final Duration EXPIRY_MARGIN = Duration.ofMinutes(2);
+  private static final long MAX_CACHED_URLS = 50_000;
+
   private final ObjectStoragePort objectStoragePort;
+  private final Cache<String, String> presignedUrls;
 
-  private static final Duration MEDIA_TTL = Duration.ofMinutes(10);
+  public MediaPreviewFactory(ObjectStoragePort objectStoragePort, MeterRegistry meterRegistry) {
+    this.objectStoragePort = objectStoragePort;
+    this.presignedUrls = Caffeine.newBuilder()
+        .maximumSize(MAX_CACHED_URLS)
+        .expireAfterWrite(MEDIA_TTL.minus(EXPIRY_MARGIN))
+        .recordStats()
+        .build();
+
+    CaffeineCacheMetrics.monitor(meterRegistry, presignedUrls, "media.presigned-urls");
+  }
 
   public Set<MediaDto> build(Set<Media> media) {
     if (media == null || media.isEmpty()) return Set.of();
 
     return media.stream()
+      .map(Media::filename)
+      .map(this::toMediaDto)
+      .collect(Collectors.toSet());
+  }
+
+  public Set<MediaDto> buildPreviews(Set<Media> media) {
+    if (media == null || media.isEmpty()) return Set.of();
+
+    return media.stream()
+      .map(Media::previewOrOriginal)
+      .map(this::toMediaDto)
+      .collect(Collectors.toSet());
+  }
+
+  public Set<MediaDto> buildFromKeys(Collection<String> keys) {
+    if (keys == null || keys.isEmpty()) return Set.of();
+
+    return keys.stream()
       .map(this::toMediaDto)
       .collect(Collectors.toSet());
   }
 
-  private MediaDto toMediaDto(Media media) {
+  private MediaDto toMediaDto(String key) {
+    return new MediaDto(presignedUrls.get(key, this::presign));
+  }
+
+  private String presign(String key) {
     try {
-      String url = objectStoragePort.presignGet(media.filename(), MEDIA_TTL);
-      return new MediaDto(url);
+      return objectStoragePort.presignGet(key, MEDIA_TTL);
 
     } catch (Exception e) {
-      throw new IllegalStateException("Failed to presign " + media.filename(), e);
+      throw new IllegalStateException("Failed to presign " + key, e);
     }
   }
 
@@ -0,0 +1,43 @@
+package com.backend.adapter.outbound.mapper;
+
+import com.backend.adapter.outbound.entity.CommentEntity;
+import com.backend.domain.actor.Comment;
+import com.backend.domain.actor.CommentId;
+import com.backend.domain.actor.UserId;
+import com.backend.domain.happening.HappeningId;
+
+/**
+ * Utility that converts between domain {@link Comment}s and the JPA {@link CommentEntity}.
+ */
+public final class CommentMapper {
+
+  private CommentMapper() {
+    // utility class
+  }
+
+  /**
+   * Maps the domain model into a persistence entity. A comment without an id maps to a new entity.
+   */
+  public static CommentEntity mapToEntity(final Comment comment) {
+    return CommentEntity.builder()
+        .id(comment.id() == null ? 0 : comment.id().value())
+        .incidentId(comment.happeningId().id())
+        .userUid(comment.userId().value())
+        .value(comment.text())
+        .createdAt(comment.createdAt())
+        .build();
+  }
+
+  /**
+   * Maps a persistence entity back into the domain model consumed by services and ports.
+   */
+  public static Comment mapToDomain(final CommentEntity entity) {
+    return Comment.builder()
+        .id(new CommentId(entity.getId()))
+        .happeningId(new HappeningId(entity.getIncidentId()))
+        .userId(new UserId(entity.getUserUid()))
+        .text(entity.getValue())
+        .createdAt(entity.getCreatedAt())
+        .build();
+  }
+}
@@ -2,9 +2,7 @@ package com.backend.adapter.outbound.mapper;
 
 import com.backend.adapter.outbound.entity.IncidentEntity;
 import com.backend.adapter.outbound.entity.LocationEntity;
-import com.backend.adapter.outbound.entity.UserEntity;
 import com.backend.adapter.outbound.repo.LocationPersistenceRepository;
-import com.backend.adapter.outbound.repo.UserPersistenceRepository;
 import com.backend.domain.actor.UserId;
 import com.backend.domain.happening.Incident;
 import com.backend.domain.happening.IncidentId;
@@ -19,15 +17,13 @@ import org.springframework.stereotype.Component;
 public final class IncidentMapper {
 
   private final LocationPersistenceRepository locationPersistenceRepository;
-  private final UserPersistenceRepository userPersistenceRepository;
 
 
   public IncidentEntity mapToEntity(Incident domain) {
     final LocationEntity locationEntity = findLocationByIncidentDomain(domain);
-    final UserEntity userEntity = findUserByIncidentDomain(domain);
 
     IncidentEntity.IncidentEntityBuilder incidentEntityBuilder = IncidentEntity.builder()
-        .user(userEntity)
+        .userUid(domain.getUserId().value())
         .title(domain.getTitle())
         .description(domain.getDescription())
         .location(locationEntity)
@@ -35,6 +31,7 @@ public final class IncidentMapper {
         .range(1000)
         .confirms(domain.getEngagementStats().confirms())
         .denies(domain.getEngagementStats().denies())
+        .consecutiveDenies(domain.getEngagementStats().consecutiveDenies())
         .expiresAt(domain.getExpiresAt());
 
     if (domain.getId() != null) {
@@ -53,7 +50,7 @@ public final class IncidentMapper {
   public Incident mapToDomain(IncidentEntity entity) {
     return Incident.builder()
       .id(new IncidentId(entity.getId()))
-      .userId(new UserId(entity.getUser().getFirebaseUid()))
+      .userId(new UserId(entity.getUserUid()))
       .locationId(new LocationId(entity.getLocation().getId()))
       .media(entity.getMedia().stream()
           .map(MediaEntityMapper::toDomain)
@@ -63,7 +60,7 @@ public final class IncidentMapper {
       .engagementStats(new EngagementStats(
           entity.getConfirms(),
           entity.getDenies(),
-          entity.getDenies()))
+          entity.getConsecutiveDenies()))
       .expiresAt(entity.getExpiresAt())
       .build();
   }
@@ -73,10 +70,4 @@ public final class IncidentMapper {
       .findById(incident.getLocationId().value())
       .orElseThrow(() -> new IllegalStateException("Location not found"));
   }
-
-  private UserEntity findUserByIncidentDomain(Incident incident) {
-    return userPersistenceRepository
-        .findByFirebaseUid(incident.getUserId().value())
-        .orElseThrow(() -> new IllegalStateException("User not found"));
-  }
 }
@@ -9,7 +9,8 @@ public final class MediaEntityMapper {
     return new Media(
         entity.getSize(),
         entity.getKey(),
-        entity.getContentType());
+        entity.getContentType(),
+        entity.getPreviewKey());
   }
 
   public static MediaEntity toEntity(Media media) {
@@ -17,6 +18,7 @@ public final class MediaEntityMapper {
         .size(media.size())
         .key(media.filename())
         .contentType(media.contentType())
+        .previewKey(media.previewFilename())
         .build();
   }
 
@@ -1,9 +1,46 @@
 package com.backend.adapter.outbound.repo;
 
 import com.backend.adapter.outbound.entity.CommentEntity;
+import java.time.Instant;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface CommentPersistenceRepository extends JpaRepository<CommentEntity, Long> {
+
+  /**
+   * First page of an incident's comments, newest first, read from
+   * {@code idx_comments_incident_created}.
+   */
+  @Query(value = """
+    SELECT c.*
+    FROM comments c
+    WHERE c.incident_id = :incidentId
+    ORDER BY c.created_at DESC, c.id DESC
+    LIMIT :limit
+    """, nativeQuery = true)
+  List<CommentEntity> findFirstPage(
+      @Param("incidentId") long incidentId,
+      @Param("limit") int limit);
+
+  /**
+   * Page of an incident's comments after the given keyset position. The row comparison lets the
+   * index scan start right at the position instead of skipping the previous pages.
+   */
+  @Query(value = """
+    SELECT c.*
+    FROM comments c
+    WHERE c.incident_id = :incidentId
+      AND (c.created_at, c.id) < (:afterCreatedAt, :afterId)
+    ORDER BY c.created_at DESC, c.id DESC
+    LIMIT :limit
+    """, nativeQuery = true)
+  List<CommentEntity> findPageAfter(
+      @Param("incidentId") long incidentId,
+      @Param("afterCreatedAt") Instant afterCreatedAt,
+      @Param("afterId") long afterId,
+      @Param("limit") int limit);
 }
@@ -0,0 +1,11 @@
+package com.backend.adapter.outbound.repo;
+
+/**
+ * Projection of an incident id together with its distance from a search centre.
+ */
+public interface IncidentDistanceView {
+
+  Long getId();
+
+  Double getDistanceMeters();
+}
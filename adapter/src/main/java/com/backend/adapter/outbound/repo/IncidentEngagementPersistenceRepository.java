@@ -1,12 +1,41 @@
 package com.backend.adapter.outbound.repo;
 
 import com.backend.adapter.outbound.entity.IncidentEngagementEntity;
-import com.backend.domain.actor.UserId;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface IncidentEngagementPersistenceRepository extends
     JpaRepository<IncidentEngagementEntity, Long> {
 
   Optional<IncidentEngagementEntity> findByIncidentIdAndUserId(long incidentId, String userId);
+
+  /**
+   * Records a user's confirm or deny without touching the incident row, and returns the incident
+   * counters as currently persisted. A user who already engaged changes nothing (no row is returned).
+   */
+  @Transactional
+  @Query(value = """
+    WITH engagement AS (
+        INSERT INTO incident_engagements (id, incident_id, user_id, engagement_type, engaged_at)
+        SELECT nextval('incident_engagement_id_seq'), i.id, :userId, :type, LOCALTIMESTAMP
+        FROM incidents i
+        WHERE i.id = :incidentId
+        ON CONFLICT (incident_id, user_id) DO NOTHING
+        RETURNING incident_id
+    )
+    SELECT i.id AS "id",
+           COALESCE(i.confirms, 0) AS "confirms",
+           COALESCE(i.denies, 0) AS "denies",
+           COALESCE(i.consecutive_denies, 0) AS "consecutiveDenies",
+           i.expires_at AS "expiresAt"
+    FROM incidents i
+    JOIN engagement e ON e.incident_id = i.id
+    """, nativeQuery = true)
+  Optional<IncidentEngagementView> recordEngagement(
+      @Param("incidentId") long incidentId,
+      @Param("userId") String userId,
+      @Param("type") String type);
 }
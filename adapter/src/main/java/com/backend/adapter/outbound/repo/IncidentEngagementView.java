@@ -0,0 +1,19 @@
+package com.backend.adapter.outbound.repo;
+
+import java.sql.Timestamp;
+
+/**
+ * Engagement counters and expiry of an incident right after an engagement was applied to it.
+ */
+public interface IncidentEngagementView {
+
+  Long getId();
+
+  Integer getConfirms();
+
+  Integer getDenies();
+
+  Integer getConsecutiveDenies();
+
+  Timestamp getExpiresAt();
+}
@@ -2,36 +2,162 @@ package com.backend.adapter.outbound.repo;
 
 import com.backend.adapter.outbound.entity.IncidentEntity;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface IncidentPersistenceRepository extends JpaRepository<IncidentEntity, Long> {
 
+  /**
+   * One page of incidents within the radius, nearest first. Ordering by the {@code <->} operator
+   * lets the GiST index on {@code geog} return rows nearest first, so a page only reads the rows
+   * up to the cursor plus the page itself instead of measuring and sorting every row in range.
+   * Distances are spherical, matching what {@code <->} orders by.
+   */
   @Query(value = """
-    SELECT i.*, 
-           ST_Distance(
-               ST_SetSRID(ST_MakePoint(l.lng, l.lat), 4326)::geography,
-               ST_SetSRID(ST_MakePoint(:lon, :lat), 4326)::geography
-           ) as distance_meters
+    SELECT i.id AS "id",
+           i.geog <-> ST_SetSRID(ST_MakePoint(:lon, :lat), 4326)::geography AS "distanceMeters"
     FROM incidents i
-    JOIN locations l ON l.id = i.location_id
-    WHERE ST_DWithin(
-           ST_SetSRID(ST_MakePoint(l.lng, l.lat), 4326)::geography,
-           ST_SetSRID(ST_MakePoint(:lon, :lat), 4326)::geography,
-           :radiusMeters
-    )
-    ORDER BY distance_meters ASC
-    LIMIT 100
+    WHERE ST_DWithin(i.geog, ST_SetSRID(ST_MakePoint(:lon, :lat), 4326)::geography, :radiusMeters, false)
+      AND (i.geog <-> ST_SetSRID(ST_MakePoint(:lon, :lat), 4326)::geography, i.id) > (:afterDistance, :afterId)
+    ORDER BY i.geog <-> ST_SetSRID(ST_MakePoint(:lon, :lat), 4326)::geography, i.id
+    LIMIT :limit
     """, nativeQuery = true)
-  List<IncidentEntity> findAllInGivenRange(
+  List<IncidentDistanceView> findPageInGivenRange(
       @Param("lat") double lat,
       @Param("lon") double lon,
-      @Param("radiusMeters") double radiusMeters);
+      @Param("radiusMeters") double radiusMeters,
+      @Param("afterDistance") double afterDistance,
+      @Param("afterId") long afterId,
+      @Param("limit") int limit);
 
+  /**
+   * Same page as {@link #findPageInGivenRange}, with the preview fields and media keys of every
+   * incident. Media are joined after the page is cut, so only the page's media are read.
+   */
+  @Query(value = """
+    SELECT p.id AS "id",
+           p.title AS "title",
+           p.lat AS "lat",
+           p.lon AS "lon",
+           p.time_posted AS "createdAt",
+           p.distance_meters AS "distanceMeters",
+           string_agg(COALESCE(m.preview_key, m.key), ',' ORDER BY m.id) AS "mediaKeys"
+    FROM (
+        SELECT i.id,
+               i.title,
+               i.time_posted,
+               ST_Y(i.geog::geometry) AS lat,
+               ST_X(i.geog::geometry) AS lon,
+               i.geog <-> ST_SetSRID(ST_MakePoint(:lon, :lat), 4326)::geography AS distance_meters
+        FROM incidents i
+        WHERE ST_DWithin(i.geog, ST_SetSRID(ST_MakePoint(:lon, :lat), 4326)::geography, :radiusMeters, false)
+          AND (i.geog <-> ST_SetSRID(ST_MakePoint(:lon, :lat), 4326)::geography, i.id) > (:afterDistance, :afterId)
+        ORDER BY i.geog <-> ST_SetSRID(ST_MakePoint(:lon, :lat), 4326)::geography, i.id
+        LIMIT :limit
+    ) p
+    LEFT JOIN medias m ON m.incident_id = p.id
+    GROUP BY p.id, p.title, p.lat, p.lon, p.time_posted, p.distance_meters
+    ORDER BY p.distance_meters, p.id
+    """, nativeQuery = true)
+  List<IncidentPreviewView> findPreviewPageInGivenRange(
+      @Param("lat") double lat,
+      @Param("lon") double lon,
+      @Param("radiusMeters") double radiusMeters,
+      @Param("afterDistance") double afterDistance,
+      @Param("afterId") long afterId,
+      @Param("limit") int limit);
+
+  @EntityGraph(attributePaths = {"location", "user", "media"})
   List<IncidentEntity> findByUserFirebaseUid(String firebaseUid);
+
+  @EntityGraph(attributePaths = {"location", "user", "media"})
+  List<IncidentEntity> findAllByIdIn(Collection<Long> ids);
+
+  @EntityGraph(attributePaths = {"location", "user", "media"})
+  List<IncidentEntity> findAllByExpiresAtAfter(Instant now);
+
+  @Query("SELECT i.id FROM incidents i WHERE i.location.id = :locationId")
+  List<Long> findIdsByLocationId(@Param("locationId") long locationId);
+
+  @Query(value = "SELECT i.comment_count FROM incidents i WHERE i.id = :incidentId", nativeQuery = true)
+  Optional<Integer> findCommentCount(@Param("incidentId") long incidentId);
+
+  /**
+   * Adds {@code delta} to the denormalized comment count of the incident.
+   *
+   * @return number of updated rows, 0 if the incident does not exist
+   */
+  @Modifying
+  @Query(value = """
+    UPDATE incidents
+    SET comment_count = GREATEST(comment_count + :delta, 0)
+    WHERE id = :incidentId
+    """, nativeQuery = true)
+  int adjustCommentCount(@Param("incidentId") long incidentId, @Param("delta") int delta);
+
+  /**
+   * Records a user's confirm or deny and applies it to the incident counters in one statement.
+   * The engagement insert and the counter update run together, so concurrent engagements never
+   * lose a count, and a user who already engaged changes nothing (no row is returned).
+   *
+   * <p>The counter and expiry rules mirror {@code Incident#confirmIncident} and
+   * {@code Incident#denyIncident}: every 5th confirm extends the expiry by 2 minutes (at most 30
+   * minutes from now, confirms on expired incidents are not counted), and the 3rd consecutive
+   * deny pulls the expiry 5 minutes earlier (never into the past).</p>
+   */
+  @Transactional
+  @Query(value = """
+    WITH engagement AS (
+        INSERT INTO incident_engagements (id, incident_id, user_id, engagement_type, engaged_at)
+        SELECT nextval('incident_engagement_id_seq'), i.id, :userId, :type, LOCALTIMESTAMP
+        FROM incidents i
+        WHERE i.id = :incidentId
+        ON CONFLICT (incident_id, user_id) DO NOTHING
+        RETURNING incident_id
+    )
+    UPDATE incidents i
+    SET confirms = CASE
+            WHEN :type = 'CONFIRM' AND i.expires_at >= LOCALTIMESTAMP THEN COALESCE(i.confirms, 0) + 1
+            ELSE COALESCE(i.confirms, 0)
+        END,
+        denies = CASE
+            WHEN :type = 'DENY' THEN COALESCE(i.denies, 0) + 1
+            ELSE COALESCE(i.denies, 0)
+        END,
+        consecutive_denies = CASE
+            WHEN :type = 'DENY' THEN COALESCE(i.consecutive_denies, 0) + 1
+            WHEN i.expires_at >= LOCALTIMESTAMP THEN 0
+            ELSE COALESCE(i.consecutive_denies, 0)
+        END,
+        expires_at = CASE
+            WHEN :type = 'CONFIRM' AND i.expires_at >= LOCALTIMESTAMP
+                 AND (COALESCE(i.confirms, 0) + 1) % 5 = 0
+                THEN LEAST(i.expires_at + INTERVAL '2 minutes', LOCALTIMESTAMP + INTERVAL '30 minutes')
+            WHEN :type = 'DENY' AND COALESCE(i.consecutive_denies, 0) + 1 = 3
+                THEN GREATEST(i.expires_at - INTERVAL '5 minutes', LOCALTIMESTAMP)
+            ELSE i.expires_at
+        END
+    FROM engagement e
+    WHERE i.id = e.incident_id
+    RETURNING i.id AS "id",
+              i.confirms AS "confirms",
+              i.denies AS "denies",
+              i.consecutive_denies AS "consecutiveDenies",
+              i.expires_at AS "expiresAt"
+    """, nativeQuery = true)
+  Optional<IncidentEngagementView> applyEngagement(
+      @Param("incidentId") long incidentId,
+      @Param("userId") String userId,
+      @Param("type") String type);
 }
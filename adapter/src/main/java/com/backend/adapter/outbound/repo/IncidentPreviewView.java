@@ -0,0 +1,24 @@
+package com.backend.adapter.outbound.repo;
+
+import java.sql.Timestamp;
+
+/**
+ * One row per incident with just the fields a feed card needs. Media keys are aggregated into
+ * a single comma-separated column; keys never contain commas (see the upload key sanitizing).
+ */
+public interface IncidentPreviewView {
+
+  Long getId();
+
+  String getTitle();
+
+  Double getLat();
+
+  Double getLon();
+
+  Timestamp getCreatedAt();
+
+  Double getDistanceMeters();
+
+  String getMediaKeys();
+}
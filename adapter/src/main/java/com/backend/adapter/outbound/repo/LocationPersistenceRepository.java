@@ -1,10 +1,59 @@
 package com.backend.adapter.outbound.repo;
 
 import com.backend.adapter.outbound.entity.LocationEntity;
+import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface LocationPersistenceRepository extends JpaRepository<LocationEntity, Long> {
 
-  Optional<LocationEntity> findByLatAndLng(double lat, double lng);
+  Optional<LocationEntity> findByCellKey(String cellKey);
+
+  Optional<LocationEntity> findFirstByLatBetweenAndLngBetweenAndAddressTextNot(
+      double minLat, double maxLat, double minLng, double maxLng, String excludedAddress);
+
+  List<LocationEntity> findByAddressText(String addressText, Pageable pageable);
+
+  @Modifying
+  @Query("UPDATE locations l SET l.addressText = :address WHERE l.id = :id")
+  int updateAddressText(@Param("id") long id, @Param("address") String address);
+
+  @Query(value = """
+    SELECT l.*
+    FROM locations l
+    WHERE ST_DWithin(
+           l.geog,
+           ST_SetSRID(ST_MakePoint(:lon, :lat), 4326)::geography,
+           :radiusMeters
+    )
+    ORDER BY l.geog <-> ST_SetSRID(ST_MakePoint(:lon, :lat), 4326)::geography, l.id
+    LIMIT 1
+    """, nativeQuery = true)
+  Optional<LocationEntity> findNearest(
+      @Param("lat") double lat,
+      @Param("lon") double lon,
+      @Param("radiusMeters") double radiusMeters);
+
+  /**
+   * Inserts a location claiming the given cell, unless another row already claims it. Once this
+   * returns, the owner of the cell is committed either way and can be read with
+   * {@link #findByCellKey}.
+   *
+   * @return number of inserted rows, 0 if the cell was already claimed
+   */
+  @Modifying
+  @Query(value = """
+    INSERT INTO locations (id, lat, lng, address_text, cell_key)
+    VALUES (nextval('location_id_seq'), :lat, :lon, :address, :cellKey)
+    ON CONFLICT (cell_key) DO NOTHING
+    """, nativeQuery = true)
+  int insertIfCellUnclaimed(
+      @Param("lat") double lat,
+      @Param("lon") double lon,
+      @Param("address") String address,
+      @Param("cellKey") String cellKey);
 }
@@ -4,6 +4,9 @@ import com.backend.adapter.outbound.entity.MediaEntity;
 import java.util.Collection;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -25,4 +28,15 @@ public interface MediaPersistenceRepository extends JpaRepository<MediaEntity, L
    * @param keys the collection of media keys
    */
   void deleteByKeyIn(Collection<String> keys);
+
+  /**
+   * Sets the preview key of the media entity with the given key.
+   *
+   * @param key        the media key
+   * @param previewKey the object key of the generated preview
+   * @return number of updated rows
+   */
+  @Modifying
+  @Query("UPDATE medias m SET m.previewKey = :previewKey WHERE m.key = :key")
+  int updatePreviewKey(@Param("key") String key, @Param("previewKey") String previewKey);
 }
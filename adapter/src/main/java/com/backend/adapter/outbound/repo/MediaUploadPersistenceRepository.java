@@ -0,0 +1,59 @@
+package com.backend.adapter.outbound.repo;
+
+import com.backend.adapter.outbound.entity.MediaUploadEntity;
+import jakarta.persistence.LockModeType;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * Spring Data repository for {@link MediaUploadEntity}.
+ */
+public interface MediaUploadPersistenceRepository extends JpaRepository<MediaUploadEntity, String> {
+
+  /**
+   * Loads the given uploads and locks them until the end of the transaction.
+   *
+   * @param keys the object keys
+   * @return the uploads found
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  List<MediaUploadEntity> findAllByKeyIn(Collection<String> keys);
+
+  /**
+   * Clears the attachment of the given uploads.
+   *
+   * @param keys the object keys
+   * @return number of updated rows
+   */
+  @Modifying
+  @Query("UPDATE media_uploads u SET u.attachedAt = NULL WHERE u.key IN :keys")
+  int detachAllByKeyIn(@Param("keys") Collection<String> keys);
+
+  /**
+   * Finds keys that expired without being attached, oldest first.
+   *
+   * @param now      the current instant
+   * @param pageable limit of the result
+   * @return expired, unattached keys
+   */
+  @Query("""
+      SELECT u.key FROM media_uploads u
+      WHERE u.attachedAt IS NULL AND u.expiresAt < :now
+      ORDER BY u.expiresAt
+      """)
+  List<String> findExpiredKeys(@Param("now") Instant now, Pageable pageable);
+
+  /**
+   * Deletes the given uploads.
+   *
+   * @param keys the object keys
+   */
+  void deleteByKeyIn(Collection<String> keys);
+}
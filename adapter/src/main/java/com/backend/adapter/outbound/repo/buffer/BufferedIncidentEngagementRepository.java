@@ -0,0 +1,322 @@
+package com.backend.adapter.outbound.repo.buffer;
+
+import com.backend.adapter.outbound.repo.persistence.IncidentEngagementPersistence;
+import com.backend.domain.actor.UserId;
+import com.backend.domain.reactions.EngagementStats;
+import com.backend.domain.reactions.IncidentEngagementType;
+import com.backend.port.outbound.repo.AppliedEngagement;
+import com.backend.port.outbound.repo.IncidentEngagementRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionOperations;
+
+/**
+ * {@link IncidentEngagementRepository} decorator that takes incident counter updates off the
+ * request path, so a burst of confirms and denies on one incident does not queue up on its row lock.
+ *
+ * <p>Every engagement is still recorded synchronously as its own {@code incident_engagements} row,
+ * an insert that never locks the incident, so "already confirmed/denied" stays exact. The counter
+ * changes are kept per incident in memory, in the order they happened, and written to
+ * {@code incidents} by {@link #flush()}, {@value #FLUSH_BATCH_SIZE} incidents per transaction. The
+ * flush replays them one by one with the rules of the unbuffered statement, so the written counters
+ * and expiry are the same as if every engagement had been applied on its own.</p>
+ *
+ * <p>Callers still read their own writes: the returned counters and expiry are the persisted ones
+ * with the buffered engagements replayed on top. While a flush is writing, engagements drained by
+ * it are neither persisted nor buffered, so a result returned in that window can miss them; every
+ * flush therefore publishes an {@link IncidentEngagementsFlushedEvent} with the written state.
+ * Engagements not yet flushed when the instance dies are lost from the counters; the engagement
+ * rows are not.</p>
+ */
+@Slf4j
+@Primary
+@Repository
+@ConditionalOnProperty(name = "incident.engagement.buffer.enabled", havingValue = "true")
+public class BufferedIncidentEngagementRepository implements IncidentEngagementRepository {
+
+  private static final int FLUSH_BATCH_SIZE = 500;
+
+  private static final int CONFIRMS_THRESHOLD = 5;
+  private static final Duration CONFIRM_EXTENSION = Duration.ofMinutes(2);
+  private static final Duration MAX_LIFESPAN = Duration.ofMinutes(30);
+  private static final int DENIES_THRESHOLD = 3;
+  private static final Duration DENY_REDUCTION = Duration.ofMinutes(5);
+
+  private final IncidentEngagementPersistence delegate;
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionOperations transactionOperations;
+  private final ApplicationEventPublisher eventPublisher;
+  private final Map<Long, PendingEngagements> pending = new ConcurrentHashMap<>();
+  private final Counter flushedIncidents;
+
+  public BufferedIncidentEngagementRepository(
+      IncidentEngagementPersistence delegate,
+      JdbcTemplate jdbcTemplate,
+      TransactionOperations transactionOperations,
+      ApplicationEventPublisher eventPublisher,
+      MeterRegistry meterRegistry) {
+
+    this.delegate = delegate;
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionOperations = transactionOperations;
+    this.eventPublisher = eventPublisher;
+    this.flushedIncidents = meterRegistry.counter("incident.engagement.buffer.flushed");
+    meterRegistry.gaugeMapSize("incident.engagement.buffer.pending", List.of(), pending);
+  }
+
+  @Override
+  public Optional<IncidentEngagementType> findUserEngagement(long incidentId, UserId userId) {
+    return delegate.findUserEngagement(incidentId, userId);
+  }
+
+  @Override
+  public void saveEngagement(long incidentId, UserId userId, IncidentEngagementType type) {
+    delegate.saveEngagement(incidentId, userId, type);
+  }
+
+  /**
+   * Records the engagement row and buffers its counter change. A confirm on an incident that has
+   * already expired is recorded but not counted, as in {@code Incident#confirmIncident()}.
+   */
+  @Override
+  public Optional<AppliedEngagement> applyEngagement(long incidentId, UserId userId, IncidentEngagementType type) {
+    return delegate.recordEngagement(incidentId, userId, type).map(persisted -> {
+      final Instant now = Instant.now();
+      final boolean counted = type == IncidentEngagementType.DENY || !persisted.expiresAt().isBefore(now);
+      final List<Engagement> buffered = counted
+          ? record(incidentId, new Engagement(type, now))
+          : pendingEngagements(incidentId);
+      return replay(persisted, buffered);
+    });
+  }
+
+  /**
+   * Writes the buffered engagements to {@code incidents}. A batch that fails is put back into the
+   * buffer and retried on the next flush.
+   */
+  @Scheduled(fixedDelayString = "${incident.engagement.buffer.flush-ms:1000}")
+  public void flush() {
+    final Map<Long, List<Engagement>> drained = new TreeMap<>();
+    pending.forEach((incidentId, engagements) -> {
+      final List<Engagement> batch = engagements.drain();
+      if (batch.isEmpty()) {
+        pending.remove(incidentId, engagements);
+      } else {
+        drained.put(incidentId, batch);
+      }
+    });
+    if (drained.isEmpty()) return;
+
+    final List<Map.Entry<Long, List<Engagement>>> entries = new ArrayList<>(drained.entrySet());
+    for (int from = 0; from < entries.size(); from += FLUSH_BATCH_SIZE) {
+      final List<Map.Entry<Long, List<Engagement>>> batch =
+          entries.subList(from, Math.min(from + FLUSH_BATCH_SIZE, entries.size()));
+      final Map<Long, AppliedEngagement> written;
+      try {
+        written = transactionOperations.execute(status -> writeBatch(batch));
+        flushedIncidents.increment(batch.size());
+      } catch (RuntimeException e) {
+        log.warn("Failed to flush engagement counters of {} incidents, retrying on the next flush", batch.size(), e);
+        batch.forEach(entry -> requeue(entry.getKey(), entry.getValue()));
+        continue;
+      }
+
+      final Map<Long, AppliedEngagement> current = new HashMap<>();
+      written.forEach((incidentId, applied) -> current.put(incidentId, replay(applied, pendingEngagements(incidentId))));
+      eventPublisher.publishEvent(new IncidentEngagementsFlushedEvent(current));
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    flush();
+  }
+
+  /**
+   * Applies engagements in order to the counters and expiry of an incident with the rules of
+   * {@code IncidentPersistenceRepository#applyEngagement}: a confirm counts only while the incident
+   * has not expired, resets the consecutive denies and, when it is a 5th confirm, extends the expiry
+   * by 2 minutes (at most 30 minutes after it); a deny that makes exactly 3 consecutive denies pulls
+   * the expiry 5 minutes earlier (never before it). Each engagement is evaluated at its own time.
+   */
+  static AppliedEngagement replay(AppliedEngagement persisted, List<Engagement> engagements) {
+    int confirms = persisted.engagementStats().confirms();
+    int denies = persisted.engagementStats().denies();
+    int consecutiveDenies = persisted.engagementStats().consecutiveDenies();
+    Instant expiresAt = persisted.expiresAt();
+
+    for (Engagement engagement : engagements) {
+      if (engagement.type() == IncidentEngagementType.CONFIRM) {
+        if (expiresAt.isBefore(engagement.at())) continue;
+
+        confirms++;
+        consecutiveDenies = 0;
+        if (confirms % CONFIRMS_THRESHOLD == 0) {
+          final Instant extended = expiresAt.plus(CONFIRM_EXTENSION);
+          final Instant max = engagement.at().plus(MAX_LIFESPAN);
+          expiresAt = extended.isAfter(max) ? max : extended;
+        }
+      } else {
+        denies++;
+        consecutiveDenies++;
+        if (consecutiveDenies == DENIES_THRESHOLD) {
+          final Instant reduced = expiresAt.minus(DENY_REDUCTION);
+          expiresAt = reduced.isBefore(engagement.at()) ? engagement.at() : reduced;
+        }
+      }
+    }
+
+    return new AppliedEngagement(new EngagementStats(confirms, denies, consecutiveDenies), expiresAt);
+  }
+
+  private List<Engagement> record(long incidentId, Engagement engagement) {
+    while (true) {
+      final List<Engagement> buffered =
+          pending.computeIfAbsent(incidentId, id -> new PendingEngagements()).record(engagement);
+      if (buffered != null) return buffered;
+      Thread.onSpinWait();
+    }
+  }
+
+  private List<Engagement> pendingEngagements(long incidentId) {
+    final PendingEngagements engagements = pending.get(incidentId);
+    return engagements == null ? List.of() : engagements.snapshot();
+  }
+
+  private void requeue(long incidentId, List<Engagement> engagements) {
+    while (!pending.computeIfAbsent(incidentId, id -> new PendingEngagements()).prepend(engagements)) {
+      Thread.onSpinWait();
+    }
+  }
+
+  /**
+   * Locks the rows of a batch, replays the buffered engagements on them and writes the results with
+   * one {@code UPDATE ... FROM (VALUES ...)}. The {@code ORDER BY id FOR UPDATE} locks the rows in
+   * id order, so flushes of different instances cannot deadlock on each other. Incidents deleted in
+   * the meantime are skipped.
+   *
+   * @return the written counters and expiry by incident id
+   */
+  private Map<Long, AppliedEngagement> writeBatch(List<Map.Entry<Long, List<Engagement>>> batch) {
+    final Map<Long, AppliedEngagement> persisted = new HashMap<>();
+    jdbcTemplate.query("""
+        SELECT id,
+               COALESCE(confirms, 0) AS confirms,
+               COALESCE(denies, 0) AS denies,
+               COALESCE(consecutive_denies, 0) AS consecutive_denies,
+               expires_at
+        FROM incidents
+        WHERE id IN (%s)
+        ORDER BY id
+        FOR UPDATE
+        """.formatted(String.join(", ", Collections.nCopies(batch.size(), "?"))),
+        rs -> {
+          persisted.put(rs.getLong("id"), new AppliedEngagement(
+              new EngagementStats(rs.getInt("confirms"), rs.getInt("denies"), rs.getInt("consecutive_denies")),
+              rs.getTimestamp("expires_at").toInstant()));
+        },
+        batch.stream().map(Map.Entry::getKey).toArray());
+
+    final Map<Long, AppliedEngagement> written = new TreeMap<>();
+    batch.forEach(entry -> {
+      final AppliedEngagement current = persisted.get(entry.getKey());
+      if (current != null) {
+        written.put(entry.getKey(), replay(current, entry.getValue()));
+      }
+    });
+    if (written.isEmpty()) return written;
+
+    final String rows = String.join(", ", Collections.nCopies(written.size(),
+        "(CAST(? AS BIGINT), CAST(? AS INTEGER), CAST(? AS INTEGER), CAST(? AS INTEGER), CAST(? AS TIMESTAMP))"));
+    final Object[] args = written.entrySet().stream()
+        .flatMap(entry -> Stream.of(
+            entry.getKey(),
+            entry.getValue().engagementStats().confirms(),
+            entry.getValue().engagementStats().denies(),
+            entry.getValue().engagementStats().consecutiveDenies(),
+            Timestamp.from(entry.getValue().expiresAt())))
+        .toArray();
+
+    jdbcTemplate.update("""
+        UPDATE incidents i
+        SET confirms = v.confirms,
+            denies = v.denies,
+            consecutive_denies = v.consecutive_denies,
+            expires_at = v.expires_at
+        FROM (VALUES %s) AS v(id, confirms, denies, consecutive_denies, expires_at)
+        WHERE i.id = v.id
+        """.formatted(rows), args);
+    return written;
+  }
+
+  /**
+   * A buffered engagement.
+   *
+   * @param type whether the incident was confirmed or denied
+   * @param at   when the engagement was made
+   */
+  record Engagement(IncidentEngagementType type, Instant at) { }
+
+  /**
+   * Buffered engagements of one incident in the order they were made. A drained entry with nothing
+   * pending is retired and replaced on the next engagement.
+   */
+  static final class PendingEngagements {
+
+    private final List<Engagement> engagements = new ArrayList<>();
+    private boolean retired;
+
+    /**
+     * @return the pending engagements including this one, or {@code null} if the entry is retired
+     */
+    synchronized List<Engagement> record(Engagement engagement) {
+      if (retired) return null;
+
+      engagements.add(engagement);
+      return List.copyOf(engagements);
+    }
+
+    synchronized List<Engagement> snapshot() {
+      return List.copyOf(engagements);
+    }
+
+    synchronized List<Engagement> drain() {
+      final List<Engagement> drained = List.copyOf(engagements);
+      engagements.clear();
+      retired = drained.isEmpty();
+      return drained;
+    }
+
+    /**
+     * Puts back engagements that were drained before everything currently pending.
+     *
+     * @return {@code false} if the entry is retired
+     */
+    synchronized boolean prepend(List<Engagement> earlier) {
+      if (retired) return false;
+
+      engagements.addAll(0, earlier);
+      return true;
+    }
+  }
+}
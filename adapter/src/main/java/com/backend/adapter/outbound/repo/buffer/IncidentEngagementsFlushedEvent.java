@@ -0,0 +1,13 @@
+package com.backend.adapter.outbound.repo.buffer;
+
+import com.backend.port.outbound.repo.AppliedEngagement;
+import java.util.Map;
+
+/**
+ * Published by {@link BufferedIncidentEngagementRepository} after buffered engagements were
+ * written, so copies of the incidents held in memory can pick up the persisted counters and expiry.
+ *
+ * @param incidents the counters and expiry of every written incident by id, including engagements
+ *                  buffered after the write
+ */
+public record IncidentEngagementsFlushedEvent(Map<Long, AppliedEngagement> incidents) { }
@@ -0,0 +1,86 @@
+package com.backend.adapter.outbound.repo.cache;
+
+import com.backend.adapter.outbound.repo.persistence.UserPersistence;
+import com.backend.domain.actor.User;
+import com.backend.port.outbound.repo.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+
+/**
+ * {@link UserRepository} decorator that keeps users found by Firebase UID in a bounded near-cache.
+ *
+ * <p>Entries live for at most {@code user.cache.ttl-minutes}, which bounds staleness when another
+ * instance changes a user; writes through this instance invalidate the entry and cache the saved
+ * state. Missing users are not cached, so a user created elsewhere is seen on the next lookup.
+ * Hits and misses are published as {@code cache.gets} metrics tagged {@code cache=users.by-uid}.</p>
+ */
+@Primary
+@Repository
+@ConditionalOnProperty(name = "user.cache.enabled", havingValue = "true", matchIfMissing = true)
+public class CachingUserRepository implements UserRepository {
+
+  private final UserPersistence delegate;
+  private final Cache<String, User> usersByUid;
+
+  public CachingUserRepository(
+      UserPersistence delegate,
+      @Value("${user.cache.max-size:50000}") long maxCachedUsers,
+      @Value("${user.cache.ttl-minutes:10}") long ttlMinutes,
+      MeterRegistry meterRegistry) {
+
+    this.delegate = delegate;
+    this.usersByUid = Caffeine.newBuilder()
+        .maximumSize(maxCachedUsers)
+        .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+        .recordStats()
+        .build();
+
+    CaffeineCacheMetrics.monitor(meterRegistry, usersByUid, "users.by-uid");
+  }
+
+  @Override
+  public User save(User user) {
+    usersByUid.invalidate(user.uid().value());
+
+    final User saved = delegate.save(user);
+    usersByUid.put(saved.uid().value(), saved);
+    return saved;
+  }
+
+  @Override
+  public Optional<User> findByFirebaseUid(String firebaseUid) {
+    final User cached = usersByUid.getIfPresent(firebaseUid);
+    if (cached != null) {
+      return Optional.of(cached);
+    }
+
+    final Optional<User> loaded = delegate.findByFirebaseUid(firebaseUid);
+    loaded.ifPresent(user -> usersByUid.put(firebaseUid, user));
+    return loaded;
+  }
+
+  @Override
+  public Optional<User> findByEmail(String email) {
+    return delegate.findByEmail(email);
+  }
+
+  @Override
+  public boolean existsByFirebaseUid(String firebaseUid) {
+    return usersByUid.getIfPresent(firebaseUid) != null || delegate.existsByFirebaseUid(firebaseUid);
+  }
+
+  @Override
+  public int updateLastLogins(Map<String, Instant> lastLoginByFirebaseUid) {
+    return delegate.updateLastLogins(lastLoginByFirebaseUid);
+  }
+}
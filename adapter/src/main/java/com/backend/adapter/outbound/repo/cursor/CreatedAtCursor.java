@@ -0,0 +1,42 @@
+package com.backend.adapter.outbound.repo.cursor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Keyset position in a newest-first listing: the (creation time, id) of the last row returned.
+ * Clients only ever see the opaque, URL-safe encoded form.
+ *
+ * @param createdAt creation time of the last returned row
+ * @param id        identifier of the last returned row
+ */
+public record CreatedAtCursor(Instant createdAt, long id) {
+
+  public String encode() {
+    final String raw = Long.toString(createdAt.getEpochSecond()) + '.' + createdAt.getNano() + ':' + id;
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Decodes a cursor produced by {@link #encode()}.
+   *
+   * @param token encoded cursor, may be {@code null} or blank for the first page
+   * @return the decoded position, or {@code null} for the first page
+   * @throws IllegalArgumentException if the token is malformed
+   */
+  public static CreatedAtCursor decode(String token) {
+    if (token == null || token.isBlank()) return null;
+
+    try {
+      final String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+      final int dot = raw.indexOf('.');
+      final int separator = raw.indexOf(':');
+      return new CreatedAtCursor(
+          Instant.ofEpochSecond(Long.parseLong(raw.substring(0, dot)), Long.parseLong(raw.substring(dot + 1, separator))),
+          Long.parseLong(raw.substring(separator + 1)));
+    } catch (RuntimeException e) {
+      throw new IllegalArgumentException("Malformed cursor", e);
+    }
+  }
+}
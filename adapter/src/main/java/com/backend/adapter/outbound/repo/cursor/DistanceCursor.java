@@ -0,0 +1,78 @@
+package com.backend.adapter.outbound.repo.cursor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * Keyset position in a nearest-first listing: the (distance, id) of the last row returned, plus a
+ * hash of the centre and radius of the search it belongs to. Distances are only comparable within
+ * one search, so a cursor replayed against another centre or radius is rejected. Clients only ever
+ * see the opaque, URL-safe encoded form.
+ *
+ * @param distanceMeters distance of the last returned row from the search centre
+ * @param id             identifier of the last returned row
+ * @param search         hash of the search centre and radius, see {@link #searchOf}
+ */
+public record DistanceCursor(double distanceMeters, long id, int search) {
+
+  /**
+   * Position after the given row of the search around ({@code lat}, {@code lon}).
+   */
+  public static DistanceCursor after(
+      double distanceMeters, long id, double lat, double lon, double radiusMeters) {
+
+    return new DistanceCursor(distanceMeters, id, searchOf(lat, lon, radiusMeters));
+  }
+
+  /**
+   * Position before the first row of the search around ({@code lat}, {@code lon}).
+   */
+  public static DistanceCursor start(double lat, double lon, double radiusMeters) {
+    return after(-1, 0, lat, lon, radiusMeters);
+  }
+
+  public static int searchOf(double lat, double lon, double radiusMeters) {
+    return Objects.hash(lat, lon, radiusMeters);
+  }
+
+  public String encode() {
+    final String raw = Double.toString(distanceMeters) + ':' + id + ':' + Integer.toHexString(search);
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Decodes a cursor produced by {@link #encode()} for the search around ({@code lat}, {@code lon}).
+   *
+   * @param token encoded cursor, may be {@code null} or blank for the first page
+   * @return the decoded position, or {@link #start} of the search
+   * @throws IllegalArgumentException if the token is malformed or belongs to another search
+   */
+  public static DistanceCursor decode(String token, double lat, double lon, double radiusMeters) {
+    if (token == null || token.isBlank()) return start(lat, lon, radiusMeters);
+
+    final DistanceCursor cursor;
+    try {
+      final String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split(":");
+      cursor = new DistanceCursor(
+          Double.parseDouble(parts[0]),
+          Long.parseLong(parts[1]),
+          Integer.parseUnsignedInt(parts[2], 16));
+    } catch (RuntimeException e) {
+      throw new IllegalArgumentException("Malformed cursor", e);
+    }
+
+    if (cursor.search != searchOf(lat, lon, radiusMeters))
+      throw new IllegalArgumentException("Cursor belongs to a different search");
+
+    return cursor;
+  }
+
+  /**
+   * @return {@code true} if a row at the given position comes after this cursor
+   */
+  public boolean isBefore(double otherDistanceMeters, long otherId) {
+    final int byDistance = Double.compare(distanceMeters, otherDistanceMeters);
+    return byDistance < 0 || (byDistance == 0 && id < otherId);
+  }
+}
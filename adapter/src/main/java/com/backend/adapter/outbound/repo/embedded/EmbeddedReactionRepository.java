@@ -0,0 +1,325 @@
+package com.backend.adapter.outbound.repo.embedded;
+
+import com.backend.port.inbound.commands.ReactionSummary;
+import com.backend.port.inbound.commands.ReactionType;
+import com.backend.port.outbound.repo.ReactionRepository;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+
+/**
+ * In-process {@link ReactionRepository} for single-node deployments without Redis, enabled by the
+ * {@code embedded-reactions} profile. It answers with the same {@link ReactionSummary} semantics as
+ * the Redis reaction script.
+ *
+ * <p>Every incident holds two sorted arrays of interned user ids (likers and dislikers). The
+ * arrays are immutable: a reaction replaces them inside {@link ConcurrentHashMap#compute}, which
+ * serializes writers per map bin, while readers never lock.</p>
+ *
+ * <p>The store is written to {@code reaction.embedded.snapshot-path} through a memory-mapped file
+ * every {@code reaction.embedded.snapshot-interval-ms} (when something changed) and on shutdown,
+ * and read back on startup. Reactions made after the last snapshot are lost if the process dies.</p>
+ */
+@Slf4j
+@Repository
+@Profile("embedded-reactions")
+public class EmbeddedReactionRepository implements ReactionRepository {
+
+  private static final int SNAPSHOT_MAGIC = 0x52454143;
+  private static final int SNAPSHOT_VERSION = 1;
+
+  private final Path snapshotPath;
+  private final Map<Long, IncidentReactions> incidents = new ConcurrentHashMap<>();
+  private final UserIds userIds = new UserIds();
+  private volatile boolean dirty;
+
+  public EmbeddedReactionRepository(
+      @Value("${reaction.embedded.snapshot-path:data/reactions.snapshot}") String snapshotPath) {
+
+    this.snapshotPath = Path.of(snapshotPath);
+    restore();
+  }
+
+  @Override
+  public ReactionSummary addLike(long incidentId, String userId) {
+    return apply(incidentId, userId, Action.ADD_LIKE);
+  }
+
+  @Override
+  public ReactionSummary addDislike(long incidentId, String userId) {
+    return apply(incidentId, userId, Action.ADD_DISLIKE);
+  }
+
+  @Override
+  public ReactionSummary removeLike(long incidentId, String userId) {
+    return apply(incidentId, userId, Action.REMOVE_LIKE);
+  }
+
+  @Override
+  public ReactionSummary removeDislike(long incidentId, String userId) {
+    return apply(incidentId, userId, Action.REMOVE_DISLIKE);
+  }
+
+  @Override
+  public ReactionSummary getSummary(long incidentId, String userId) {
+    return summary(incidentId, incidents.get(incidentId), userIds.find(userId));
+  }
+
+  @Override
+  public List<ReactionSummary> getSummaries(Collection<Long> incidentIds, String userId) {
+    final int user = userIds.find(userId);
+    return new LinkedHashSet<>(incidentIds).stream()
+        .map(incidentId -> summary(incidentId, incidents.get(incidentId), user))
+        .toList();
+  }
+
+  /**
+   * Writes the store to disk if it changed since the last snapshot.
+   */
+  @Scheduled(fixedDelayString = "${reaction.embedded.snapshot-interval-ms:30000}")
+  public void snapshot() {
+    if (!dirty) return;
+
+    dirty = false;
+    try {
+      writeSnapshot();
+    } catch (IOException | RuntimeException e) {
+      dirty = true;
+      log.warn("Failed to write reaction snapshot to {}", snapshotPath, e);
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    snapshot();
+  }
+
+  private ReactionSummary apply(long incidentId, String userId, Action action) {
+    final int user = userIds.intern(userId);
+    final IncidentReactions[] updated = new IncidentReactions[1];
+
+    incidents.compute(incidentId, (id, current) -> {
+      final IncidentReactions before = current == null ? IncidentReactions.EMPTY : current;
+      final IncidentReactions after = before.apply(action, user);
+      if (after != before) {
+        dirty = true;
+      }
+      updated[0] = after;
+      return after.isEmpty() ? null : after;
+    });
+
+    return summary(incidentId, updated[0], user);
+  }
+
+  private static ReactionSummary summary(long incidentId, IncidentReactions reactions, int user) {
+    if (reactions == null) {
+      return new ReactionSummary(incidentId, 0, 0, ReactionType.NONE);
+    }
+    return new ReactionSummary(incidentId, reactions.likes().length, reactions.dislikes().length,
+        reactions.reactionOf(user));
+  }
+
+  /**
+   * Layout: magic, version, user count, users (length-prefixed UTF-8), incident count, then per
+   * incident its id and both user id arrays (length-prefixed). The snapshot is written to a
+   * sibling file and moved over the previous one, so a crash never leaves a torn snapshot.
+   */
+  private void writeSnapshot() throws IOException {
+    final List<Map.Entry<Long, IncidentReactions>> entries = List.copyOf(incidents.entrySet());
+    final List<byte[]> users = userIds.encoded();
+
+    long size = 4L * 4;
+    for (byte[] user : users) {
+      size += 4L + user.length;
+    }
+    for (Map.Entry<Long, IncidentReactions> entry : entries) {
+      size += 8L + 4L * (2 + entry.getValue().likes().length + entry.getValue().dislikes().length);
+    }
+
+    final Path tmp = snapshotPath.resolveSibling(snapshotPath.getFileName() + ".tmp");
+    if (snapshotPath.getParent() != null) {
+      Files.createDirectories(snapshotPath.getParent());
+    }
+
+    try (FileChannel channel = FileChannel.open(tmp,
+        StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+        StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+
+      final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+      buffer.putInt(SNAPSHOT_MAGIC).putInt(SNAPSHOT_VERSION).putInt(users.size());
+      for (byte[] user : users) {
+        buffer.putInt(user.length).put(user);
+      }
+      buffer.putInt(entries.size());
+      for (Map.Entry<Long, IncidentReactions> entry : entries) {
+        buffer.putLong(entry.getKey());
+        putInts(buffer, entry.getValue().likes());
+        putInts(buffer, entry.getValue().dislikes());
+      }
+      buffer.force();
+    }
+
+    Files.move(tmp, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    log.debug("Wrote reaction snapshot of {} incidents to {}", entries.size(), snapshotPath);
+  }
+
+  private void restore() {
+    if (!Files.exists(snapshotPath)) return;
+
+    try (FileChannel channel = FileChannel.open(snapshotPath, StandardOpenOption.READ)) {
+      final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      if (buffer.getInt() != SNAPSHOT_MAGIC || buffer.getInt() != SNAPSHOT_VERSION) {
+        throw new IllegalStateException("Unknown snapshot format");
+      }
+
+      final int userCount = buffer.getInt();
+      for (int i = 0; i < userCount; i++) {
+        final byte[] user = new byte[buffer.getInt()];
+        buffer.get(user);
+        userIds.intern(new String(user, StandardCharsets.UTF_8));
+      }
+
+      final int incidentCount = buffer.getInt();
+      for (int i = 0; i < incidentCount; i++) {
+        incidents.put(buffer.getLong(), new IncidentReactions(getInts(buffer), getInts(buffer)));
+      }
+      log.info("Restored reactions of {} incidents from {}", incidents.size(), snapshotPath);
+
+    } catch (IOException | BufferUnderflowException | IllegalStateException | NegativeArraySizeException e) {
+      incidents.clear();
+      userIds.clear();
+      log.warn("Ignoring unreadable reaction snapshot {}", snapshotPath, e);
+    }
+  }
+
+  private static void putInts(MappedByteBuffer buffer, int[] values) {
+    buffer.putInt(values.length);
+    for (int value : values) {
+      buffer.putInt(value);
+    }
+  }
+
+  private static int[] getInts(MappedByteBuffer buffer) {
+    final int[] values = new int[buffer.getInt()];
+    buffer.asIntBuffer().get(values);
+    buffer.position(buffer.position() + 4 * values.length);
+    return values;
+  }
+
+  enum Action { ADD_LIKE, ADD_DISLIKE, REMOVE_LIKE, REMOVE_DISLIKE }
+
+  /**
+   * Likers and dislikers of one incident as sorted arrays of interned user ids. Instances are never
+   * modified; {@link #apply} returns {@code this} when the action changes nothing.
+   */
+  record IncidentReactions(int[] likes, int[] dislikes) {
+
+    static final IncidentReactions EMPTY = new IncidentReactions(new int[0], new int[0]);
+
+    IncidentReactions apply(Action action, int user) {
+      final int[] newLikes = switch (action) {
+        case ADD_LIKE -> with(likes, user);
+        case ADD_DISLIKE, REMOVE_LIKE -> without(likes, user);
+        case REMOVE_DISLIKE -> likes;
+      };
+      final int[] newDislikes = switch (action) {
+        case ADD_DISLIKE -> with(dislikes, user);
+        case ADD_LIKE, REMOVE_DISLIKE -> without(dislikes, user);
+        case REMOVE_LIKE -> dislikes;
+      };
+
+      return newLikes == likes && newDislikes == dislikes ? this : new IncidentReactions(newLikes, newDislikes);
+    }
+
+    ReactionType reactionOf(int user) {
+      if (user < 0) return ReactionType.NONE;
+      if (Arrays.binarySearch(likes, user) >= 0) return ReactionType.LIKE;
+      if (Arrays.binarySearch(dislikes, user) >= 0) return ReactionType.DISLIKE;
+      return ReactionType.NONE;
+    }
+
+    boolean isEmpty() {
+      return likes.length == 0 && dislikes.length == 0;
+    }
+
+    private static int[] with(int[] sorted, int value) {
+      final int index = Arrays.binarySearch(sorted, value);
+      if (index >= 0) return sorted;
+
+      final int insertAt = -index - 1;
+      final int[] result = new int[sorted.length + 1];
+      System.arraycopy(sorted, 0, result, 0, insertAt);
+      result[insertAt] = value;
+      System.arraycopy(sorted, insertAt, result, insertAt + 1, sorted.length - insertAt);
+      return result;
+    }
+
+    private static int[] without(int[] sorted, int value) {
+      final int index = Arrays.binarySearch(sorted, value);
+      if (index < 0) return sorted;
+
+      final int[] result = new int[sorted.length - 1];
+      System.arraycopy(sorted, 0, result, 0, index);
+      System.arraycopy(sorted, index + 1, result, index, sorted.length - index - 1);
+      return result;
+    }
+  }
+
+  /**
+   * Interns Firebase UIDs to dense ints, so each reaction costs four bytes per set.
+   */
+  static final class UserIds {
+
+    private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    private final List<String> uids = new ArrayList<>();
+
+    int intern(String uid) {
+      final Integer id = ids.get(uid);
+      return id != null ? id : add(uid);
+    }
+
+    /**
+     * @return the id of the user, or -1 if the user never reacted
+     */
+    int find(String uid) {
+      return uid == null ? -1 : ids.getOrDefault(uid, -1);
+    }
+
+    synchronized List<byte[]> encoded() {
+      return uids.stream().map(uid -> uid.getBytes(StandardCharsets.UTF_8)).toList();
+    }
+
+    synchronized void clear() {
+      ids.clear();
+      uids.clear();
+    }
+
+    private synchronized int add(String uid) {
+      final Integer existing = ids.get(uid);
+      if (existing != null) return existing;
+
+      uids.add(uid);
+      ids.put(uid, uids.size() - 1);
+      return uids.size() - 1;
+    }
+  }
+}
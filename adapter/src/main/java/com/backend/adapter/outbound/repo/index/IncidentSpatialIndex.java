@@ -0,0 +1,242 @@
+package com.backend.adapter.outbound.repo.index;
+
+import com.backend.domain.happening.Incident;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory grid index over live incidents.
+ *
+ * <p>Incidents are bucketed into fixed-size latitude/longitude cells. A radius query only visits
+ * the cells overlapping the bounding box of the search circle and then filters candidates by
+ * great-circle distance, so the cost depends on local density rather than on the table size.</p>
+ *
+ * <p>Longitude cells wrap at the antimeridian, so a search near ±180° also visits the cells on the
+ * other side. A search whose box spans every longitude (close to a pole) walks the occupied cells
+ * of its latitude band once instead of looking up each of its cells.</p>
+ *
+ * <p>Reads are lock-free; writes are serialized so an incident never shows up in two cells.</p>
+ */
+public class IncidentSpatialIndex {
+
+  private static final double EARTH_RADIUS_METERS = 6_371_008.8;
+  private static final double METERS_PER_DEGREE = Math.PI * EARTH_RADIUS_METERS / 180.0;
+
+  private final double cellDegrees;
+  private final long lonCells;
+  private final Map<Long, Map<Long, IndexedIncident>> cells = new ConcurrentHashMap<>();
+  private final Map<Long, IndexedIncident> byId = new ConcurrentHashMap<>();
+
+  public IncidentSpatialIndex(double cellDegrees) {
+    if (cellDegrees <= 0 || cellDegrees > 1)
+      throw new IllegalArgumentException("Cell size must be in (0, 1] degrees");
+
+    this.cellDegrees = cellDegrees;
+    this.lonCells = Math.round(360.0 / cellDegrees);
+  }
+
+  /**
+   * Inserts or replaces an incident at the given coordinates.
+   *
+   * @param incident incident with an assigned id
+   * @param lat      latitude of the incident location
+   * @param lon      longitude of the incident location
+   * @param postedAt when the incident was posted
+   */
+  public synchronized void put(Incident incident, double lat, double lon, Instant postedAt) {
+    final long id = incident.getId().value();
+    final IndexedIncident entry = new IndexedIncident(incident, lat, lon, postedAt, cellKey(lat, lon));
+
+    final IndexedIncident previous = byId.put(id, entry);
+    if (previous != null && previous.cellKey() != entry.cellKey()) {
+      removeFromCell(previous);
+    }
+    cells.computeIfAbsent(entry.cellKey(), key -> new ConcurrentHashMap<>()).put(id, entry);
+  }
+
+  /**
+   * Removes an incident from the index, if present.
+   *
+   * @param incidentId identifier of the incident
+   */
+  public synchronized void remove(long incidentId) {
+    final IndexedIncident previous = byId.remove(incidentId);
+    if (previous != null) {
+      removeFromCell(previous);
+    }
+  }
+
+  /**
+   * @param incidentId identifier of the incident
+   * @return the indexed entry, or {@code null} if the incident is not indexed
+   */
+  public IndexedIncident get(long incidentId) {
+    return byId.get(incidentId);
+  }
+
+  /**
+   * Finds live incidents within the radius, nearest first (ties broken by id).
+   *
+   * @param lat          latitude of the search centre
+   * @param lon          longitude of the search centre
+   * @param radiusMeters search radius in meters
+   * @param now          reference time used to skip expired incidents
+   * @return matches ordered by distance
+   */
+  public List<IndexedMatch> findWithin(double lat, double lon, double radiusMeters, Instant now) {
+    final double latDelta = radiusMeters / METERS_PER_DEGREE;
+    final double lonDelta = lonDelta(lat, latDelta);
+
+    final long minLatCell = cellIndex(Math.max(lat - latDelta, -90.0));
+    final long maxLatCell = cellIndex(Math.min(lat + latDelta, 90.0));
+    final long minLonCell = cellIndex(lon - lonDelta);
+    final long maxLonCell = cellIndex(lon + lonDelta);
+
+    final List<IndexedMatch> matches = new ArrayList<>();
+    if (maxLonCell - minLonCell + 1 >= lonCells) {
+      cells.forEach((key, cell) -> {
+        final long latCell = key >> 32;
+        if (latCell >= minLatCell && latCell <= maxLatCell) {
+          collect(cell, lat, lon, radiusMeters, now, matches);
+        }
+      });
+    } else {
+      for (long latCell = minLatCell; latCell <= maxLatCell; latCell++) {
+        for (long lonCell = minLonCell; lonCell <= maxLonCell; lonCell++) {
+          final Map<Long, IndexedIncident> cell = cells.get(pack(latCell, Math.floorMod(lonCell, lonCells)));
+          if (cell != null) {
+            collect(cell, lat, lon, radiusMeters, now, matches);
+          }
+        }
+      }
+    }
+
+    matches.sort(Comparator.comparingDouble(IndexedMatch::distanceMeters)
+        .thenComparingLong(match -> match.entry().id()));
+    return matches;
+  }
+
+  /**
+   * Half-width in degrees of longitude of the box around a search circle. A circle that reaches a
+   * pole covers every longitude.
+   */
+  private static double lonDelta(double lat, double latDelta) {
+    if (lat + latDelta >= 90.0 || lat - latDelta <= -90.0) return 180.0;
+
+    final double ratio = Math.sin(Math.toRadians(latDelta)) / Math.cos(Math.toRadians(lat));
+    return ratio >= 1.0 ? 180.0 : Math.toDegrees(Math.asin(ratio));
+  }
+
+  private static void collect(Map<Long, IndexedIncident> cell, double lat, double lon,
+      double radiusMeters, Instant now, List<IndexedMatch> matches) {
+
+    for (IndexedIncident entry : cell.values()) {
+      if (!isLive(entry.incident(), now)) continue;
+
+      final double distance = distanceMeters(lat, lon, entry.lat(), entry.lon());
+      if (distance <= radiusMeters) {
+        matches.add(new IndexedMatch(entry, distance));
+      }
+    }
+  }
+
+  /**
+   * Drops every incident whose expiry lies before {@code now}.
+   *
+   * @param now reference time
+   * @return number of evicted incidents
+   */
+  public int evictExpired(Instant now) {
+    int evicted = 0;
+    for (IndexedIncident entry : byId.values()) {
+      if (!isLive(entry.incident(), now)) {
+        remove(entry.id());
+        evicted++;
+      }
+    }
+    return evicted;
+  }
+
+  /**
+   * Finds the incidents that have the given media attached. This scans every indexed incident, which
+   * is fine for the rare writes that need it but not for queries.
+   *
+   * @param key object storage key of the media
+   * @return the indexed entries with that media
+   */
+  public List<IndexedIncident> findByMediaKey(String key) {
+    final List<IndexedIncident> found = new ArrayList<>();
+    for (IndexedIncident entry : byId.values()) {
+      if (entry.incident().getMedia().stream().anyMatch(media -> media.filename().equals(key))) {
+        found.add(entry);
+      }
+    }
+    return found;
+  }
+
+  public synchronized void clear() {
+    byId.clear();
+    cells.clear();
+  }
+
+  public int size() {
+    return byId.size();
+  }
+
+  private void removeFromCell(IndexedIncident entry) {
+    cells.computeIfPresent(entry.cellKey(), (key, cell) -> {
+      cell.remove(entry.id());
+      return cell.isEmpty() ? null : cell;
+    });
+  }
+
+  /**
+   * Longitudes on either side of the antimeridian share one canonical cell index, so 180° and
+   * -180° land in the same cell.
+   */
+  private long cellKey(double lat, double lon) {
+    return pack(cellIndex(lat), Math.floorMod(cellIndex(lon), lonCells));
+  }
+
+  private long cellIndex(double degrees) {
+    return (long) Math.floor(degrees / cellDegrees);
+  }
+
+  private static long pack(long latCell, long lonCell) {
+    return (latCell << 32) | (lonCell & 0xFFFFFFFFL);
+  }
+
+  private static boolean isLive(Incident incident, Instant now) {
+    return incident.getExpiresAt().isAfter(now)
+        && incident.getEngagementStats().consecutiveDenies() < 3;
+  }
+
+  static double distanceMeters(double lat1, double lon1, double lat2, double lon2) {
+    final double dLat = Math.toRadians(lat2 - lat1);
+    final double dLon = Math.toRadians(lon2 - lon1);
+    final double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+        + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+        * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+
+    return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1.0, Math.sqrt(a)));
+  }
+
+  /**
+   * Incident stored in the index together with its coordinates and posting time.
+   */
+  public record IndexedIncident(Incident incident, double lat, double lon, Instant postedAt, long cellKey) {
+
+    public long id() {
+      return incident.getId().value();
+    }
+  }
+
+  /**
+   * Result of a radius query: the indexed incident and its distance to the search centre.
+   */
+  public record IndexedMatch(IndexedIncident entry, double distanceMeters) { }
+}
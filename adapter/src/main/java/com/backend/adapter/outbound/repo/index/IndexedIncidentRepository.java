@@ -0,0 +1,276 @@
+package com.backend.adapter.outbound.repo.index;
+
+import com.backend.adapter.outbound.entity.IncidentEntity;
+import com.backend.adapter.outbound.mapper.IncidentMapper;
+import com.backend.adapter.outbound.repo.IncidentPersistenceRepository;
+import com.backend.adapter.outbound.repo.buffer.IncidentEngagementsFlushedEvent;
+import com.backend.adapter.outbound.repo.cursor.DistanceCursor;
+import com.backend.adapter.outbound.repo.index.IncidentSpatialIndex.IndexedMatch;
+import com.backend.adapter.outbound.repo.persistence.IncidentPersistence;
+import com.backend.adapter.outbound.storage.MediaPreviewRecordedEvent;
+import com.backend.domain.actor.UserId;
+import com.backend.domain.happening.Incident;
+import com.backend.domain.location.Location;
+import com.backend.domain.media.Media;
+import com.backend.domain.reactions.IncidentEngagementType;
+import com.backend.port.inbound.commands.CursorPage;
+import com.backend.port.inbound.commands.IncidentPreview;
+import com.backend.port.outbound.repo.AppliedEngagement;
+import com.backend.port.outbound.repo.IncidentEngagementRepository;
+import com.backend.port.outbound.repo.IncidentRepository;
+import com.backend.port.outbound.repo.LocationRepository;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * {@link IncidentRepository} decorator that answers radius queries from an in-memory
+ * {@link IncidentSpatialIndex} of live incidents.
+ *
+ * <p>The index is warmed from the database once the application is ready and kept current by the
+ * write path ({@link #save}, {@link #applyEngagement}, {@link #deleteById}) and by the flushes of
+ * buffered engagements ({@link #refreshEngagements}) and of generated previews
+ * ({@link #refreshPreview}). Expired incidents are evicted on a timer.
+ * Until warm-up has completed, radius queries fall back to the PostGIS query.</p>
+ */
+@Slf4j
+@Primary
+@Repository
+@ConditionalOnProperty(name = "incident.index.enabled", havingValue = "true", matchIfMissing = true)
+public class IndexedIncidentRepository implements IncidentRepository {
+
+  private final IncidentPersistence delegate;
+  private final IncidentPersistenceRepository incidentPersistenceRepository;
+  private final IncidentEngagementRepository incidentEngagementRepository;
+  private final IncidentMapper incidentMapper;
+  private final LocationRepository locationRepository;
+  private final IncidentSpatialIndex index;
+
+  private volatile boolean ready;
+
+  public IndexedIncidentRepository(
+      IncidentPersistence delegate,
+      IncidentPersistenceRepository incidentPersistenceRepository,
+      IncidentEngagementRepository incidentEngagementRepository,
+      IncidentMapper incidentMapper,
+      LocationRepository locationRepository,
+      @Value("${incident.index.cell-degrees:0.01}") double cellDegrees) {
+
+    this.delegate = delegate;
+    this.incidentPersistenceRepository = incidentPersistenceRepository;
+    this.incidentEngagementRepository = incidentEngagementRepository;
+    this.incidentMapper = incidentMapper;
+    this.locationRepository = locationRepository;
+    this.index = new IncidentSpatialIndex(cellDegrees);
+  }
+
+  /**
+   * Loads every live incident into the index. Radius queries are served from memory only after
+   * this has completed successfully.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  @Transactional(readOnly = true)
+  public void warmUp() {
+    try {
+      final List<IncidentEntity> live = incidentPersistenceRepository.findAllByExpiresAtAfter(Instant.now());
+      for (IncidentEntity entity : live) {
+        index.put(
+            incidentMapper.mapToDomain(entity),
+            entity.getLocation().getLat(),
+            entity.getLocation().getLng(),
+            entity.getTimePosted());
+      }
+      ready = true;
+      log.info("Incident spatial index warmed with {} live incidents", index.size());
+    } catch (Exception e) {
+      log.warn("Incident spatial index warm-up failed, serving radius queries from PostGIS", e);
+    }
+  }
+
+  @Scheduled(fixedDelayString = "${incident.index.eviction-interval-ms:30000}")
+  public void evictExpired() {
+    final int evicted = index.evictExpired(Instant.now());
+    if (evicted > 0) {
+      log.debug("Evicted {} expired incidents from the spatial index", evicted);
+    }
+  }
+
+  @Override
+  public Incident save(Incident incident) {
+    final Incident saved = delegate.save(incident);
+    reindex(saved);
+    return saved;
+  }
+
+  /**
+   * Applies the engagement through the engagement repository; for an indexed incident the returned
+   * counters are merged into the indexed copy, so the updated incident is not read back from the
+   * database.
+   */
+  @Override
+  public Optional<Incident> applyEngagement(long incidentId, UserId userId, IncidentEngagementType type) {
+    final IncidentSpatialIndex.IndexedIncident indexed = index.get(incidentId);
+    if (indexed == null) {
+      final Optional<Incident> updated = delegate.applyEngagement(incidentId, userId, type);
+      updated.ifPresent(this::reindex);
+      return updated;
+    }
+
+    return incidentEngagementRepository.applyEngagement(incidentId, userId, type).map(applied -> {
+      final Incident updated = withEngagement(indexed.incident(), applied);
+      reindex(updated);
+      return updated;
+    });
+  }
+
+  /**
+   * Takes over the counters and expiry written by a flush of buffered engagements, so incidents
+   * extended or shortened by the flush are kept or dropped on time.
+   */
+  @EventListener
+  public void refreshEngagements(IncidentEngagementsFlushedEvent event) {
+    event.incidents().forEach((incidentId, applied) -> {
+      final IncidentSpatialIndex.IndexedIncident indexed = index.get(incidentId);
+      if (indexed != null) {
+        reindex(withEngagement(indexed.incident(), applied));
+      }
+    });
+  }
+
+  /**
+   * Switches indexed incidents to a preview recorded after they were saved, so feeds show it
+   * without reading the media back from the database.
+   */
+  @EventListener
+  public void refreshPreview(MediaPreviewRecordedEvent event) {
+    for (IncidentSpatialIndex.IndexedIncident indexed : index.findByMediaKey(event.key())) {
+      final Incident incident = indexed.incident();
+      reindex(incident.toBuilder()
+          .media(incident.getMedia().stream()
+              .map(media -> media.filename().equals(event.key())
+                  ? new Media(media.size(), media.filename(), media.contentType(), event.previewKey())
+                  : media)
+              .collect(Collectors.toSet()))
+          .build());
+    }
+  }
+
+  @Override
+  public void deleteById(long incidentId) {
+    delegate.deleteById(incidentId);
+    index.remove(incidentId);
+  }
+
+  @Override
+  public CursorPage<Incident> findAllInGivenRange(
+      double lat, double lon, double radiusMeters, String cursor, int limit) {
+
+    if (!ready) {
+      return delegate.findAllInGivenRange(lat, lon, radiusMeters, cursor, limit);
+    }
+
+    final CursorPage<IndexedMatch> page = findPage(lat, lon, radiusMeters, cursor, limit);
+    return new CursorPage<>(
+        page.items().stream().map(match -> match.entry().incident()).toList(),
+        page.nextCursor());
+  }
+
+  @Override
+  public CursorPage<IncidentPreview> findPreviewsInGivenRange(
+      double lat, double lon, double radiusMeters, String cursor, int limit) {
+
+    if (!ready) {
+      return delegate.findPreviewsInGivenRange(lat, lon, radiusMeters, cursor, limit);
+    }
+
+    final CursorPage<IndexedMatch> page = findPage(lat, lon, radiusMeters, cursor, limit);
+    return new CursorPage<>(
+        page.items().stream().map(match -> toPreview(match.entry())).toList(),
+        page.nextCursor());
+  }
+
+  @Override
+  public Optional<Incident> findById(long incidentId) {
+    return delegate.findById(incidentId);
+  }
+
+  @Override
+  public boolean existsById(long incidentId) {
+    return delegate.existsById(incidentId);
+  }
+
+  @Override
+  public List<Incident> findByUserId(String userId) {
+    return delegate.findByUserId(userId);
+  }
+
+  @Override
+  public List<Long> findIdsByLocationId(long locationId) {
+    return delegate.findIdsByLocationId(locationId);
+  }
+
+  private CursorPage<IndexedMatch> findPage(
+      double lat, double lon, double radiusMeters, String cursor, int limit) {
+
+    final DistanceCursor after = DistanceCursor.decode(cursor, lat, lon, radiusMeters);
+    final List<IndexedMatch> matches = index.findWithin(lat, lon, radiusMeters, Instant.now()).stream()
+        .filter(match -> after.isBefore(match.distanceMeters(), match.entry().id()))
+        .limit(limit + 1L)
+        .toList();
+
+    final boolean hasNext = matches.size() > limit;
+    final List<IndexedMatch> page = hasNext ? matches.subList(0, limit) : matches;
+    final String nextCursor = hasNext
+        ? DistanceCursor.after(page.getLast().distanceMeters(), page.getLast().entry().id(), lat, lon, radiusMeters)
+            .encode()
+        : null;
+
+    return new CursorPage<>(page, nextCursor);
+  }
+
+  private static IncidentPreview toPreview(IncidentSpatialIndex.IndexedIncident entry) {
+    final Incident incident = entry.incident();
+    return new IncidentPreview(
+        entry.id(),
+        incident.getTitle(),
+        entry.lat(),
+        entry.lon(),
+        entry.postedAt(),
+        incident.getMedia().stream().map(Media::previewOrOriginal).sorted().toList());
+  }
+
+  private static Incident withEngagement(Incident incident, AppliedEngagement applied) {
+    return incident.toBuilder()
+        .engagementStats(applied.engagementStats())
+        .expiresAt(applied.expiresAt())
+        .build();
+  }
+
+  private void reindex(Incident incident) {
+    final long incidentId = incident.getId().value();
+    if (incident.isDeleted()) {
+      index.remove(incidentId);
+      return;
+    }
+
+    final IncidentSpatialIndex.IndexedIncident existing = index.get(incidentId);
+    if (existing != null && existing.incident().getLocationId().equals(incident.getLocationId())) {
+      index.put(incident, existing.lat(), existing.lon(), existing.postedAt());
+      return;
+    }
+
+    final Instant postedAt = existing != null ? existing.postedAt() : Instant.now();
+    final Location location = locationRepository.findById(incident.getLocationId().value());
+    index.put(incident, location.latitude(), location.longitude(), postedAt);
+  }
+}
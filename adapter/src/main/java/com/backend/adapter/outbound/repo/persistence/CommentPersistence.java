@@ -0,0 +1,86 @@
+package com.backend.adapter.outbound.repo.persistence;
+
+import com.backend.adapter.outbound.entity.CommentEntity;
+import com.backend.adapter.outbound.mapper.CommentMapper;
+import com.backend.adapter.outbound.repo.CommentPersistenceRepository;
+import com.backend.adapter.outbound.repo.IncidentPersistenceRepository;
+import com.backend.adapter.outbound.repo.cursor.CreatedAtCursor;
+import com.backend.domain.actor.Comment;
+import com.backend.port.inbound.commands.CursorPage;
+import com.backend.port.outbound.repo.CommentRepository;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * JPA-backed {@link CommentRepository}. Pages are read newest first with keyset pagination on
+ * {@code (incident_id, created_at, id)}, and the number of comments is kept on the incident row in
+ * the same transaction as every insert and delete, so neither depends on how many comments exist.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CommentPersistence implements CommentRepository {
+
+  private final CommentPersistenceRepository commentPersistenceRepository;
+  private final IncidentPersistenceRepository incidentPersistenceRepository;
+
+  @Override
+  @Transactional
+  public Comment save(Comment comment) {
+    final CommentEntity saved = commentPersistenceRepository.save(CommentMapper.mapToEntity(comment));
+    incidentPersistenceRepository.adjustCommentCount(saved.getIncidentId(), 1);
+
+    return CommentMapper.mapToDomain(saved);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public CursorPage<Comment> findPageByHappeningId(long happeningId, String cursor, int limit) {
+    final CreatedAtCursor after = CreatedAtCursor.decode(cursor);
+    final List<CommentEntity> rows = after == null
+        ? commentPersistenceRepository.findFirstPage(happeningId, limit + 1)
+        : commentPersistenceRepository.findPageAfter(happeningId, after.createdAt(), after.id(), limit + 1);
+
+    final boolean hasNext = rows.size() > limit;
+    final List<CommentEntity> page = hasNext ? rows.subList(0, limit) : rows;
+    final String nextCursor = hasNext
+        ? new CreatedAtCursor(page.getLast().getCreatedAt(), page.getLast().getId()).encode()
+        : null;
+
+    return new CursorPage<>(page.stream().map(CommentMapper::mapToDomain).toList(), nextCursor);
+  }
+
+  @Override
+  public OptionalInt countByHappeningId(long happeningId) {
+    return incidentPersistenceRepository.findCommentCount(happeningId)
+        .map(OptionalInt::of)
+        .orElseGet(OptionalInt::empty);
+  }
+
+  @Override
+  public Optional<Comment> findById(long id) {
+    return commentPersistenceRepository.findById(id).map(CommentMapper::mapToDomain);
+  }
+
+  @Override
+  @Transactional
+  public void delete(long id) {
+    commentPersistenceRepository.findById(id).ifPresent(entity -> {
+      commentPersistenceRepository.delete(entity);
+      incidentPersistenceRepository.adjustCommentCount(entity.getIncidentId(), -1);
+    });
+  }
+
+  @Override
+  @Transactional
+  public Comment update(long id, Comment updatedComment) {
+    final CommentEntity entity = commentPersistenceRepository.findById(id)
+        .orElseThrow(() -> new IllegalStateException("Comment not found"));
+    entity.setValue(updatedComment.text());
+
+    return CommentMapper.mapToDomain(commentPersistenceRepository.save(entity));
+  }
+}
@@ -2,9 +2,12 @@ package com.backend.adapter.outbound.repo.persistence;
 
 import com.backend.adapter.outbound.entity.IncidentEngagementEntity;
 import com.backend.adapter.outbound.repo.IncidentEngagementPersistenceRepository;
+import com.backend.adapter.outbound.repo.IncidentEngagementView;
 import com.backend.adapter.outbound.repo.IncidentPersistenceRepository;
 import com.backend.domain.actor.UserId;
+import com.backend.domain.reactions.EngagementStats;
 import com.backend.domain.reactions.IncidentEngagementType;
+import com.backend.port.outbound.repo.AppliedEngagement;
 import com.backend.port.outbound.repo.IncidentEngagementRepository;
 import java.time.Instant;
 import java.util.Optional;
@@ -41,4 +44,30 @@ public class IncidentEngagementPersistence implements IncidentEngagementReposito
 
     engagementRepository.save(entity);
   }
+
+  /**
+   * Records the engagement and updates the incident counters in a single statement.
+   */
+  @Override
+  public Optional<AppliedEngagement> applyEngagement(long incidentId, UserId userId, IncidentEngagementType type) {
+    return incidentRepository.applyEngagement(incidentId, userId.value(), type.name())
+        .map(IncidentEngagementPersistence::toAppliedEngagement);
+  }
+
+  /**
+   * Records the engagement only, leaving the incident counters to the caller.
+   *
+   * @return the incident counters and expiry as persisted before this engagement, or empty if the
+   *         incident does not exist or the user has already engaged with it
+   */
+  public Optional<AppliedEngagement> recordEngagement(long incidentId, UserId userId, IncidentEngagementType type) {
+    return engagementRepository.recordEngagement(incidentId, userId.value(), type.name())
+        .map(IncidentEngagementPersistence::toAppliedEngagement);
+  }
+
+  private static AppliedEngagement toAppliedEngagement(IncidentEngagementView view) {
+    return new AppliedEngagement(
+        new EngagementStats(view.getConfirms(), view.getDenies(), view.getConsecutiveDenies()),
+        view.getExpiresAt().toInstant());
+  }
 }
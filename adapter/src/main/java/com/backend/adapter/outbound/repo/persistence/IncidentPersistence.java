@@ -3,13 +3,24 @@ package com.backend.adapter.outbound.repo.persistence;
 import com.backend.adapter.outbound.entity.IncidentEntity;
 import com.backend.adapter.outbound.mapper.IncidentMapper;
 import com.backend.adapter.outbound.repo.*;
+import com.backend.adapter.outbound.repo.cursor.DistanceCursor;
+import com.backend.domain.actor.UserId;
 import com.backend.domain.happening.Incident;
+import com.backend.domain.reactions.IncidentEngagementType;
+import com.backend.port.inbound.commands.CursorPage;
+import com.backend.port.inbound.commands.IncidentPreview;
+import com.backend.port.outbound.repo.IncidentEngagementRepository;
 import com.backend.port.outbound.repo.IncidentRepository;
 
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 @Repository
@@ -18,6 +29,7 @@ public class IncidentPersistence implements IncidentRepository {
 
   private final IncidentPersistenceRepository incidentPersistenceRepository;
   private final IncidentMapper incidentMapper;
+  private final IncidentEngagementRepository incidentEngagementRepository;
 
   @Override
   public Incident save(Incident incident) {
@@ -35,19 +47,69 @@ public class IncidentPersistence implements IncidentRepository {
     return Optional.of(incidentMapper.mapToDomain(incidentEntity));
   }
 
+  /**
+   * Applies the engagement and then reads the updated incident. The counters and expiry are taken
+   * from the applied engagement, so they include changes the engagement repository has not yet
+   * written to the incident row.
+   */
+  @Override
+  public Optional<Incident> applyEngagement(long incidentId, UserId userId, IncidentEngagementType type) {
+    return incidentEngagementRepository.applyEngagement(incidentId, userId, type)
+        .flatMap(applied -> findById(incidentId).map(incident -> incident.toBuilder()
+            .engagementStats(applied.engagementStats())
+            .expiresAt(applied.expiresAt())
+            .build()));
+  }
+
   @Override
   public boolean existsById(long happeningId) {
     return incidentPersistenceRepository.existsById(happeningId);
   }
 
   @Override
-  public List<Incident> findAllInGivenRange(double lat0, double lon0, double radiusMeters) {
+  public CursorPage<Incident> findAllInGivenRange(
+      double lat0, double lon0, double radiusMeters, String cursor, int limit) {
+
+    final DistanceCursor after = DistanceCursor.decode(cursor, lat0, lon0, radiusMeters);
+    final List<IncidentDistanceView> rows = incidentPersistenceRepository.findPageInGivenRange(
+        lat0, lon0, radiusMeters, after.distanceMeters(), after.id(), limit + 1);
+
+    final boolean hasNext = rows.size() > limit;
+    final List<IncidentDistanceView> page = hasNext ? rows.subList(0, limit) : rows;
+
+    final Map<Long, IncidentEntity> entitiesById = incidentPersistenceRepository
+        .findAllByIdIn(page.stream().map(IncidentDistanceView::getId).toList()).stream()
+        .collect(Collectors.toMap(IncidentEntity::getId, Function.identity()));
+
+    final List<Incident> incidents = page.stream()
+        .map(row -> entitiesById.get(row.getId()))
+        .filter(Objects::nonNull)
+        .map(incidentMapper::mapToDomain)
+        .toList();
+
+    final String nextCursor = hasNext
+        ? DistanceCursor.after(page.getLast().getDistanceMeters(), page.getLast().getId(), lat0, lon0, radiusMeters).encode()
+        : null;
+
+    return new CursorPage<>(incidents, nextCursor);
+  }
+
+  @Override
+  public CursorPage<IncidentPreview> findPreviewsInGivenRange(
+      double lat0, double lon0, double radiusMeters, String cursor, int limit) {
+
+    final DistanceCursor after = DistanceCursor.decode(cursor, lat0, lon0, radiusMeters);
+    final List<IncidentPreviewView> rows = incidentPersistenceRepository.findPreviewPageInGivenRange(
+        lat0, lon0, radiusMeters, after.distanceMeters(), after.id(), limit + 1);
 
-    List<IncidentEntity> incidentEntities = incidentPersistenceRepository.findAllInGivenRange(lat0, lon0, radiusMeters);
+    final boolean hasNext = rows.size() > limit;
+    final List<IncidentPreviewView> page = hasNext ? rows.subList(0, limit) : rows;
 
-    return incidentEntities.stream()
-      .map(incidentMapper::mapToDomain)
-      .toList();
+    final String nextCursor = hasNext
+        ? DistanceCursor.after(page.getLast().getDistanceMeters(), page.getLast().getId(), lat0, lon0, radiusMeters).encode()
+        : null;
+
+    return new CursorPage<>(page.stream().map(IncidentPersistence::toPreview).toList(), nextCursor);
   }
 
   @Override
@@ -61,4 +123,23 @@ public class IncidentPersistence implements IncidentRepository {
           .map(incidentMapper::mapToDomain)
           .toList();
   }
+
+  @Override
+  public List<Long> findIdsByLocationId(long locationId) {
+      return incidentPersistenceRepository.findIdsByLocationId(locationId);
+  }
+
+  private static IncidentPreview toPreview(IncidentPreviewView row) {
+    final List<String> mediaKeys = row.getMediaKeys() == null
+        ? List.of()
+        : Arrays.asList(row.getMediaKeys().split(","));
+
+    return new IncidentPreview(
+        row.getId(),
+        row.getTitle(),
+        row.getLat(),
+        row.getLon(),
+        row.getCreatedAt() == null ? null : row.getCreatedAt().toInstant(),
+        mediaKeys);
+  }
 }
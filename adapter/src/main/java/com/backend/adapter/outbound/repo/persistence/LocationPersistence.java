@@ -6,12 +6,17 @@ import static com.backend.adapter.outbound.mapper.LocationMapper.mapToEntity;
 import com.backend.adapter.outbound.entity.LocationEntity;
 import com.backend.adapter.outbound.mapper.LocationMapper;
 import com.backend.adapter.outbound.repo.LocationPersistenceRepository;
+import com.backend.domain.location.GeoCell;
 import com.backend.domain.location.Location;
 import com.backend.port.outbound.repo.LocationRepository;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 @RequiredArgsConstructor
@@ -36,12 +41,54 @@ public class LocationPersistence implements LocationRepository {
   }
 
   @Override
-  public Optional<Location> findByCoordinate(double latitude, double longitude) {
+  public List<Location> findAllByIds(Collection<Long> ids) {
+    if (ids.isEmpty()) return List.of();
+
+    return locationPersistenceRepository.findAllById(ids).stream()
+        .map(LocationMapper::mapToDomain)
+        .toList();
+  }
+
+  @Override
+  public Optional<Location> findNearest(double latitude, double longitude, double maxDistanceMeters) {
     return locationPersistenceRepository
-        .findByLatAndLng(latitude, longitude)
+        .findNearest(latitude, longitude, maxDistanceMeters)
         .map(LocationMapper::mapToDomain);
   }
 
+  @Override
+  @Transactional
+  public Location saveInCell(Location location, GeoCell cell) {
+    locationPersistenceRepository.insertIfCellUnclaimed(
+        location.latitude(), location.longitude(), location.address(), cell.key());
+
+    return locationPersistenceRepository.findByCellKey(cell.key())
+        .map(LocationMapper::mapToDomain)
+        .orElseThrow(() -> new IllegalStateException("No location claims cell " + cell.key()));
+  }
+
+  @Override
+  public Optional<Location> findAnyInCell(GeoCell cell) {
+    return locationPersistenceRepository
+        .findFirstByLatBetweenAndLngBetweenAndAddressTextNot(
+            cell.minLatitude(), cell.maxLatitude(), cell.minLongitude(), cell.maxLongitude(),
+            Location.PENDING_ADDRESS)
+        .map(LocationMapper::mapToDomain);
+  }
+
+  @Override
+  public List<Location> findAllByAddress(String address, int limit) {
+    return locationPersistenceRepository.findByAddressText(address, PageRequest.of(0, limit)).stream()
+        .map(LocationMapper::mapToDomain)
+        .toList();
+  }
+
+  @Override
+  @Transactional
+  public void updateAddress(long id, String address) {
+    locationPersistenceRepository.updateAddressText(id, address);
+  }
+
   @Override
   public void deleteById(long id) {
     locationPersistenceRepository.deleteById(id);
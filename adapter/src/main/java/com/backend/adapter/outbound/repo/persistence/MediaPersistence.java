@@ -72,4 +72,16 @@ public class MediaPersistence implements MediaRepository {
 
     return repository.findByKey(key).map(MediaEntityMapper::toDomain);
   }
+
+  /**
+   * Records the preview generated for a media object.
+   *
+   * @param key        the unique key of the media
+   * @param previewKey the object key of the preview
+   */
+  @Override
+  @Transactional
+  public void updatePreviewKey(String key, String previewKey) {
+    repository.updatePreviewKey(key, previewKey);
+  }
 }
@@ -0,0 +1,77 @@
+package com.backend.adapter.outbound.repo.persistence;
+
+import com.backend.adapter.outbound.entity.MediaUploadEntity;
+import com.backend.adapter.outbound.repo.MediaUploadPersistenceRepository;
+import com.backend.domain.actor.UserId;
+import com.backend.port.outbound.repo.MediaUploadRepository;
+import jakarta.transaction.Transactional;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+
+/**
+ * JPA-based implementation of {@link MediaUploadRepository}.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MediaUploadPersistence implements MediaUploadRepository {
+
+  private final MediaUploadPersistenceRepository repository;
+
+  @Override
+  @Transactional
+  public void saveAll(UserId userId, Set<String> keys, Instant expiresAt) {
+    if (keys == null || keys.isEmpty()) return;
+
+    repository.saveAll(keys.stream()
+        .map(key -> MediaUploadEntity.builder()
+            .key(key)
+            .userUid(userId.value())
+            .expiresAt(expiresAt)
+            .build())
+        .toList());
+  }
+
+  /**
+   * Locks the uploads before checking them, so two incidents created at the same time cannot both
+   * attach the same key. Nothing is written unless every key can be attached.
+   */
+  @Override
+  @Transactional
+  public boolean markAttached(UserId userId, Set<String> keys, Instant now) {
+    if (keys == null || keys.isEmpty()) return true;
+
+    final List<MediaUploadEntity> uploads = repository.findAllByKeyIn(keys);
+    final boolean attachable = uploads.size() == keys.size() && uploads.stream().allMatch(upload ->
+        upload.getUserUid().equals(userId.value())
+            && upload.getAttachedAt() == null
+            && upload.getExpiresAt().isAfter(now));
+    if (!attachable) return false;
+
+    uploads.forEach(upload -> upload.setAttachedAt(now));
+    return true;
+  }
+
+  @Override
+  @Transactional
+  public void markDetached(Set<String> keys) {
+    if (keys == null || keys.isEmpty()) return;
+    repository.detachAllByKeyIn(keys);
+  }
+
+  @Override
+  @Transactional
+  public List<String> findExpiredKeys(Instant now, int limit) {
+    return repository.findExpiredKeys(now, PageRequest.of(0, limit));
+  }
+
+  @Override
+  @Transactional
+  public void deleteAllByKeys(Set<String> keys) {
+    if (keys == null || keys.isEmpty()) return;
+    repository.deleteByKeyIn(keys);
+  }
+}
@@ -8,9 +8,15 @@ import com.backend.adapter.outbound.mapper.UserMapper;
 import com.backend.adapter.outbound.repo.UserPersistenceRepository;
 import com.backend.domain.actor.User;
 import com.backend.port.outbound.repo.UserRepository;
+import java.sql.Timestamp;
 import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -22,7 +28,10 @@ import org.springframework.stereotype.Repository;
 @RequiredArgsConstructor
 public class UserPersistence implements UserRepository {
 
+  private static final int LAST_LOGIN_BATCH_SIZE = 500;
+
   private final UserPersistenceRepository repository;
+  private final JdbcTemplate jdbcTemplate;
 
   /**
    * Persists the provided user, merging with an existing entity when the Firebase UID already
@@ -70,6 +79,36 @@ public class UserPersistence implements UserRepository {
     return repository.existsByFirebaseUid(firebaseUid);
   }
 
+  /**
+   * Writes last login times with one multi-row {@code UPDATE ... FROM (VALUES ...)} per
+   * {@value #LAST_LOGIN_BATCH_SIZE} users instead of one statement per user.
+   */
+  @Override
+  public int updateLastLogins(final Map<String, Instant> lastLoginByFirebaseUid) {
+    final List<Map.Entry<String, Instant>> entries = List.copyOf(lastLoginByFirebaseUid.entrySet());
+
+    int updated = 0;
+    for (int from = 0; from < entries.size(); from += LAST_LOGIN_BATCH_SIZE) {
+      final List<Map.Entry<String, Instant>> batch =
+          entries.subList(from, Math.min(from + LAST_LOGIN_BATCH_SIZE, entries.size()));
+
+      final String rows = String.join(", ",
+          Collections.nCopies(batch.size(), "(CAST(? AS VARCHAR), CAST(? AS TIMESTAMP))"));
+      final Object[] args = batch.stream()
+          .flatMap(entry -> Stream.of(entry.getKey(), Timestamp.from(entry.getValue())))
+          .toArray();
+
+      updated += jdbcTemplate.update("""
+          UPDATE users u
+          SET last_login = v.last_login
+          FROM (VALUES %s) AS v(firebase_uid, last_login)
+          WHERE u.firebase_uid = v.firebase_uid
+            AND (u.last_login IS NULL OR u.last_login < v.last_login)
+          """.formatted(rows), args);
+    }
+    return updated;
+  }
+
   /**
    * Applies any non-null attributes from the domain model to the existing entity so that display
    * name, email, tokens, and range stay current without losing immutable database fields.
@@ -1,26 +1,45 @@
 package com.backend.adapter.outbound.repo.redis;
 
-import com.backend.adapter.outbound.entity.IncidentEntity;
-import com.backend.adapter.outbound.entity.ReactionEntity;
-import com.backend.adapter.outbound.repo.IncidentPersistenceRepository;
-import com.backend.adapter.outbound.repo.ReactionPersistenceRepository;
 import com.backend.port.inbound.commands.ReactionSummary;
 import com.backend.port.inbound.commands.ReactionType;
 import com.backend.port.outbound.repo.ReactionRepository;
-import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
-import lombok.RequiredArgsConstructor;
-//import org.springframework.data.redis.core.StringRedisTemplate;
-//import org.springframework.data.redis.core.script.DefaultRedisScript;
+import java.util.Map;
+import java.util.Objects;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Repository;
-import org.springframework.transaction.annotation.Transactional;
 
 /**
- * Redis-backed implementation of {@link ReactionRepository} that keeps incident reactions in Redis
- * for fast reads while mirroring the latest state into the relational persistence layer.
+ * Redis-backed implementation of {@link ReactionRepository}. Each incident keeps one set of users
+ * who liked it and one of users who disliked it, so every reaction and every count is an O(1)
+ * set operation that never touches Postgres.
+ *
+ * <p>Mutations run the Lua script below, which switches the user between the sets and returns the
+ * new counters atomically in one round trip. The script is hashed once and invoked with
+ * {@code EVALSHA}; Redis only receives the script body again if it has not cached it yet.
+ * Summaries of many incidents are read with a single pipelined round trip.</p>
+ *
+ * <p>When a mutation changes the user's reaction, the new reaction is appended to the outbox
+ * shard of the incident right after the script; {@link ReactionOutboxFlusher} carries it into
+ * Postgres. The script only touches keys of the incident's hash slot, so it also runs on a
+ * cluster. The append is a separate command, so a crash between the two loses that change for
+ * Postgres, while Redis keeps it. Outbox shards are trimmed to about
+ * {@code reaction.outbox.max-length} entries, so they stay bounded when the flusher is disabled
+ * or Postgres is down for long.</p>
  */
 @Repository
-@RequiredArgsConstructor
+@Profile("!embedded-reactions")
 public class IncidentReactionRepository implements ReactionRepository {
 
   private static final String REACTION_LUA = """
@@ -28,21 +47,19 @@ public class IncidentReactionRepository implements ReactionRepository {
         local dislikeKey = KEYS[2]
         local userId = ARGV[1]
         local action = ARGV[2]
+        local changed = 0
 
         if action == "ADD_LIKE" then
-            redis.call("SREM", dislikeKey, userId)
-            redis.call("SADD", likeKey, userId)
+            changed = redis.call("SREM", dislikeKey, userId) + redis.call("SADD", likeKey, userId)
         elseif action == "ADD_DISLIKE" then
-            redis.call("SREM", likeKey, userId)
-            redis.call("SADD", dislikeKey, userId)
+            changed = redis.call("SREM", likeKey, userId) + redis.call("SADD", dislikeKey, userId)
         elseif action == "REMOVE_LIKE" then
-            redis.call("SREM", likeKey, userId)
+            changed = redis.call("SREM", likeKey, userId)
         elseif action == "REMOVE_DISLIKE" then
-            redis.call("SREM", dislikeKey, userId)
+            changed = redis.call("SREM", dislikeKey, userId)
         elseif action == "CLEAR" or action == "REFRESH" then
             if action == "CLEAR" then
-                redis.call("SREM", likeKey, userId)
-                redis.call("SREM", dislikeKey, userId)
+                changed = redis.call("SREM", likeKey, userId) + redis.call("SREM", dislikeKey, userId)
             end
         else
             return redis.error_reply("Unknown reaction action " .. action)
@@ -58,153 +75,144 @@ public class IncidentReactionRepository implements ReactionRepository {
             reactionFlag = -1
         end
 
-        return {likes, dislikes, reactionFlag}
+        return {likes, dislikes, reactionFlag, changed}
         """;
 
-//  private static final DefaultRedisScript<List> REACTION_SCRIPT;
-//
-//  static {
-//    REACTION_SCRIPT = new DefaultRedisScript<>();
-//    REACTION_SCRIPT.setScriptText(REACTION_LUA);
-//    REACTION_SCRIPT.setResultType(List.class);
-//  }
-//
-//  private final IncidentPersistenceRepository incidentRepository;
-//  private final ReactionPersistenceRepository reactionPersistenceRepository;
-//  private final StringRedisTemplate redisTemplate;
-//  private final ReactionKeyBuilder keyBuilder;
+  @SuppressWarnings("rawtypes")
+  private static final RedisScript<List> REACTION_SCRIPT = new DefaultRedisScript<>(REACTION_LUA, List.class);
+
+  /** Commands queued per incident by {@link #getSummaries}: two set sizes and two memberships. */
+  private static final int REPLIES_PER_INCIDENT = 4;
+
+  private final StringRedisTemplate redisTemplate;
+  private final ReactionKeyBuilder keyBuilder;
+  private final XAddOptions outboxTrimming;
+
+  public IncidentReactionRepository(
+      StringRedisTemplate redisTemplate,
+      ReactionKeyBuilder keyBuilder,
+      @Value("${reaction.outbox.max-length:1000000}") long outboxMaxLength) {
+
+    this.redisTemplate = redisTemplate;
+    this.keyBuilder = keyBuilder;
+    this.outboxTrimming = XAddOptions.maxlen(outboxMaxLength).approximateTrimming(true);
+  }
 
   /**
-   * Applies a like reaction by toggling the Redis sets and persisting the user’s latest choice.
+   * Adds the user to the incident's likes, removing a dislike if there was one.
    */
   @Override
-  @Transactional
   public ReactionSummary addLike(long incidentId, String userId) {
-    return null;
-//    ReactionSummary summary = execute(incidentId, userId, "ADD_LIKE");
-//    IncidentEntity incidentEntity = incidentRepository.getReferenceById(incidentId);
-//
-//    reactionPersistenceRepository.findByIncidentId(incidentId)
-//        .ifPresentOrElse(existing -> {
-//          if (existing.getReactionType() != ReactionType.LIKE) {
-//            existing.setReactionType(ReactionType.LIKE);
-//            existing.setReactedAt(Instant.now());
-//          }
-//        }, () -> reactionPersistenceRepository.save(
-//            ReactionEntity.builder()
-//                .incident(incidentEntity)
-//                .reactionType(ReactionType.LIKE)
-//                .reactedAt(Instant.now())
-//                .build()
-//        ));
-//
-//    return summary;
+    return execute(incidentId, userId, "ADD_LIKE");
   }
 
   /**
-   * Applies a dislike reaction by toggling the Redis sets and persisting the user’s latest choice.
+   * Adds the user to the incident's dislikes, removing a like if there was one.
    */
   @Override
-  @Transactional
   public ReactionSummary addDislike(long incidentId, String userId) {
-//    ReactionSummary summary = execute(incidentId, userId, "ADD_DISLIKE");
-//    IncidentEntity incident = incidentRepository.getReferenceById(incidentId);
-//
-//    reactionPersistenceRepository.findByIncidentId(incidentId)
-//        .ifPresentOrElse(existing -> {
-//          if (existing.getReactionType() != ReactionType.DISLIKE) {
-//            existing.setReactionType(ReactionType.DISLIKE);
-//            existing.setReactedAt(Instant.now());
-//          }
-//        }, () -> reactionPersistenceRepository.save(
-//            ReactionEntity.builder()
-//                .incident(incident)
-//                .reactionType(ReactionType.DISLIKE)
-//                .reactedAt(Instant.now())
-//                .build()
-//        ));
-
-//    return summary;
-    return null;
+    return execute(incidentId, userId, "ADD_DISLIKE");
   }
 
   /**
-   * Removes a like reaction, clearing both Redis and the durable record.
+   * Removes the user's like, if any.
    */
   @Override
-  @Transactional
   public ReactionSummary removeLike(long incidentId, String userId) {
-//    ReactionSummary summary = execute(incidentId, userId, "REMOVE_LIKE");
-//
-////    ClientEntity client = clientRepository.findByExternalId(userId)
-////        .orElseThrow(() -> new IllegalArgumentException("Unknown client " + userId));
-//
-//    reactionPersistenceRepository.findByIncidentId(incidentId)
-//        .ifPresent(existing -> {
-//          if (existing.getReactionType() == ReactionType.LIKE) {
-//            reactionPersistenceRepository.delete(existing);
-//          }
-//        });
-//
-//    return summary;
-    return null;
+    return execute(incidentId, userId, "REMOVE_LIKE");
   }
 
   /**
-   * Removes a dislike reaction, clearing both Redis and the durable record.
+   * Removes the user's dislike, if any.
    */
   @Override
-  @Transactional
   public ReactionSummary removeDislike(long incidentId, String userId) {
-//    ReactionSummary summary = execute(incidentId, userId, "REMOVE_DISLIKE");
-//
-////    ClientEntity client = clientRepository.findByExternalId(userId)
-////        .orElseThrow(() -> new IllegalArgumentException("Unknown client " + userId));
-//
-//    reactionPersistenceRepository.findByIncidentId(incidentId)
-//        .ifPresent(existing -> {
-//          if (existing.getReactionType() == ReactionType.DISLIKE) {
-//            reactionPersistenceRepository.delete(existing);
-//          }
-//        });
-//
-//    return summary;
-    return null;
+    return execute(incidentId, userId, "REMOVE_DISLIKE");
   }
 
   /**
    * Fetches current like/dislike counters from Redis without mutating state.
    */
   @Override
-  @Transactional(readOnly = true)
   public ReactionSummary getSummary(long incidentId, String userId) {
-    return execute(incidentId, userId, "REFRESH");
+    return getSummaries(List.of(incidentId), userId).getFirst();
   }
 
   /**
-   * Executes the Lua script that coordinates reaction mutations and returns updated counters.
+   * Queues the counters and the user's membership of every incident on one pipelined connection
+   * and reads all replies at once.
+   */
+  @Override
+  public List<ReactionSummary> getSummaries(Collection<Long> incidentIds, String userId) {
+    final List<Long> ids = List.copyOf(new LinkedHashSet<>(incidentIds));
+    if (ids.isEmpty()) return List.of();
+
+    final String member = Objects.toString(userId, "");
+    final List<Object> replies = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+      final StringRedisConnection redis = (StringRedisConnection) connection;
+      for (long incidentId : ids) {
+        redis.sCard(keyBuilder.likesKey(incidentId));
+        redis.sCard(keyBuilder.dislikesKey(incidentId));
+        redis.sIsMember(keyBuilder.likesKey(incidentId), member);
+        redis.sIsMember(keyBuilder.dislikesKey(incidentId), member);
+      }
+      return null;
+    });
+
+    if (replies.size() != ids.size() * REPLIES_PER_INCIDENT) {
+      throw new IllegalStateException("Unexpected Redis pipeline response for " + ids.size() + " incidents");
+    }
+
+    final List<ReactionSummary> summaries = new ArrayList<>(ids.size());
+    for (int i = 0; i < ids.size(); i++) {
+      final int offset = i * REPLIES_PER_INCIDENT;
+      final ReactionType reactionType = Boolean.TRUE.equals(replies.get(offset + 2))
+          ? ReactionType.LIKE
+          : Boolean.TRUE.equals(replies.get(offset + 3)) ? ReactionType.DISLIKE : ReactionType.NONE;
+
+      summaries.add(new ReactionSummary(
+          ids.get(i),
+          ((Long) replies.get(offset)).intValue(),
+          ((Long) replies.get(offset + 1)).intValue(),
+          reactionType));
+    }
+    return summaries;
+  }
+
+  /**
+   * Executes the Lua script that coordinates reaction mutations and returns updated counters;
+   * a change of the user's reaction is then appended to the outbox.
    */
   private ReactionSummary execute(long incidentId, String userId, String action) {
-//    List<String> keys = List.of(
-//        keyBuilder.likesKey(incidentId),
-//        keyBuilder.dislikesKey(incidentId)
-//    );
-//
-//    @SuppressWarnings("unchecked")
-//    List<Long> raw =
-//        (List<Long>) redisTemplate.execute(REACTION_SCRIPT, keys, userId, action);
-//
-//    if (raw.size() != 3) {
-//      throw new IllegalStateException("Unexpected Redis response for incident " + incidentId);
-//    }
-//
-//    ReactionType reactionType = ReactionType.fromToken(raw.get(2));
-//    return new ReactionSummary(
-//        incidentId,
-//        raw.get(0).intValue(),
-//        raw.get(1).intValue(),
-//        reactionType
-//    );
-    return null;
+    final List<String> keys = List.of(
+        keyBuilder.likesKey(incidentId),
+        keyBuilder.dislikesKey(incidentId)
+    );
+
+    @SuppressWarnings("unchecked")
+    final List<Long> raw = redisTemplate.execute(REACTION_SCRIPT, keys, userId, action);
+
+    if (raw == null || raw.size() != 4) {
+      throw new IllegalStateException("Unexpected Redis response for incident " + incidentId);
+    }
+
+    final ReactionSummary summary = new ReactionSummary(
+        incidentId,
+        raw.get(0).intValue(),
+        raw.get(1).intValue(),
+        ReactionType.fromToken(raw.get(2))
+    );
+
+    if (raw.get(3) > 0) {
+      redisTemplate.opsForStream().add(
+          StreamRecords.string(Map.of(
+              "incident", String.valueOf(incidentId),
+              "user", userId,
+              "reaction", summary.reactionType().name()))
+              .withStreamKey(keyBuilder.outboxKey(incidentId)),
+          outboxTrimming);
+    }
+
+    return summary;
   }
 }
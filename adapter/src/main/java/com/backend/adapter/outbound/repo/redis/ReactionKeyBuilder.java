@@ -1,19 +1,63 @@
 package com.backend.adapter.outbound.repo.redis;
 
+import java.util.List;
+import java.util.stream.IntStream;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 /**
  * Centralises Redis key naming for incident reaction sets to ensure consistent reads/writes.
+ * The incident id is a hash tag, so both sets of an incident land in the same cluster slot and
+ * can be used together in one script.
+ *
+ * <p>The outbox is split into {@code reaction.outbox.shards} streams by incident id. Every shard
+ * has its own hash tag, shared with its dead-letter stream, so the shards spread over the nodes of
+ * a cluster.</p>
  */
 @Component
 public class ReactionKeyBuilder {
   private static final String INCIDENT_NAMESPACE = "incident";
+  private static final String REACTION_OUTBOX = "reactions:outbox";
+
+  private final int outboxShards;
+
+  public ReactionKeyBuilder(@Value("${reaction.outbox.shards:8}") int outboxShards) {
+    if (outboxShards < 1) throw new IllegalArgumentException("At least one outbox shard is needed");
+
+    this.outboxShards = outboxShards;
+  }
 
   public String likesKey(long incidentId) {
-    return INCIDENT_NAMESPACE + ":" + incidentId + ":likes";
+    return INCIDENT_NAMESPACE + ":{" + incidentId + "}:likes";
   }
 
   public String dislikesKey(long incidentId) {
-    return INCIDENT_NAMESPACE + ":" + incidentId + ":dislikes";
+    return INCIDENT_NAMESPACE + ":{" + incidentId + "}:dislikes";
+  }
+
+  /**
+   * @return outbox stream receiving the reaction changes of the incident, drained into Postgres by
+   *     {@link ReactionOutboxFlusher}
+   */
+  public String outboxKey(long incidentId) {
+    return outboxKey((int) Math.floorMod(incidentId, (long) outboxShards));
+  }
+
+  /**
+   * @return every outbox stream
+   */
+  public List<String> outboxKeys() {
+    return IntStream.range(0, outboxShards).mapToObj(this::outboxKey).toList();
+  }
+
+  /**
+   * @return stream keeping the entries of the outbox that could not be written to Postgres
+   */
+  public String deadLetterKey(String outboxKey) {
+    return outboxKey + ":dead";
+  }
+
+  private String outboxKey(int shard) {
+    return REACTION_OUTBOX + ":{shard-" + shard + "}";
   }
 }
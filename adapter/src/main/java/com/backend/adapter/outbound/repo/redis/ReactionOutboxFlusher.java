@@ -0,0 +1,220 @@
+package com.backend.adapter.outbound.repo.redis;
+
+import com.backend.port.inbound.commands.ReactionType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.Record;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Carries reaction changes from the Redis outbox stream into the {@code reactions} table, so
+ * reactions stay off Postgres on the request path but are durable within one flush interval.
+ *
+ * <p>Each run drains every outbox shard: it reads the oldest entries, keeps only the latest
+ * reaction of every user per incident, writes them with one JDBC batch of upserts (and one of
+ * deletes for withdrawn reactions) and then removes the entries from the stream. Entries are only
+ * removed after the write succeeded, so a failed run is retried on the next one. Writes are
+ * idempotent and never replace a newer reaction, so several instances may drain the same stream.</p>
+ *
+ * <p>Reactions of incidents or users that no longer exist are dropped. An entry that cannot be
+ * parsed, or whose write violates a constraint, would block its shard forever; it is moved to the
+ * shard's dead-letter stream instead, trimmed like the outbox, and counted in
+ * {@code reaction.outbox.dead-lettered}. When a batch hits such a violation it is written change
+ * by change to find the offending entries.</p>
+ */
+@Slf4j
+@Component
+@Profile("!embedded-reactions")
+@ConditionalOnProperty(name = "reaction.outbox.enabled", havingValue = "true", matchIfMissing = true)
+public class ReactionOutboxFlusher {
+
+  private static final String UPSERT_REACTION = """
+      INSERT INTO reactions (id, incident_id, user_uid, reaction_type, reacted_at)
+      SELECT nextval('reaction_id_seq'), i.id, u.firebase_uid, ?, ?
+      FROM incidents i
+      JOIN users u ON u.firebase_uid = ?
+      WHERE i.id = ?
+      ON CONFLICT (incident_id, user_uid) DO UPDATE
+      SET reaction_type = EXCLUDED.reaction_type,
+          reacted_at = EXCLUDED.reacted_at
+      WHERE reactions.reacted_at <= EXCLUDED.reacted_at
+      """;
+
+  private static final String DELETE_REACTION = """
+      DELETE FROM reactions
+      WHERE incident_id = ? AND user_uid = ? AND reacted_at <= ?
+      """;
+
+  private final StringRedisTemplate redisTemplate;
+  private final ReactionKeyBuilder keyBuilder;
+  private final JdbcTemplate jdbcTemplate;
+  private final int batchSize;
+  private final XAddOptions deadLetterTrimming;
+  private final Counter flushedReactions;
+  private final Counter deadLettered;
+
+  public ReactionOutboxFlusher(
+      StringRedisTemplate redisTemplate,
+      ReactionKeyBuilder keyBuilder,
+      JdbcTemplate jdbcTemplate,
+      @Value("${reaction.outbox.batch-size:1000}") int batchSize,
+      @Value("${reaction.outbox.max-length:1000000}") long maxLength,
+      MeterRegistry meterRegistry) {
+
+    this.redisTemplate = redisTemplate;
+    this.keyBuilder = keyBuilder;
+    this.jdbcTemplate = jdbcTemplate;
+    this.batchSize = batchSize;
+    this.deadLetterTrimming = XAddOptions.maxlen(maxLength).approximateTrimming(true);
+    this.flushedReactions = meterRegistry.counter("reaction.outbox.flushed");
+    this.deadLettered = meterRegistry.counter("reaction.outbox.dead-lettered");
+  }
+
+  /**
+   * Drains every outbox shard batch by batch until it is empty. A shard that fails is retried on
+   * the next flush without holding up the others.
+   */
+  @Scheduled(fixedDelayString = "${reaction.outbox.flush-ms:1000}")
+  public void flush() {
+    for (String outboxKey : keyBuilder.outboxKeys()) {
+      try {
+        while (flushBatch(outboxKey) == batchSize) {
+          log.debug("Reaction outbox {} still has entries, flushing the next batch", outboxKey);
+        }
+      } catch (RuntimeException e) {
+        log.warn("Failed to flush the reaction outbox {}, retrying on the next flush", outboxKey, e);
+      }
+    }
+  }
+
+  /**
+   * @return number of outbox entries drained
+   */
+  int flushBatch(String outboxKey) {
+    final List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream()
+        .range(outboxKey, Range.unbounded(), Limit.limit().count(batchSize));
+    if (records == null || records.isEmpty()) return 0;
+
+    final Map<ReactionKey, ReactionChange> latest = new LinkedHashMap<>();
+    final Map<ReactionKey, List<MapRecord<String, Object, Object>>> entries = new LinkedHashMap<>();
+    final List<MapRecord<String, Object, Object>> poison = new ArrayList<>();
+    for (MapRecord<String, Object, Object> record : records) {
+      final ReactionChange change = ReactionChange.from(record);
+      if (change == null) {
+        poison.add(record);
+      } else {
+        latest.put(change.key(), change);
+        entries.computeIfAbsent(change.key(), key -> new ArrayList<>()).add(record);
+      }
+    }
+
+    try {
+      write(latest.values());
+    } catch (DataIntegrityViolationException e) {
+      log.warn("Reaction outbox {} has entries violating constraints, writing them one by one", outboxKey, e);
+      for (ReactionKey rejected : writeEach(latest.values())) {
+        poison.addAll(entries.get(rejected));
+        latest.remove(rejected);
+      }
+    }
+
+    deadLetter(outboxKey, poison);
+    redisTemplate.opsForStream().delete(outboxKey, records.stream().map(Record::getId).toArray(RecordId[]::new));
+    flushedReactions.increment(latest.size());
+    return records.size();
+  }
+
+  /**
+   * Writes the changes one at a time.
+   *
+   * @return the changes that violate a constraint
+   */
+  private List<ReactionKey> writeEach(Collection<ReactionChange> changes) {
+    final List<ReactionKey> rejected = new ArrayList<>();
+    for (ReactionChange change : List.copyOf(changes)) {
+      try {
+        write(List.of(change));
+      } catch (DataIntegrityViolationException e) {
+        log.warn("Dead-lettering reaction of user {} to incident {}", change.userUid(), change.incidentId(), e);
+        rejected.add(change.key());
+      }
+    }
+    return rejected;
+  }
+
+  private void deadLetter(String outboxKey, List<MapRecord<String, Object, Object>> records) {
+    final String deadLetterKey = keyBuilder.deadLetterKey(outboxKey);
+    for (MapRecord<String, Object, Object> record : records) {
+      redisTemplate.opsForStream().add(
+          StreamRecords.newRecord().in(deadLetterKey).ofMap(record.getValue()), deadLetterTrimming);
+      deadLettered.increment();
+    }
+  }
+
+  private void write(Collection<ReactionChange> changes) {
+    final List<Object[]> upserts = changes.stream()
+        .filter(change -> change.type() != ReactionType.NONE)
+        .map(change -> new Object[] {
+            change.type().name(), Timestamp.from(change.at()), change.userUid(), change.incidentId()})
+        .toList();
+    final List<Object[]> deletes = changes.stream()
+        .filter(change -> change.type() == ReactionType.NONE)
+        .map(change -> new Object[] {change.incidentId(), change.userUid(), Timestamp.from(change.at())})
+        .toList();
+
+    if (!upserts.isEmpty()) {
+      jdbcTemplate.batchUpdate(UPSERT_REACTION, upserts);
+    }
+    if (!deletes.isEmpty()) {
+      jdbcTemplate.batchUpdate(DELETE_REACTION, deletes);
+    }
+  }
+
+  record ReactionKey(long incidentId, String userUid) { }
+
+  /**
+   * A user's reaction to an incident as appended by the reaction script; the stream entry id
+   * carries the time of the change.
+   */
+  record ReactionChange(long incidentId, String userUid, ReactionType type, Instant at) {
+
+    ReactionKey key() {
+      return new ReactionKey(incidentId, userUid);
+    }
+
+    static ReactionChange from(MapRecord<String, Object, Object> record) {
+      try {
+        final Map<Object, Object> fields = record.getValue();
+        return new ReactionChange(
+            Long.parseLong(String.valueOf(fields.get("incident"))),
+            String.valueOf(fields.get("user")),
+            ReactionType.valueOf(String.valueOf(fields.get("reaction"))),
+            Instant.ofEpochMilli(record.getId().getTimestamp()));
+      } catch (IllegalArgumentException e) {
+        log.warn("Malformed reaction outbox entry {}", record.getId(), e);
+        return null;
+      }
+    }
+  }
+}
@@ -0,0 +1,165 @@
+package com.backend.adapter.outbound.storage;
+
+import com.backend.domain.media.Media;
+import com.backend.port.outbound.repo.MediaRepository;
+import com.backend.port.outbound.storage.MediaProcessingPort;
+import com.backend.port.outbound.storage.ObjectStoragePort;
+import jakarta.annotation.PreDestroy;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link MediaProcessingPort} that generates JPEG previews of uploaded images with ImageIO.
+ *
+ * <p>Each image is downloaded and decoded once, on a small dedicated pool so that decoding never
+ * competes with request threads. Large images are subsampled while decoding, so a 12 MP photo is
+ * never fully materialized in memory just to produce a list-cell thumbnail. The preview is stored
+ * next to the original ({@code <key>.preview.jpg}), recorded on the media row and announced with a
+ * {@link MediaPreviewRecordedEvent}; until then, list views fall back to the original.</p>
+ *
+ * <p>Images already within the preview size, and formats ImageIO cannot read, are left alone.</p>
+ */
+@Slf4j
+@Component
+public class ImageThumbnailProcessor implements MediaProcessingPort {
+
+  static final String PREVIEW_SUFFIX = ".preview.jpg";
+
+  private final ObjectStoragePort objectStoragePort;
+  private final MediaRepository mediaRepository;
+  private final ApplicationEventPublisher eventPublisher;
+  private final int maxEdge;
+  private final ExecutorService executor;
+
+  public ImageThumbnailProcessor(
+      ObjectStoragePort objectStoragePort,
+      MediaRepository mediaRepository,
+      ApplicationEventPublisher eventPublisher,
+      @Value("${media.preview.max-edge:320}") int maxEdge,
+      @Value("${media.preview.threads:2}") int threads) {
+
+    this.objectStoragePort = objectStoragePort;
+    this.mediaRepository = mediaRepository;
+    this.eventPublisher = eventPublisher;
+    this.maxEdge = maxEdge;
+    this.executor = Executors.newFixedThreadPool(threads, Thread.ofPlatform()
+        .name("media-preview-", 0)
+        .daemon(true)
+        .factory());
+
+    // Decode from memory instead of spilling every stream to a temp file.
+    ImageIO.setUseCache(false);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdownNow();
+  }
+
+  @Override
+  public void generatePreviews(Set<Media> media) {
+    if (media == null || media.isEmpty()) return;
+
+    media.stream()
+        .filter(Media::isImage)
+        .filter(item -> item.previewFilename() == null)
+        .forEach(item -> executor.execute(() -> generatePreview(item)));
+  }
+
+  void generatePreview(Media media) {
+    try {
+      final BufferedImage preview;
+      try (InputStream original = objectStoragePort.get(media.filename())) {
+        preview = decodeScaled(original, maxEdge);
+      }
+      if (preview == null) return;
+
+      final byte[] jpeg = encodeJpeg(preview);
+      final String previewKey = media.filename() + PREVIEW_SUFFIX;
+
+      objectStoragePort.put(previewKey, new ByteArrayInputStream(jpeg), jpeg.length, "image/jpeg");
+      mediaRepository.updatePreviewKey(media.filename(), previewKey);
+      eventPublisher.publishEvent(new MediaPreviewRecordedEvent(media.filename(), previewKey));
+
+    } catch (Exception e) {
+      log.warn("Failed to generate preview for {}", media.filename(), e);
+    }
+  }
+
+  /**
+   * Decodes the image subsampled to roughly twice the target size and scales it down to fit
+   * {@code maxEdge}.
+   *
+   * @return the scaled image, or {@code null} if the format is unsupported or the image is
+   * already small enough
+   */
+  static BufferedImage decodeScaled(InputStream in, int maxEdge) throws IOException {
+    try (ImageInputStream stream = ImageIO.createImageInputStream(in)) {
+      if (stream == null) return null;
+
+      final Iterator<ImageReader> readers = ImageIO.getImageReaders(stream);
+      if (!readers.hasNext()) return null;
+
+      final ImageReader reader = readers.next();
+      try {
+        reader.setInput(stream, true, true);
+        final int width = reader.getWidth(0);
+        final int height = reader.getHeight(0);
+        if (Math.max(width, height) <= maxEdge) return null;
+
+        final ImageReadParam param = reader.getDefaultReadParam();
+        final int step = Math.max(1, Math.max(width, height) / (maxEdge * 2));
+        param.setSourceSubsampling(step, step, 0, 0);
+
+        return scale(reader.read(0, param), maxEdge);
+      } finally {
+        reader.dispose();
+      }
+    }
+  }
+
+  private static BufferedImage scale(BufferedImage source, int maxEdge) {
+    final double ratio = (double) maxEdge / Math.max(source.getWidth(), source.getHeight());
+    final int width = Math.max(1, (int) Math.round(source.getWidth() * ratio));
+    final int height = Math.max(1, (int) Math.round(source.getHeight() * ratio));
+
+    final BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+    final Graphics2D graphics = target.createGraphics();
+    try {
+      graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+      graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+      graphics.setColor(Color.WHITE);
+      graphics.fillRect(0, 0, width, height);
+      graphics.drawImage(source, 0, 0, width, height, null);
+    } finally {
+      graphics.dispose();
+    }
+    return target;
+  }
+
+  private static byte[] encodeJpeg(BufferedImage image) throws IOException {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    if (!ImageIO.write(image, "jpg", out))
+      throw new IOException("No JPEG writer available");
+
+    return out.toByteArray();
+  }
+}
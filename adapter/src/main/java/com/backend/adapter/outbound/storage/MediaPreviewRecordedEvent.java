@@ -0,0 +1,10 @@
+package com.backend.adapter.outbound.storage;
+
+/**
+ * Published by {@link ImageThumbnailProcessor} once a preview has been stored and recorded on its
+ * media row, so copies of the media held in memory can switch to the preview.
+ *
+ * @param key        object storage key of the original media
+ * @param previewKey object storage key of the preview
+ */
+public record MediaPreviewRecordedEvent(String key, String previewKey) { }
@@ -3,60 +3,151 @@ package com.backend.adapter.outbound.storage;
 import com.backend.domain.media.Media;
 import com.backend.port.inbound.commands.UploadMediaCommand;
 import com.backend.port.outbound.storage.ObjectStoragePort;
+import com.backend.port.outbound.storage.PresignedUpload;
+import com.backend.port.outbound.storage.StoredObject;
 import io.minio.BucketExistsArgs;
+import io.minio.GetObjectArgs;
 import io.minio.MakeBucketArgs;
 import io.minio.MinioClient;
+import io.minio.PostPolicy;
+import io.minio.PutObjectArgs;
 import io.minio.RemoveObjectsArgs;
 import io.minio.Result;
+import io.minio.StatObjectArgs;
+import io.minio.StatObjectResponse;
+import io.minio.errors.ErrorResponseException;
 import io.minio.http.Method;
 import io.minio.messages.DeleteError;
 import io.minio.messages.DeleteObject;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.InputStream;
 import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 
 /**
  * MinIO adapter implementing {@link ObjectStoragePort}.
+ *
+ * <p>Uploads of one request run in parallel on virtual threads. A shared semaphore caps the number
+ * of uploads in flight across all requests, and each upload has its own timeout that starts once it
+ * holds a permit, so time spent queueing behind other requests does not count against it. If any
+ * upload of a batch fails, the objects already stored for that batch are removed again, including
+ * objects whose upload completes only after the batch was given up.</p>
  */
+@Slf4j
 @Repository
-@RequiredArgsConstructor
 public class MinioObjectStorageAdapter implements ObjectStoragePort {
 
+  private static final long MULTIPART_PART_SIZE = 10L * 1024 * 1024;
+  private static final int DEFAULT_MAX_CONCURRENT_UPLOADS = 16;
+  private static final Duration DEFAULT_UPLOAD_TIMEOUT = Duration.ofSeconds(30);
+
   private final MinioClient minioClient;
   private final String bucket;
+  private final String bucketUrl;
+  private final Semaphore uploadPermits;
+  private final Duration uploadTimeout;
+  private final ExecutorService uploadExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+  private volatile boolean bucketReady;
+
+  public MinioObjectStorageAdapter(MinioClient minioClient, String bucket, String endpoint) {
+    this(minioClient, bucket, endpoint, DEFAULT_MAX_CONCURRENT_UPLOADS, DEFAULT_UPLOAD_TIMEOUT.toMillis());
+  }
+
+  @Autowired
+  public MinioObjectStorageAdapter(
+      MinioClient minioClient,
+      String bucket,
+      @Value("${minio.endpoint}") String endpoint,
+      @Value("${minio.upload.max-concurrent:16}") int maxConcurrentUploads,
+      @Value("${minio.upload.timeout-ms:30000}") long uploadTimeoutMs) {
+
+    if (maxConcurrentUploads <= 0)
+      throw new IllegalArgumentException("Upload concurrency must be positive");
+
+    this.minioClient = minioClient;
+    this.bucket = bucket;
+    this.bucketUrl = endpoint.replaceAll("/+$", "") + "/" + bucket;
+    this.uploadPermits = new Semaphore(maxConcurrentUploads);
+    this.uploadTimeout = Duration.ofMillis(uploadTimeoutMs);
+  }
 
   /**
-   * Uploads all media, creating the bucket if needed.
+   * Makes sure the bucket exists once at startup, so the upload path does not pay for a
+   * {@code bucketExists} round trip per request. If MinIO is unreachable at startup, the check is
+   * retried on the first upload instead.
+   */
+  @PostConstruct
+  public void initBucket() {
+    try {
+      ensureBucket();
+    } catch (Exception e) {
+      log.warn("Could not verify MinIO bucket {} at startup, will retry on first upload", bucket, e);
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    uploadExecutor.shutdownNow();
+  }
+
+  /**
+   * Uploads all media in parallel and returns once every upload has finished.
+   *
+   * <p>On the first failure or timeout the remaining uploads are cancelled and every object that
+   * did make it to the bucket is deleted before the error is rethrown.</p>
    */
   @Override
   public Set<Media> uploadAll(Set<UploadMediaCommand> uploads) throws Exception {
     if (uploads == null || uploads.isEmpty()) return Set.of();
 
-    if (!minioClient.bucketExists(BucketExistsArgs.builder().bucket(bucket).build()))
-      minioClient.makeBucket(MakeBucketArgs.builder()
-          .bucket(bucket)
-          .build());
-
-    Set<Media> out = new HashSet<>();
+    if (!bucketReady) ensureBucket();
 
+    final List<PendingUpload> pending = new ArrayList<>(uploads.size());
+    final AtomicBoolean abandoned = new AtomicBoolean();
     for (UploadMediaCommand upload : uploads) {
-      String key = uuidPlusName(upload.filename());
-
-      try (var in = upload.stream()) {
-        minioClient.putObject(
-            io.minio.PutObjectArgs.builder()
-                .bucket(bucket)
-                .object(key)
-                .stream(in, -1, 10485760)
-                .contentType(upload.contentType())
-                .build());
-        out.add(new Media(upload.size(), key, upload.contentType()));
+      final String key = uuidPlusName(upload.filename());
+      pending.add(new PendingUpload(key, uploadExecutor.submit(() -> upload(key, upload, abandoned))));
+    }
+
+    final Set<Media> out = new HashSet<>();
+    try {
+      for (PendingUpload upload : pending) {
+        out.add(upload.future().get());
       }
+      return out;
+
+    } catch (ExecutionException | InterruptedException e) {
+      abandoned.set(true);
+      pending.forEach(upload -> upload.future().cancel(true));
+      cleanUp(pending);
+
+      if (e instanceof InterruptedException) Thread.currentThread().interrupt();
+      if (e instanceof ExecutionException && e.getCause() instanceof Exception cause) throw cause;
+      throw e;
     }
-    return out;
   }
 
   /**
@@ -96,19 +187,152 @@ public class MinioObjectStorageAdapter implements ObjectStoragePort {
   }
 
   /**
-   * Creates a presigned PUT URL with max 7 days expiry.
+   * Creates a presigned POST policy with max 7 days expiry. The policy pins the key and content
+   * type and caps the size, so the form cannot be reused to store anything else.
    */
   @Override
-  public String presignPut(String key, Duration ttl) throws Exception {
-    int seconds = (int) Math.min(ttl.toSeconds(), 7 * 24 * 3600);
+  public PresignedUpload presignUpload(String key, Duration ttl, String contentType, long maxBytes)
+      throws Exception {
 
-    return minioClient.getPresignedObjectUrl(
-        io.minio.GetPresignedObjectUrlArgs.builder()
-            .method(Method.PUT)
-            .bucket(bucket)
-            .object(key)
-            .expiry(seconds)
-            .build());
+    final long seconds = Math.min(ttl.toSeconds(), 7 * 24 * 3600);
+    final PostPolicy policy = new PostPolicy(bucket, ZonedDateTime.now(ZoneOffset.UTC).plusSeconds(seconds));
+    policy.addEqualsCondition("key", key);
+    policy.addEqualsCondition("Content-Type", contentType);
+    policy.addContentLengthRangeCondition(1L, maxBytes);
+
+    final Map<String, String> formFields = new LinkedHashMap<>(minioClient.getPresignedPostFormData(policy));
+    formFields.put("key", key);
+    formFields.put("Content-Type", contentType);
+
+    return new PresignedUpload(bucketUrl, formFields);
+  }
+
+  @Override
+  public InputStream get(String key) throws Exception {
+    return minioClient.getObject(GetObjectArgs.builder()
+        .bucket(bucket)
+        .object(key)
+        .build());
+  }
+
+  @Override
+  public void put(String key, InputStream content, long size, String contentType) throws Exception {
+    if (!bucketReady) ensureBucket();
+
+    minioClient.putObject(PutObjectArgs.builder()
+        .bucket(bucket)
+        .object(key)
+        .stream(content, size, -1)
+        .contentType(contentType)
+        .build());
+  }
+
+  /**
+   * Reads object metadata with a HEAD request; a missing object yields an empty result.
+   */
+  @Override
+  public Optional<StoredObject> stat(String key) throws Exception {
+    try {
+      StatObjectResponse response = minioClient.statObject(StatObjectArgs.builder()
+          .bucket(bucket)
+          .object(key)
+          .build());
+
+      return Optional.of(new StoredObject(key, response.size(), response.contentType()));
+
+    } catch (ErrorResponseException e) {
+      String code = e.errorResponse().code();
+      if ("NoSuchKey".equals(code) || "NoSuchObject".equals(code)) return Optional.empty();
+      throw e;
+    }
+  }
+
+  private synchronized void ensureBucket() throws Exception {
+    if (bucketReady) return;
+
+    if (!minioClient.bucketExists(BucketExistsArgs.builder().bucket(bucket).build()))
+      minioClient.makeBucket(MakeBucketArgs.builder()
+          .bucket(bucket)
+          .build());
+
+    bucketReady = true;
+  }
+
+  /**
+   * Waits for an upload permit, then streams one object to MinIO within the upload timeout.
+   *
+   * <p>The permit is held until the transfer itself ends, even past the timeout, so the cap on
+   * uploads in flight stays accurate. A transfer that completes after its batch was abandoned
+   * deletes its object, since the batch clean-up may already have run.</p>
+   */
+  private Media upload(String key, UploadMediaCommand upload, AtomicBoolean abandoned) throws Exception {
+    uploadPermits.acquire();
+    final Future<Media> transfer;
+    try {
+      transfer = uploadExecutor.submit(() -> {
+        try {
+          final Media media = store(key, upload);
+          if (abandoned.get()) deleteLate(key);
+          return media;
+        } finally {
+          uploadPermits.release();
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      uploadPermits.release();
+      throw e;
+    }
+
+    try {
+      return transfer.get(uploadTimeout.toNanos(), TimeUnit.NANOSECONDS);
+    } catch (TimeoutException | InterruptedException e) {
+      transfer.cancel(true);
+      throw e;
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof Exception cause) throw cause;
+      throw e;
+    }
+  }
+
+  /**
+   * Streams one object to MinIO. A known size is passed through so the client can send a single
+   * request instead of buffering fixed-size multipart chunks.
+   */
+  private Media store(String key, UploadMediaCommand upload) throws Exception {
+    try (var in = upload.stream()) {
+      final boolean sizeKnown = upload.size() > 0;
+      minioClient.putObject(
+          PutObjectArgs.builder()
+              .bucket(bucket)
+              .object(key)
+              .stream(in, sizeKnown ? upload.size() : -1, sizeKnown ? -1 : MULTIPART_PART_SIZE)
+              .contentType(upload.contentType())
+              .build());
+      return new Media(upload.size(), key, upload.contentType());
+    }
+  }
+
+  private void deleteLate(String key) {
+    try {
+      deleteAllByKeys(Set.of(key));
+    } catch (Exception e) {
+      log.warn("Failed to delete object {} stored after its upload batch was abandoned", key, e);
+    }
+  }
+
+  /**
+   * Removes whatever part of a failed batch was stored. Keys whose upload never completed are
+   * included as well, since a cancelled upload may still have reached the bucket.
+   */
+  private void cleanUp(List<PendingUpload> pending) {
+    final Set<String> keys = new HashSet<>();
+    pending.forEach(upload -> keys.add(upload.key()));
+
+    try {
+      deleteAllByKeys(keys);
+    } catch (Exception e) {
+      log.warn("Failed to clean up {} objects after a failed upload batch", keys.size(), e);
+    }
   }
 
   private static String uuidPlusName(String name){
@@ -118,4 +342,6 @@ public class MinioObjectStorageAdapter implements ObjectStoragePort {
 
     return java.util.UUID.randomUUID() + "-" + safe;
   }
+
+  private record PendingUpload(String key, Future<Media> future) { }
 }
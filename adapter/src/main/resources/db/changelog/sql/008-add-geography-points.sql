@@ -0,0 +1,22 @@
+-- ===========================
+-- GEOGRAPHY POINTS
+-- ===========================
+-- Locations keep lat/lng as the source of truth; the geography point is derived from them
+-- so radius queries can use a GiST index instead of building a point per row.
+ALTER TABLE locations
+    ADD COLUMN IF NOT EXISTS geog geography(Point, 4326)
+    GENERATED ALWAYS AS (ST_SetSRID(ST_MakePoint(lng, lat), 4326)::geography) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_locations_geog ON locations USING GIST (geog);
+
+-- Incidents carry a denormalized copy of their location point so the range query
+-- does not need to join locations at all.
+ALTER TABLE incidents ADD COLUMN IF NOT EXISTS geog geography(Point, 4326);
+
+UPDATE incidents i
+SET geog = l.geog
+FROM locations l
+WHERE l.id = i.location_id
+  AND i.geog IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_incidents_geog ON incidents USING GIST (geog);
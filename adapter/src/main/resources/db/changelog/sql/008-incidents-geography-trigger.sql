@@ -0,0 +1,13 @@
+-- Keeps incidents.geog in sync with the referenced location.
+CREATE OR REPLACE FUNCTION incidents_copy_location_geog() RETURNS trigger AS $$
+BEGIN
+    SELECT l.geog INTO NEW.geog FROM locations l WHERE l.id = NEW.location_id;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_incidents_geog ON incidents;
+
+CREATE TRIGGER trg_incidents_geog
+    BEFORE INSERT OR UPDATE OF location_id ON incidents
+    FOR EACH ROW EXECUTE FUNCTION incidents_copy_location_geog();
@@ -0,0 +1,25 @@
+-- ===========================
+-- LOCATION CELL KEY
+-- ===========================
+-- Every location claims the ~11 m grid cell it falls in ("<latIndex>:<lonIndex>" at 0.0001 degrees,
+-- see GeoCell#key). The unique index lets concurrent creates for the same spot converge on one row
+-- through INSERT ... ON CONFLICT instead of racing.
+ALTER TABLE locations ADD COLUMN IF NOT EXISTS cell_key VARCHAR(64);
+
+-- Older rows may already share a cell; the oldest one claims it and the rest keep a NULL key.
+WITH ranked AS (
+    SELECT id,
+           floor(lat / 0.0001::float8)::bigint || ':' || floor(lng / 0.0001::float8)::bigint AS cell_key,
+           row_number() OVER (
+               PARTITION BY floor(lat / 0.0001::float8), floor(lng / 0.0001::float8)
+               ORDER BY id) AS rn
+    FROM locations
+)
+UPDATE locations l
+SET cell_key = ranked.cell_key
+FROM ranked
+WHERE ranked.id = l.id
+  AND ranked.rn = 1
+  AND l.cell_key IS NULL;
+
+CREATE UNIQUE INDEX IF NOT EXISTS uq_locations_cell_key ON locations (cell_key);
@@ -0,0 +1,14 @@
+-- ===========================
+-- UNIQUE INCIDENT REACTIONS
+-- ===========================
+-- A user holds at most one reaction per incident. The unique index lets the reaction outbox
+-- flusher write each user's latest reaction with INSERT ... ON CONFLICT.
+
+-- Older duplicates are collapsed onto the most recent reaction.
+DELETE FROM reactions r
+USING reactions newer
+WHERE r.incident_id = newer.incident_id
+  AND r.user_uid = newer.user_uid
+  AND (r.reacted_at, r.id) < (newer.reacted_at, newer.id);
+
+CREATE UNIQUE INDEX IF NOT EXISTS uq_reactions_incident_user ON reactions (incident_id, user_uid);
@@ -0,0 +1,18 @@
+-- ===========================
+-- COMMENT PAGINATION
+-- ===========================
+-- Comments are read one page at a time per incident, newest first, with keyset pagination on
+-- (created_at, id). The number of comments is kept on the incident so it is never counted.
+
+CREATE INDEX IF NOT EXISTS idx_comments_incident_created ON comments (incident_id, created_at, id);
+
+ALTER TABLE incidents ADD COLUMN IF NOT EXISTS comment_count INTEGER NOT NULL DEFAULT 0;
+
+UPDATE incidents i
+SET comment_count = c.total
+FROM (
+    SELECT incident_id, COUNT(*) AS total
+    FROM comments
+    GROUP BY incident_id
+) c
+WHERE i.id = c.incident_id;
@@ -0,0 +1,15 @@
+-- ===========================
+-- MEDIA UPLOADS
+-- ===========================
+-- Object keys handed out for direct uploads. A key can be attached to one incident only; keys
+-- never attached before expires_at are swept together with their objects.
+
+CREATE TABLE IF NOT EXISTS media_uploads (
+    key         VARCHAR(255) NOT NULL PRIMARY KEY,
+    user_uid    VARCHAR(255) NOT NULL,
+    expires_at  TIMESTAMP WITH TIME ZONE NOT NULL,
+    attached_at TIMESTAMP WITH TIME ZONE
+);
+
+CREATE INDEX IF NOT EXISTS idx_media_uploads_unattached
+    ON media_uploads (expires_at) WHERE attached_at IS NULL;
@@ -0,0 +1,111 @@
+package com.backend.adapter.inbound.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.backend.adapter.inbound.dto.request.CommentRequestDto;
+import com.backend.adapter.inbound.dto.response.CommentResponseDto;
+import com.backend.domain.actor.Comment;
+import com.backend.domain.actor.CommentId;
+import com.backend.domain.actor.Role;
+import com.backend.domain.actor.User;
+import com.backend.domain.actor.UserId;
+import com.backend.domain.happening.HappeningId;
+import com.backend.port.inbound.CommentUseCase;
+import com.backend.port.inbound.commands.CommentTextCommand;
+import com.backend.port.inbound.commands.CursorPage;
+import com.backend.services.UserService;
+import com.backend.services.exceptions.CommentNotOwnedException;
+import com.backend.services.exceptions.IncidentNotFoundException;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+@ExtendWith(MockitoExtension.class)
+class CommentControllerTest {
+
+  private static final Instant CREATED_AT = Instant.parse("2026-10-17T10:00:00Z");
+
+  @Mock private CommentUseCase commentUseCase;
+  @Mock private UserService userService;
+
+  @InjectMocks private CommentController controller;
+
+  @Test
+  void findCommentsReturnsPageWithCursorAndTotalCount() {
+    when(commentUseCase.countByIncidentId(7L)).thenReturn(31);
+    when(commentUseCase.findByIncidentId(7L, null)).thenReturn(new CursorPage<>(List.of(comment()), "next"));
+
+    ResponseEntity<List<CommentResponseDto>> response = controller.findComments(7L, null);
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getBody()).containsExactly(
+        new CommentResponseDto(42L, 7L, "firebase-1", "Still blocked", CREATED_AT));
+    assertThat(response.getHeaders().getFirst(CursorHeaders.NEXT_CURSOR)).isEqualTo("next");
+    assertThat(response.getHeaders().getFirst(CursorHeaders.TOTAL_COUNT)).isEqualTo("31");
+  }
+
+  @Test
+  void findCommentsOfMissingIncidentIsNotFound() {
+    when(commentUseCase.countByIncidentId(7L)).thenThrow(new IncidentNotFoundException("missing"));
+
+    ResponseEntity<List<CommentResponseDto>> response = controller.findComments(7L, null);
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+  }
+
+  @Test
+  void createCommentsAsAuthenticatedUser() {
+    when(userService.getUser()).thenReturn(Optional.of(user()));
+    when(commentUseCase.create(7L, "firebase-1", new CommentTextCommand("Still blocked"))).thenReturn(comment());
+
+    ResponseEntity<CommentResponseDto> response = controller.create(7L, new CommentRequestDto("Still blocked"));
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+    assertThat(response.getBody().id()).isEqualTo(42L);
+  }
+
+  @Test
+  void createRequiresAuthentication() {
+    when(userService.getUser()).thenReturn(Optional.empty());
+
+    ResponseEntity<CommentResponseDto> response = controller.create(7L, new CommentRequestDto("Still blocked"));
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+    verifyNoInteractions(commentUseCase);
+  }
+
+  @Test
+  void deleteOfAnotherUsersCommentIsForbidden() {
+    when(userService.getUser()).thenReturn(Optional.of(user()));
+    doThrow(new CommentNotOwnedException("not yours"))
+        .when(commentUseCase).delete(7L, 42L, "firebase-1");
+
+    ResponseEntity<Void> response = controller.delete(7L, 42L);
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+  }
+
+  private static Comment comment() {
+    return Comment.builder()
+        .id(new CommentId(42L))
+        .text("Still blocked")
+        .happeningId(new HappeningId(7L))
+        .userId(new UserId("firebase-1"))
+        .createdAt(CREATED_AT)
+        .build();
+  }
+
+  private static User user() {
+    return new User(new UserId("firebase-1"), "jane@example.com", "Jane", null, Role.USER, true, null, 5);
+  }
+}
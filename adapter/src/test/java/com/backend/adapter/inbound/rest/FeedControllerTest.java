@@ -7,23 +7,22 @@ import static org.mockito.Mockito.when;
 
 import com.backend.adapter.inbound.dto.request.RadiusRequestDto;
 import com.backend.adapter.inbound.dto.response.incident.IncidentPreviewResponseDto;
+import com.backend.adapter.inbound.dto.response.incident.IncidentTileTopicsDto;
 import com.backend.adapter.inbound.mapper.IncidentResponseMapper;
-import com.backend.domain.actor.UserId;
-import com.backend.domain.happening.Incident;
-import com.backend.domain.happening.IncidentId;
-import com.backend.domain.location.LocationId;
-import com.backend.domain.media.Media;
-import com.backend.domain.reactions.EngagementStats;
-import com.backend.domain.reactions.SentimentEngagement;
+import com.backend.adapter.inbound.websocket.IncidentTiles;
 import com.backend.port.inbound.IncidentUseCase;
+import com.backend.port.inbound.commands.CursorPage;
+import com.backend.port.inbound.commands.IncidentPreview;
 import com.backend.port.inbound.commands.RadiusCommand;
 import com.backend.services.exceptions.InvalidCoordinatesException;
+import java.time.Instant;
 import java.util.List;
 import java.util.Set;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -33,31 +32,82 @@ class FeedControllerTest {
 
   @Mock private IncidentUseCase incidentUseCase;
   @Mock private IncidentResponseMapper incidentResponseMapper;
+  @Spy private IncidentTiles incidentTiles = new IncidentTiles(0.05);
 
   @InjectMocks private FeedController feedController;
 
+  @Test
+  void findTileTopicsListsTopicsOfTilesCoveringViewport() {
+    ResponseEntity<IncidentTileTopicsDto> response = feedController.findTileTopics(44.41, 26.08, 44.46, 26.12);
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getBody().incidentTopics()).containsExactly(
+        "/topic/incident/tile/888:521", "/topic/incident/tile/888:522",
+        "/topic/incident/tile/889:521", "/topic/incident/tile/889:522");
+    assertThat(response.getBody().addressTopics()).hasSize(4)
+        .first().isEqualTo("/topic/incident/address/tile/888:521");
+  }
+
+  @Test
+  void findTileTopicsRejectsViewportCoveringTooManyTiles() {
+    ResponseEntity<IncidentTileTopicsDto> response = feedController.findTileTopics(40.0, 20.0, 45.0, 25.0);
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+  }
+
+  @Test
+  void findTileTopicsRejectsNonFiniteViewport() {
+    assertThat(feedController.findTileTopics(Double.NaN, 26.08, 44.46, 26.12).getStatusCode())
+        .isEqualTo(HttpStatus.BAD_REQUEST);
+    assertThat(feedController.findTileTopics(44.41, 26.08, 44.46, Double.NaN).getStatusCode())
+        .isEqualTo(HttpStatus.BAD_REQUEST);
+    assertThat(feedController.findTileTopics(44.41, Double.NEGATIVE_INFINITY, 44.46, 26.12).getStatusCode())
+        .isEqualTo(HttpStatus.BAD_REQUEST);
+  }
+
   @Test
   void findAllInGivenRangeReturnsMappedIncidents() {
-    RadiusRequestDto request = new RadiusRequestDto(10.0, 20.0, 500);
-    Incident incident = sampleIncident();
+    RadiusRequestDto request = new RadiusRequestDto(10.0, 20.0, 500, null);
+    IncidentPreview incident = sampleIncident();
     IncidentPreviewResponseDto preview = samplePreview();
 
-    when(incidentUseCase.findAllInGivenRange(any(RadiusCommand.class)))
-        .thenReturn(List.of(incident));
-    when(incidentResponseMapper.toIncidentPreviewResponseDto(incident)).thenReturn(preview);
+    when(incidentUseCase.findPreviewsInGivenRange(any(RadiusCommand.class)))
+        .thenReturn(new CursorPage<>(List.of(incident), null));
+    when(incidentResponseMapper.toPreviewResponseDtos(List.of(incident)))
+        .thenReturn(List.of(preview));
 
     ResponseEntity<List<IncidentPreviewResponseDto>> response =
         feedController.findAllInGivenRange(request);
 
     assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
     assertThat(response.getBody()).containsExactly(preview);
-    verify(incidentUseCase).findAllInGivenRange(any(RadiusCommand.class));
+    assertThat(response.getHeaders().containsKey("X-Next-Cursor")).isFalse();
+    verify(incidentUseCase).findPreviewsInGivenRange(any(RadiusCommand.class));
+  }
+
+  @Test
+  void findAllInGivenRangePassesCursorAndReturnsNextCursorHeader() {
+    RadiusRequestDto request = new RadiusRequestDto(10.0, 20.0, 500, "page-1");
+    IncidentPreview incident = sampleIncident();
+    IncidentPreviewResponseDto preview = samplePreview();
+
+    when(incidentUseCase.findPreviewsInGivenRange(new RadiusCommand(10.0, 20.0, 500, "page-1")))
+        .thenReturn(new CursorPage<>(List.of(incident), "page-2"));
+    when(incidentResponseMapper.toPreviewResponseDtos(List.of(incident)))
+        .thenReturn(List.of(preview));
+
+    ResponseEntity<List<IncidentPreviewResponseDto>> response =
+        feedController.findAllInGivenRange(request);
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getBody()).containsExactly(preview);
+    assertThat(response.getHeaders().getFirst("X-Next-Cursor")).isEqualTo("page-2");
   }
 
   @Test
   void findAllInGivenRangeReturnsBadRequestOnInvalidCoordinates() {
-    RadiusRequestDto request = new RadiusRequestDto(10.0, 20.0, 500);
-    when(incidentUseCase.findAllInGivenRange(any(RadiusCommand.class)))
+    RadiusRequestDto request = new RadiusRequestDto(10.0, 20.0, 500, null);
+    when(incidentUseCase.findPreviewsInGivenRange(any(RadiusCommand.class)))
         .thenThrow(new InvalidCoordinatesException("invalid"));
 
     ResponseEntity<List<IncidentPreviewResponseDto>> response =
@@ -67,17 +117,8 @@ class FeedControllerTest {
     assertThat(response.getBody()).isNull();
   }
 
-  private Incident sampleIncident() {
-    return Incident.builder()
-        .id(new IncidentId(1L))
-        .userId(new UserId("uid-1"))
-        .locationId(new LocationId(5L))
-        .title("Road closure")
-        .description("desc")
-        .media(Set.of(new Media(1, "photo.png", "image/png")))
-        .sentimentEngagement(SentimentEngagement.builder().likes(1).dislikes(0).build())
-        .engagementStats(new EngagementStats(0, 0, 0))
-        .build();
+  private IncidentPreview sampleIncident() {
+    return new IncidentPreview(1L, "Road closure", 10.0, 20.0, Instant.now(), List.of("photo.png"));
   }
 
   private IncidentPreviewResponseDto samplePreview() {
@@ -8,6 +8,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.backend.adapter.inbound.dto.media.MediaDto;
+import com.backend.adapter.inbound.dto.request.IncidentFromUploadsRequestDto;
 import com.backend.adapter.inbound.dto.request.IncidentRequestDto;
 import com.backend.adapter.inbound.dto.request.RadiusRequestDto;
 import com.backend.adapter.inbound.dto.response.incident.IncidentDetailedResponseDto;
@@ -25,6 +26,8 @@ import com.backend.domain.reactions.EngagementStats;
 import com.backend.domain.reactions.SentimentEngagement;
 import com.backend.port.inbound.IncidentUseCase;
 import com.backend.port.inbound.commands.CreateIncidentCommand;
+import com.backend.port.inbound.commands.CursorPage;
+import com.backend.port.inbound.commands.IncidentPreview;
 import com.backend.port.inbound.commands.RadiusCommand;
 import com.backend.services.UserService;
 import com.backend.services.exceptions.ActorNotFoundException;
@@ -34,6 +37,7 @@ import com.backend.services.exceptions.IncidentNotExpiredException;
 import com.backend.services.exceptions.IncidentNotFoundException;
 import com.backend.services.exceptions.InvalidCoordinatesException;
 import java.io.IOException;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -87,6 +91,44 @@ class IncidentControllerTest {
     verify(incidentUseCase).create(command);
   }
 
+  @Test
+  void createFromUploadsReturnsCreatedResponse() {
+    IncidentFromUploadsRequestDto request = new IncidentFromUploadsRequestDto(
+        "title", "description", Set.of("uploads/uid-1/abc-photo.jpg"), 10.0, 20.0);
+    CreateIncidentCommand command = CreateIncidentCommand.builder()
+        .userId(new UserId("uid-1"))
+        .title("title")
+        .description("description")
+        .mediaKeys(request.mediaKeys())
+        .lat(10.0)
+        .lon(20.0)
+        .build();
+
+    when(incidentResponseMapper.toCreateIncidentCommand(request)).thenReturn(command);
+    when(incidentUseCase.create(command)).thenReturn(incident);
+    when(incidentResponseMapper.toIncidentDetailedResponseDto(incident)).thenReturn(detailedResponse);
+
+    ResponseEntity<IncidentDetailedResponseDto> response = controller.createFromUploads(request);
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+    verify(incidentBroadcast).broadcastCreatedIncident(detailedResponse);
+  }
+
+  @Test
+  void createFromUploadsReturnsBadRequestOnRejectedKeys() {
+    IncidentFromUploadsRequestDto request = new IncidentFromUploadsRequestDto(
+        "title", "description", Set.of("uploads/other/abc.jpg"), 10.0, 20.0);
+    CreateIncidentCommand command = CreateIncidentCommand.builder().title("title").build();
+
+    when(incidentResponseMapper.toCreateIncidentCommand(request)).thenReturn(command);
+    when(incidentUseCase.create(command))
+        .thenThrow(new com.backend.services.exceptions.ValidationException("foreign key"));
+
+    ResponseEntity<IncidentDetailedResponseDto> response = controller.createFromUploads(request);
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+  }
+
   @Test
   void createReturnsConflictOnDuplicateIncident() {
     IncidentRequestDto request = incidentRequest();
@@ -180,7 +222,8 @@ class IncidentControllerTest {
   @Test
   void findActorIncidentsReturnsMappedDtos() {
     when(incidentUseCase.findByUserId("actor")).thenReturn(List.of(incident));
-    when(incidentResponseMapper.toIncidentPreviewResponseDto(incident)).thenReturn(previewResponse);
+    when(incidentResponseMapper.toIncidentPreviewResponseDtos(List.of(incident)))
+        .thenReturn(List.of(previewResponse));
 
     ResponseEntity<List<IncidentPreviewResponseDto>> response =
         controller.findActorIncidentsInPreview("actor");
@@ -191,22 +234,25 @@ class IncidentControllerTest {
 
   @Test
   void findNearbyIncidentsReturnsMappedDtos() {
-    RadiusRequestDto request = new RadiusRequestDto(10.0, 20.0, 500);
-    when(incidentUseCase.findAllInGivenRange(any(RadiusCommand.class))).thenReturn(List.of(incident));
-    when(incidentResponseMapper.toIncidentPreviewResponseDto(incident)).thenReturn(previewResponse);
+    RadiusRequestDto request = new RadiusRequestDto(10.0, 20.0, 500, null);
+    IncidentPreview preview = new IncidentPreview(1L, "title", 10.0, 20.0, Instant.now(), List.of());
+    when(incidentUseCase.findPreviewsInGivenRange(any(RadiusCommand.class)))
+        .thenReturn(new CursorPage<>(List.of(preview), null));
+    when(incidentResponseMapper.toPreviewResponseDtos(List.of(preview)))
+        .thenReturn(List.of(previewResponse));
 
     ResponseEntity<List<IncidentPreviewResponseDto>> response =
         controller.findNearbyIncidents(request);
 
     assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
     assertThat(response.getBody()).containsExactly(previewResponse);
-    verify(incidentUseCase).findAllInGivenRange(any(RadiusCommand.class));
+    verify(incidentUseCase).findPreviewsInGivenRange(any(RadiusCommand.class));
   }
 
   @Test
   void findNearbyIncidentsReturnsBadRequestOnInvalidCoordinates() {
-    RadiusRequestDto request = new RadiusRequestDto(10.0, 20.0, 500);
-    when(incidentUseCase.findAllInGivenRange(any(RadiusCommand.class)))
+    RadiusRequestDto request = new RadiusRequestDto(10.0, 20.0, 500, null);
+    when(incidentUseCase.findPreviewsInGivenRange(any(RadiusCommand.class)))
         .thenThrow(new InvalidCoordinatesException("invalid"));
 
     ResponseEntity<List<IncidentPreviewResponseDto>> response =
@@ -227,6 +273,7 @@ class IncidentControllerTest {
 
     assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
     assertThat(response.getBody()).isSameAs(detailedResponse);
+    verify(incidentBroadcast).broadcastUpdatedIncident(detailedResponse);
   }
 
   @Test
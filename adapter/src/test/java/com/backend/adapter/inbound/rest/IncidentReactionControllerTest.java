@@ -0,0 +1,78 @@
+package com.backend.adapter.inbound.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.backend.adapter.inbound.dto.response.ReactionResponseDto;
+import com.backend.domain.actor.Role;
+import com.backend.domain.actor.User;
+import com.backend.domain.actor.UserId;
+import com.backend.port.inbound.ReactionUseCase;
+import com.backend.port.inbound.commands.ReactToIncidentCommand;
+import com.backend.port.inbound.commands.ReactionSummariesCommand;
+import com.backend.port.inbound.commands.ReactionSummary;
+import com.backend.port.inbound.commands.ReactionType;
+import com.backend.services.UserService;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+@ExtendWith(MockitoExtension.class)
+class IncidentReactionControllerTest {
+
+  @Mock private ReactionUseCase reactionUseCase;
+  @Mock private UserService userService;
+
+  @InjectMocks private IncidentReactionController controller;
+
+  @Test
+  void likeIncidentReactsAsAuthenticatedUser() {
+    when(userService.getUser()).thenReturn(Optional.of(user()));
+    when(reactionUseCase.addLike(new ReactToIncidentCommand(1L, "firebase-1")))
+        .thenReturn(new ReactionSummary(1L, 3, 1, ReactionType.LIKE));
+
+    ResponseEntity<ReactionResponseDto> response = controller.likeIncident(1L);
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+    assertThat(response.getBody()).isEqualTo(new ReactionResponseDto(1L, 3, 1, 2, ReactionType.LIKE));
+  }
+
+  @Test
+  void getSummariesReturnsOneSummaryPerIncident() {
+    when(userService.getUser()).thenReturn(Optional.of(user()));
+    when(reactionUseCase.getSummaries(new ReactionSummariesCommand(List.of(2L, 1L), "firebase-1")))
+        .thenReturn(List.of(
+            new ReactionSummary(2L, 0, 4, ReactionType.DISLIKE),
+            new ReactionSummary(1L, 5, 0, ReactionType.NONE)));
+
+    ResponseEntity<List<ReactionResponseDto>> response = controller.getSummaries(List.of(2L, 1L));
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getBody()).containsExactly(
+        new ReactionResponseDto(2L, 0, 4, -4, ReactionType.DISLIKE),
+        new ReactionResponseDto(1L, 5, 0, 5, ReactionType.NONE));
+  }
+
+  @Test
+  void getSummariesRejectsTooManyIncidents() {
+    when(userService.getUser()).thenReturn(Optional.empty());
+
+    ResponseEntity<List<ReactionResponseDto>> response = controller.getSummaries(
+        Collections.nCopies(ReactionSummariesCommand.MAX_INCIDENTS + 1, 1L));
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    verifyNoInteractions(reactionUseCase);
+  }
+
+  private static User user() {
+    return new User(new UserId("firebase-1"), "jane@example.com", "Jane", null, Role.USER, true, null, 5);
+  }
+}
@@ -0,0 +1,89 @@
+package com.backend.adapter.inbound.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.backend.adapter.inbound.dto.media.UploadSessionRequestDto;
+import com.backend.adapter.inbound.dto.media.UploadSlotDto;
+import com.backend.domain.actor.Role;
+import com.backend.domain.actor.User;
+import com.backend.domain.actor.UserId;
+import com.backend.port.inbound.MediaUploadUseCase;
+import com.backend.port.inbound.commands.UploadSlot;
+import com.backend.services.UserService;
+import com.backend.services.exceptions.ValidationException;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+@ExtendWith(MockitoExtension.class)
+class MediaUploadControllerTest {
+
+  private static final UserId USER_ID = new UserId("firebase-1");
+
+  @Mock private MediaUploadUseCase mediaUploadUseCase;
+  @Mock private UserService userService;
+
+  @InjectMocks private MediaUploadController controller;
+
+  @Test
+  void createUploadSessionReturnsSlots() {
+    UploadSessionRequestDto request = new UploadSessionRequestDto(List.of("photo.jpg"));
+    Instant expiresAt = Instant.parse("2025-01-01T12:15:00Z");
+    UploadSlot slot = new UploadSlot(
+        "uploads/firebase-1/abc-photo.jpg", "https://minio/bucket", Map.of("policy", "signed"), expiresAt);
+
+    when(userService.getUser()).thenReturn(Optional.of(sampleUser()));
+    when(mediaUploadUseCase.createUploadSession(USER_ID, request.filenames())).thenReturn(List.of(slot));
+
+    ResponseEntity<List<UploadSlotDto>> response = controller.createUploadSession(request);
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getBody())
+        .containsExactly(new UploadSlotDto(slot.key(), slot.uploadUrl(), slot.formFields(), expiresAt));
+  }
+
+  @Test
+  void createUploadSessionReturnsBadRequestWhenRejected() {
+    UploadSessionRequestDto request = new UploadSessionRequestDto(List.of("a.jpg", "b.jpg"));
+
+    when(userService.getUser()).thenReturn(Optional.of(sampleUser()));
+    when(mediaUploadUseCase.createUploadSession(USER_ID, request.filenames()))
+        .thenThrow(new ValidationException("too many files"));
+
+    assertThat(controller.createUploadSession(request).getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+  }
+
+  @Test
+  void createUploadSessionRequiresAuthenticatedUser() {
+    when(userService.getUser()).thenReturn(Optional.empty());
+
+    ResponseEntity<List<UploadSlotDto>> response =
+        controller.createUploadSession(new UploadSessionRequestDto(List.of("photo.jpg")));
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+    verifyNoInteractions(mediaUploadUseCase);
+  }
+
+  private User sampleUser() {
+    return User.builder()
+        .uid(USER_ID)
+        .email("user@example.com")
+        .name("User")
+        .picture("pic")
+        .role(Role.USER)
+        .emailVerified(true)
+        .deviceIdToken("token")
+        .range(5)
+        .build();
+  }
+}
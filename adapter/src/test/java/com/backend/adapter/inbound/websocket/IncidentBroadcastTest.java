@@ -0,0 +1,133 @@
+package com.backend.adapter.inbound.websocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+import com.backend.adapter.inbound.dto.response.incident.IncidentAddressUpdateDto;
+import com.backend.adapter.inbound.dto.response.incident.IncidentDetailedResponseDto;
+import com.backend.domain.location.LocationId;
+import com.backend.services.events.LocationAddressResolvedEvent;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class IncidentBroadcastTest {
+
+  private static final Instant EXPIRES_AT = Instant.parse("2026-10-17T10:30:00Z");
+
+  private final ObjectMapper objectMapper = new ObjectMapper()
+      .registerModule(new JavaTimeModule())
+      .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+  private final IncidentTiles incidentTiles = new IncidentTiles(0.05);
+
+  @Mock private SimpMessagingTemplate template;
+
+  @Test
+  void createdIncidentGoesToTileOfItsLocationAsCompactEvent() throws Exception {
+    new IncidentBroadcast(template, incidentTiles, objectMapper, false).broadcastCreatedIncident(incident(0, 0));
+
+    JsonNode event = objectMapper.readTree(sentPayload("/topic/incident/tile/888:522"));
+    assertThat(event.get("id").asLong()).isEqualTo(1L);
+    assertThat(event.get("type").asText()).isEqualTo("CREATED");
+    assertThat(event.get("title").asText()).isEqualTo("Flood");
+    assertThat(event.get("expiresAt").asText()).isEqualTo("2026-10-17T10:30:00Z");
+    assertThat(event.get("version").asLong()).isZero();
+    assertThat(event.has("media")).isFalse();
+    verifyNoMoreInteractions(template);
+  }
+
+  @Test
+  void createdIncidentKeepsDetailedPayloadOnGlobalTopic() {
+    IncidentDetailedResponseDto incident = incident(0, 0);
+
+    new IncidentBroadcast(template, incidentTiles, objectMapper, true).broadcastCreatedIncident(incident);
+
+    verify(template).send(eq("/topic/incident/tile/888:522"), any(Message.class));
+    verify(template).convertAndSend("/topic/incident/new", incident);
+  }
+
+  @Test
+  void updatesOfOneIncidentAreCoalescedUntilFlush() throws Exception {
+    IncidentBroadcast broadcast = new IncidentBroadcast(template, incidentTiles, objectMapper, true);
+
+    broadcast.broadcastUpdatedIncident(incident(4, 0));
+    broadcast.broadcastUpdatedIncident(incident(5, 1));
+    verifyNoInteractions(template);
+
+    broadcast.flushUpdates();
+    broadcast.flushUpdates();
+
+    JsonNode event = objectMapper.readTree(sentPayload("/topic/incident/tile/888:522"));
+    assertThat(event.get("type").asText()).isEqualTo("UPDATED");
+    assertThat(event.get("confirms").asInt()).isEqualTo(5);
+    assertThat(event.get("denies").asInt()).isEqualTo(1);
+    assertThat(event.get("version").asLong()).isEqualTo(6L);
+    verifyNoMoreInteractions(template);
+  }
+
+  @Test
+  void queuedUpdateIsNotReplacedByOlderVersion() throws Exception {
+    IncidentBroadcast broadcast = new IncidentBroadcast(template, incidentTiles, objectMapper, false);
+
+    broadcast.broadcastUpdatedIncident(incident(5, 1));
+    broadcast.broadcastUpdatedIncident(incident(4, 1));
+    broadcast.flushUpdates();
+
+    JsonNode event = objectMapper.readTree(sentPayload("/topic/incident/tile/888:522"));
+    assertThat(event.get("confirms").asInt()).isEqualTo(5);
+  }
+
+  @Test
+  void resolvedAddressGoesToTileOfItsLocationAndGlobalTopic() {
+    new IncidentBroadcast(template, incidentTiles, objectMapper, true).broadcastResolvedAddress(
+        new LocationAddressResolvedEvent(new LocationId(7L), 44.4267, 26.1025, "Main St 1", List.of(11L, 12L)));
+
+    IncidentAddressUpdateDto update = new IncidentAddressUpdateDto(List.of(11L, 12L), "Main St 1");
+    verify(template).convertAndSend("/topic/incident/address/tile/888:522", update);
+    verify(template).convertAndSend("/topic/incident/address", update);
+    verifyNoMoreInteractions(template);
+  }
+
+  @Test
+  void resolvedAddressWithoutIncidentsIsNotBroadcast() {
+    new IncidentBroadcast(template, incidentTiles, objectMapper, true).broadcastResolvedAddress(
+        new LocationAddressResolvedEvent(new LocationId(7L), 44.4267, 26.1025, "Main St 1", List.of()));
+
+    verify(template, never()).convertAndSend(anyString(), any(Object.class));
+  }
+
+  private byte[] sentPayload(String destination) {
+    ArgumentCaptor<Message<?>> captor = ArgumentCaptor.forClass(Message.class);
+    verify(template).send(eq(destination), captor.capture());
+    return (byte[]) captor.getValue().getPayload();
+  }
+
+  private static IncidentDetailedResponseDto incident(int confirms, int denies) {
+    return IncidentDetailedResponseDto.builder()
+        .id(1L)
+        .title("Flood")
+        .lat(44.4267)
+        .lon(26.1025)
+        .confirm(confirms)
+        .deny(denies)
+        .expiresAt(EXPIRES_AT)
+        .build();
+  }
+}
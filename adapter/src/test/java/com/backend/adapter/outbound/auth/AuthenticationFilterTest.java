@@ -9,7 +9,7 @@ import static org.mockito.Mockito.when;
 import com.backend.domain.actor.Role;
 import com.backend.domain.actor.User;
 import com.backend.domain.actor.UserId;
-import com.backend.services.UserService;
+import com.backend.services.UserSyncService;
 import jakarta.servlet.FilterChain;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -27,7 +27,7 @@ import java.util.Optional;
 @ExtendWith(MockitoExtension.class)
 class AuthenticationFilterTest {
 
-  @Mock private UserService userService;
+  @Mock private UserSyncService userSyncService;
   @Mock private TokenValidationService tokenValidationService;
 
   @InjectMocks private AuthenticationFilter authenticationFilter;
@@ -55,7 +55,7 @@ class AuthenticationFilterTest {
 
     authenticationFilter.doFilterInternal(request, response, chain);
 
-    verify(userService).create(user);
+    verify(userSyncService).sync(user);
     verify(chain).doFilter(request, response);
     assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
     assertThat(SecurityContextHolder.getContext().getAuthentication().getPrincipal()).isEqualTo(user);
@@ -73,7 +73,7 @@ class AuthenticationFilterTest {
 
     authenticationFilter.doFilterInternal(request, response, chain);
 
-    verify(userService, never()).create(org.mockito.ArgumentMatchers.any());
+    verify(userSyncService, never()).sync(org.mockito.ArgumentMatchers.any());
     verify(chain).doFilter(request, response);
     assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
   }
@@ -86,7 +86,7 @@ class AuthenticationFilterTest {
 
     authenticationFilter.doFilterInternal(request, response, chain);
 
-    verify(userService, never()).create(org.mockito.ArgumentMatchers.any());
+    verify(userSyncService, never()).sync(org.mockito.ArgumentMatchers.any());
     verify(chain).doFilter(request, response);
     assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
   }
@@ -0,0 +1,86 @@
+package com.backend.adapter.outbound.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.backend.domain.actor.User;
+import com.google.firebase.auth.FirebaseToken;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class TokenValidationServiceTest {
+
+  private final AtomicInteger verifications = new AtomicInteger();
+
+  @Test
+  void validTokenIsVerifiedOnceUntilItExpires() {
+    FirebaseToken decoded = decodedToken("firebase-1", Instant.now().plus(Duration.ofMinutes(30)));
+    TokenValidationService service = service(idToken -> {
+      verifications.incrementAndGet();
+      return decoded;
+    });
+
+    assertThat(service.validateToken("token-value")).map(user -> user.uid().value()).contains("firebase-1");
+    assertThat(service.validateToken("token-value")).map(user -> user.uid().value()).contains("firebase-1");
+
+    assertThat(verifications).hasValue(1);
+  }
+
+  @Test
+  void expiredTokenIsNotServedFromCache() {
+    FirebaseToken decoded = decodedToken("firebase-1", Instant.now().minusSeconds(1));
+    TokenValidationService service = service(idToken -> {
+      verifications.incrementAndGet();
+      return decoded;
+    });
+
+    service.validateToken("token-value");
+    service.validateToken("token-value");
+
+    assertThat(verifications).hasValue(2);
+  }
+
+  @Test
+  void failedVerificationIsNotCached() {
+    TokenValidationService service = service(idToken -> {
+      verifications.incrementAndGet();
+      throw new IllegalStateException("certificates unavailable");
+    });
+
+    assertThat(service.validateToken("token-value")).isEmpty();
+    assertThat(service.validateToken("token-value")).isEmpty();
+
+    assertThat(verifications).hasValue(2);
+  }
+
+  @Test
+  void differentTokensAreCachedSeparately() {
+    FirebaseToken first = decodedToken("firebase-1", Instant.now().plus(Duration.ofMinutes(30)));
+    FirebaseToken second = decodedToken("firebase-2", Instant.now().plus(Duration.ofMinutes(30)));
+    TokenValidationService service = service(idToken -> {
+      verifications.incrementAndGet();
+      return idToken.equals("first") ? first : second;
+    });
+
+    assertThat(service.validateToken("first")).map(User::uid).map(uid -> uid.value()).contains("firebase-1");
+    assertThat(service.validateToken("second")).map(User::uid).map(uid -> uid.value()).contains("firebase-2");
+
+    assertThat(verifications).hasValue(2);
+  }
+
+  private static TokenValidationService service(TokenValidationService.IdTokenVerifier verifier) {
+    return new TokenValidationService(verifier, new SimpleMeterRegistry(), 100);
+  }
+
+  private static FirebaseToken decodedToken(String uid, Instant expiresAt) {
+    FirebaseToken token = mock(FirebaseToken.class);
+    when(token.getUid()).thenReturn(uid);
+    when(token.getClaims()).thenReturn(Map.of("exp", expiresAt.getEpochSecond()));
+    return token;
+  }
+}
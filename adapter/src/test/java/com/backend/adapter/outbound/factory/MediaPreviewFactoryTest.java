@@ -0,0 +1,71 @@
+package com.backend.adapter.outbound.factory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.backend.adapter.inbound.dto.media.MediaDto;
+import com.backend.port.outbound.storage.ObjectStoragePort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class MediaPreviewFactoryTest {
+
+  @Mock
+  private ObjectStoragePort objectStoragePort;
+
+  private SimpleMeterRegistry meterRegistry;
+  private MediaPreviewFactory factory;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    factory = new MediaPreviewFactory(objectStoragePort, meterRegistry);
+  }
+
+  @Test
+  void presignsEachKeyOnceAndServesRepeatsFromCache() throws Exception {
+    when(objectStoragePort.presignGet(eq("a.jpg"), any(Duration.class))).thenReturn("https://cdn/a.jpg?sig");
+
+    factory.buildFromKeys(List.of("a.jpg"));
+    var second = factory.buildFromKeys(List.of("a.jpg"));
+
+    assertThat(second).extracting(MediaDto::filename).containsExactly("https://cdn/a.jpg?sig");
+    verify(objectStoragePort, times(1)).presignGet(eq("a.jpg"), any(Duration.class));
+    assertThat(cacheGets("hit")).isEqualTo(1.0);
+    assertThat(cacheGets("miss")).isEqualTo(1.0);
+  }
+
+  @Test
+  void presignFailureIsNotCached() throws Exception {
+    when(objectStoragePort.presignGet(eq("a.jpg"), any(Duration.class)))
+        .thenThrow(new RuntimeException("storage down"))
+        .thenReturn("https://cdn/a.jpg?sig");
+
+    assertThatThrownBy(() -> factory.buildFromKeys(List.of("a.jpg")))
+        .isInstanceOf(IllegalStateException.class);
+
+    assertThat(factory.buildFromKeys(List.of("a.jpg")))
+        .extracting(MediaDto::filename)
+        .containsExactly("https://cdn/a.jpg?sig");
+  }
+
+  private double cacheGets(String result) {
+    return meterRegistry.get("cache.gets")
+        .tag("cache", "media.presigned-urls")
+        .tag("result", result)
+        .functionCounter()
+        .count();
+  }
+}
@@ -0,0 +1,254 @@
+package com.backend.adapter.outbound.repo.buffer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.backend.adapter.outbound.repo.buffer.BufferedIncidentEngagementRepository.Engagement;
+import com.backend.adapter.outbound.repo.persistence.IncidentEngagementPersistence;
+import com.backend.domain.actor.UserId;
+import com.backend.domain.reactions.EngagementStats;
+import com.backend.domain.reactions.IncidentEngagementType;
+import com.backend.port.outbound.repo.AppliedEngagement;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.support.TransactionOperations;
+
+@ExtendWith(MockitoExtension.class)
+class BufferedIncidentEngagementRepositoryTest {
+
+  private static final UserId ALICE = new UserId("alice");
+  private static final UserId BOB = new UserId("bob");
+  private static final UserId CAROL = new UserId("carol");
+  private static final Instant T0 = Instant.parse("2026-10-17T10:00:00Z");
+
+  @Mock private IncidentEngagementPersistence delegate;
+  @Mock private JdbcTemplate jdbcTemplate;
+  @Mock private ApplicationEventPublisher eventPublisher;
+
+  private BufferedIncidentEngagementRepository repository;
+  private Instant expiresAt;
+
+  @BeforeEach
+  void setUp() {
+    repository = new BufferedIncidentEngagementRepository(
+        delegate, jdbcTemplate, TransactionOperations.withoutTransaction(), eventPublisher, new SimpleMeterRegistry());
+    expiresAt = Instant.now().plus(Duration.ofMinutes(10));
+  }
+
+  @Test
+  void applyEngagementReturnsPersistedCountersPlusPendingDeltas() {
+    recordsOn(1L, ALICE, IncidentEngagementType.CONFIRM, new EngagementStats(2, 1, 1));
+    recordsOn(1L, BOB, IncidentEngagementType.CONFIRM, new EngagementStats(2, 1, 1));
+
+    repository.applyEngagement(1L, ALICE, IncidentEngagementType.CONFIRM);
+    Optional<AppliedEngagement> applied = repository.applyEngagement(1L, BOB, IncidentEngagementType.CONFIRM);
+
+    assertThat(applied).contains(new AppliedEngagement(new EngagementStats(4, 1, 0), expiresAt));
+    verifyNoInteractions(jdbcTemplate);
+  }
+
+  @Test
+  void applyEngagementReturnsExpiryOfPendingDeltas() {
+    recordsOn(1L, ALICE, IncidentEngagementType.DENY, new EngagementStats(0, 1, 1));
+    recordsOn(1L, BOB, IncidentEngagementType.DENY, new EngagementStats(0, 1, 1));
+
+    repository.applyEngagement(1L, ALICE, IncidentEngagementType.DENY);
+    Optional<AppliedEngagement> applied = repository.applyEngagement(1L, BOB, IncidentEngagementType.DENY);
+
+    assertThat(applied).contains(
+        new AppliedEngagement(new EngagementStats(0, 3, 3), expiresAt.minus(Duration.ofMinutes(5))));
+  }
+
+  @Test
+  void applyEngagementReturnsEmptyWhenNotRecorded() {
+    when(delegate.recordEngagement(1L, ALICE, IncidentEngagementType.DENY)).thenReturn(Optional.empty());
+
+    assertThat(repository.applyEngagement(1L, ALICE, IncidentEngagementType.DENY)).isEmpty();
+    repository.flush();
+
+    verifyNoInteractions(jdbcTemplate);
+  }
+
+  @Test
+  void confirmOnExpiredIncidentIsNotCounted() {
+    expiresAt = Instant.now().minusSeconds(1);
+    recordsOn(1L, ALICE, IncidentEngagementType.CONFIRM, new EngagementStats(2, 0, 0));
+
+    Optional<AppliedEngagement> applied = repository.applyEngagement(1L, ALICE, IncidentEngagementType.CONFIRM);
+    repository.flush();
+
+    assertThat(applied).contains(new AppliedEngagement(new EngagementStats(2, 0, 0), expiresAt));
+    verifyNoInteractions(jdbcTemplate);
+  }
+
+  @Test
+  void replayAppliesEveryDenyThresholdCrossedInOneWindow() {
+    AppliedEngagement persisted = new AppliedEngagement(new EngagementStats(0, 0, 0), T0.plus(Duration.ofMinutes(20)));
+
+    AppliedEngagement replayed = BufferedIncidentEngagementRepository.replay(persisted, List.of(
+        deny(1), deny(2), deny(3), confirm(4), deny(5), deny(6), deny(7)));
+
+    assertThat(replayed).isEqualTo(
+        new AppliedEngagement(new EngagementStats(1, 6, 3), T0.plus(Duration.ofMinutes(10))));
+  }
+
+  @Test
+  void replayAppliesConfirmExtensionAndDenyReductionOfTheSameWindow() {
+    AppliedEngagement persisted = new AppliedEngagement(new EngagementStats(3, 0, 0), T0.plus(Duration.ofMinutes(20)));
+
+    AppliedEngagement replayed = BufferedIncidentEngagementRepository.replay(persisted, List.of(
+        confirm(1), confirm(2), deny(3), deny(4), deny(5)));
+
+    assertThat(replayed).isEqualTo(
+        new AppliedEngagement(new EngagementStats(5, 3, 3), T0.plus(Duration.ofMinutes(17))));
+  }
+
+  @Test
+  void replayExtendsOncePerFifthConfirmUpToThirtyMinutesAfterEachConfirm() {
+    AppliedEngagement persisted = new AppliedEngagement(new EngagementStats(4, 0, 0), T0.plus(Duration.ofMinutes(27)));
+
+    AppliedEngagement replayed = BufferedIncidentEngagementRepository.replay(
+        persisted, Collections.nCopies(6, confirm(0)));
+
+    assertThat(replayed).isEqualTo(
+        new AppliedEngagement(new EngagementStats(10, 0, 0), T0.plus(Duration.ofMinutes(30))));
+  }
+
+  @Test
+  void replaySkipsConfirmsAfterDeniesExpiredTheIncident() {
+    AppliedEngagement persisted = new AppliedEngagement(new EngagementStats(0, 0, 2), T0.plus(Duration.ofMinutes(3)));
+
+    AppliedEngagement replayed = BufferedIncidentEngagementRepository.replay(persisted, List.of(
+        deny(0), confirm(60)));
+
+    assertThat(replayed).isEqualTo(new AppliedEngagement(new EngagementStats(0, 1, 3), T0));
+  }
+
+  @Test
+  void replayOfAWindowEqualsApplyingEngagementsOneByOne() {
+    List<Engagement> window = List.of(
+        confirm(1), deny(2), deny(3), deny(4), confirm(5), confirm(6), deny(7), deny(8), deny(9), confirm(10));
+    AppliedEngagement oneByOne = new AppliedEngagement(new EngagementStats(3, 0, 0), T0.plus(Duration.ofMinutes(20)));
+    for (Engagement engagement : window) {
+      oneByOne = BufferedIncidentEngagementRepository.replay(oneByOne, List.of(engagement));
+    }
+
+    AppliedEngagement batched = BufferedIncidentEngagementRepository.replay(
+        new AppliedEngagement(new EngagementStats(3, 0, 0), T0.plus(Duration.ofMinutes(20))), window);
+
+    assertThat(batched).isEqualTo(oneByOne);
+    assertThat(batched).isEqualTo(
+        new AppliedEngagement(new EngagementStats(7, 6, 0), T0.plus(Duration.ofMinutes(12))));
+  }
+
+  @Test
+  void flushLocksRowsAndWritesReplayedState() throws Exception {
+    recordsOn(1L, ALICE, IncidentEngagementType.CONFIRM, new EngagementStats(0, 0, 0));
+    recordsOn(1L, BOB, IncidentEngagementType.CONFIRM, new EngagementStats(0, 0, 0));
+    recordsOn(1L, CAROL, IncidentEngagementType.DENY, new EngagementStats(0, 0, 0));
+    persistedRow(1L, new EngagementStats(3, 0, 0));
+
+    repository.applyEngagement(1L, ALICE, IncidentEngagementType.CONFIRM);
+    repository.applyEngagement(1L, BOB, IncidentEngagementType.CONFIRM);
+    repository.applyEngagement(1L, CAROL, IncidentEngagementType.DENY);
+    repository.flush();
+    repository.flush();
+
+    verify(jdbcTemplate).query(contains("ORDER BY id\nFOR UPDATE"), any(RowCallbackHandler.class), eq(1L));
+    verify(jdbcTemplate).update(contains("FROM (VALUES (CAST(? AS BIGINT)"),
+        eq(1L), eq(5), eq(1), eq(1), eq(Timestamp.from(expiresAt.plus(Duration.ofMinutes(2)))));
+  }
+
+  @Test
+  void flushPublishesWrittenStateForInMemoryCopies() throws Exception {
+    recordsOn(1L, ALICE, IncidentEngagementType.DENY, new EngagementStats(0, 0, 0));
+    persistedRow(1L, new EngagementStats(0, 4, 2));
+
+    repository.applyEngagement(1L, ALICE, IncidentEngagementType.DENY);
+    repository.flush();
+
+    ArgumentCaptor<IncidentEngagementsFlushedEvent> event = ArgumentCaptor.forClass(IncidentEngagementsFlushedEvent.class);
+    verify(eventPublisher).publishEvent(event.capture());
+    assertThat(event.getValue().incidents()).isEqualTo(Map.of(1L,
+        new AppliedEngagement(new EngagementStats(0, 5, 3), expiresAt.minus(Duration.ofMinutes(5)))));
+  }
+
+  @Test
+  void failedFlushIsRetriedWithLaterDeltas() throws Exception {
+    recordsOn(1L, ALICE, IncidentEngagementType.DENY, new EngagementStats(0, 0, 0));
+    recordsOn(1L, BOB, IncidentEngagementType.DENY, new EngagementStats(0, 0, 0));
+    persistedRow(1L, new EngagementStats(0, 0, 0));
+    when(jdbcTemplate.update(contains("UPDATE incidents"), any(Object[].class)))
+        .thenThrow(new QueryTimeoutException("timeout"))
+        .thenReturn(1);
+
+    repository.applyEngagement(1L, ALICE, IncidentEngagementType.DENY);
+    repository.flush();
+    repository.applyEngagement(1L, BOB, IncidentEngagementType.DENY);
+    repository.flush();
+
+    verify(jdbcTemplate, times(2)).update(contains("UPDATE incidents"), any(Object[].class));
+    verify(jdbcTemplate).update(contains("UPDATE incidents"),
+        eq(1L), eq(0), eq(2), eq(2), eq(Timestamp.from(expiresAt)));
+    verify(eventPublisher, times(1)).publishEvent(any(IncidentEngagementsFlushedEvent.class));
+  }
+
+  @Test
+  void flushWithNothingPendingWritesNothing() {
+    repository.flush();
+
+    verify(jdbcTemplate, never()).update(any(String.class), any(Object[].class));
+  }
+
+  private void recordsOn(long incidentId, UserId userId, IncidentEngagementType type, EngagementStats persisted) {
+    when(delegate.recordEngagement(incidentId, userId, type))
+        .thenReturn(Optional.of(new AppliedEngagement(persisted, expiresAt)));
+  }
+
+  private void persistedRow(long incidentId, EngagementStats stats) throws Exception {
+    ResultSet rs = mock(ResultSet.class);
+    when(rs.getLong("id")).thenReturn(incidentId);
+    when(rs.getInt("confirms")).thenReturn(stats.confirms());
+    when(rs.getInt("denies")).thenReturn(stats.denies());
+    when(rs.getInt("consecutive_denies")).thenReturn(stats.consecutiveDenies());
+    when(rs.getTimestamp("expires_at")).thenReturn(Timestamp.from(expiresAt));
+    doAnswer(invocation -> {
+      invocation.<RowCallbackHandler>getArgument(1).processRow(rs);
+      return null;
+    }).when(jdbcTemplate).query(contains("FOR UPDATE"), any(RowCallbackHandler.class), any(Object[].class));
+  }
+
+  private static Engagement confirm(int minute) {
+    return new Engagement(IncidentEngagementType.CONFIRM, T0.plus(Duration.ofMinutes(minute)));
+  }
+
+  private static Engagement deny(int minute) {
+    return new Engagement(IncidentEngagementType.DENY, T0.plus(Duration.ofMinutes(minute)));
+  }
+}
@@ -0,0 +1,84 @@
+package com.backend.adapter.outbound.repo.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import com.backend.adapter.outbound.repo.persistence.UserPersistence;
+import com.backend.domain.actor.User;
+import com.backend.domain.actor.UserId;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CachingUserRepositoryTest {
+
+  private static final User USER = User.builder().uid(new UserId("firebase-1")).name("Ana").range(5).build();
+
+  @Mock private UserPersistence delegate;
+
+  private SimpleMeterRegistry meterRegistry;
+  private CachingUserRepository repository;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    repository = new CachingUserRepository(delegate, 100, 10, meterRegistry);
+  }
+
+  @Test
+  void findByFirebaseUidLoadsOnceAndRecordsHits() {
+    when(delegate.findByFirebaseUid("firebase-1")).thenReturn(Optional.of(USER));
+
+    assertThat(repository.findByFirebaseUid("firebase-1")).contains(USER);
+    assertThat(repository.findByFirebaseUid("firebase-1")).contains(USER);
+    assertThat(repository.existsByFirebaseUid("firebase-1")).isTrue();
+
+    verify(delegate, times(1)).findByFirebaseUid("firebase-1");
+    verifyNoMoreInteractions(delegate);
+    assertThat(meterRegistry.get("cache.gets").tag("cache", "users.by-uid").tag("result", "hit")
+        .functionCounter().count()).isEqualTo(2.0);
+  }
+
+  @Test
+  void missingUsersAreNotCached() {
+    when(delegate.findByFirebaseUid("firebase-1")).thenReturn(Optional.empty(), Optional.of(USER));
+
+    assertThat(repository.findByFirebaseUid("firebase-1")).isEmpty();
+    assertThat(repository.findByFirebaseUid("firebase-1")).contains(USER);
+  }
+
+  @Test
+  void saveReplacesCachedUser() {
+    User updated = USER.toBuilder().range(25).build();
+    when(delegate.findByFirebaseUid("firebase-1")).thenReturn(Optional.of(USER));
+    when(delegate.save(updated)).thenReturn(updated);
+
+    repository.findByFirebaseUid("firebase-1");
+    repository.save(updated);
+
+    assertThat(repository.findByFirebaseUid("firebase-1")).contains(updated);
+    verify(delegate, times(1)).findByFirebaseUid("firebase-1");
+  }
+
+  @Test
+  void failedSaveLeavesNoStaleEntry() {
+    User updated = USER.toBuilder().range(25).build();
+    when(delegate.findByFirebaseUid("firebase-1")).thenReturn(Optional.of(USER));
+    when(delegate.save(updated)).thenThrow(new IllegalStateException("constraint violation"));
+
+    repository.findByFirebaseUid("firebase-1");
+    assertThrows(IllegalStateException.class, () -> repository.save(updated));
+    repository.findByFirebaseUid("firebase-1");
+
+    verify(delegate, times(2)).findByFirebaseUid("firebase-1");
+  }
+}
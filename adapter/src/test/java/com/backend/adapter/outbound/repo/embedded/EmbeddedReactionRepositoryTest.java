@@ -0,0 +1,115 @@
+package com.backend.adapter.outbound.repo.embedded;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.backend.port.inbound.commands.ReactionSummary;
+import com.backend.port.inbound.commands.ReactionType;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class EmbeddedReactionRepositoryTest {
+
+  @TempDir
+  Path tempDir;
+
+  private Path snapshotPath;
+  private EmbeddedReactionRepository repository;
+
+  @BeforeEach
+  void setUp() {
+    snapshotPath = tempDir.resolve("reactions.snapshot");
+    repository = new EmbeddedReactionRepository(snapshotPath.toString());
+  }
+
+  @Test
+  void likeThenDislikeMovesUserBetweenSets() {
+    repository.addLike(1L, "alice");
+    repository.addLike(1L, "bob");
+
+    ReactionSummary summary = repository.addDislike(1L, "alice");
+
+    assertThat(summary).isEqualTo(new ReactionSummary(1L, 1, 1, ReactionType.DISLIKE));
+  }
+
+  @Test
+  void repeatedLikeIsIdempotent() {
+    repository.addLike(1L, "alice");
+
+    ReactionSummary summary = repository.addLike(1L, "alice");
+
+    assertThat(summary).isEqualTo(new ReactionSummary(1L, 1, 0, ReactionType.LIKE));
+  }
+
+  @Test
+  void removeLikeLeavesDislikesAlone() {
+    repository.addDislike(1L, "alice");
+
+    ReactionSummary summary = repository.removeLike(1L, "alice");
+
+    assertThat(summary).isEqualTo(new ReactionSummary(1L, 0, 1, ReactionType.DISLIKE));
+  }
+
+  @Test
+  void summaryOfUnknownUserOrIncidentIsEmpty() {
+    repository.addLike(1L, "alice");
+
+    assertThat(repository.getSummary(1L, "bob")).isEqualTo(new ReactionSummary(1L, 1, 0, ReactionType.NONE));
+    assertThat(repository.getSummary(2L, "alice")).isEqualTo(new ReactionSummary(2L, 0, 0, ReactionType.NONE));
+  }
+
+  @Test
+  void getSummariesKeepsRequestOrderAndDropsDuplicates() {
+    repository.addLike(1L, "alice");
+    repository.addDislike(2L, "alice");
+    repository.addLike(2L, "bob");
+
+    List<ReactionSummary> summaries = repository.getSummaries(List.of(2L, 3L, 1L, 2L), "alice");
+
+    assertThat(summaries).containsExactly(
+        new ReactionSummary(2L, 1, 1, ReactionType.DISLIKE),
+        new ReactionSummary(3L, 0, 0, ReactionType.NONE),
+        new ReactionSummary(1L, 1, 0, ReactionType.LIKE));
+  }
+
+  @Test
+  void snapshotIsRestoredByNewInstance() {
+    repository.addLike(1L, "alice");
+    repository.addLike(1L, "bob");
+    repository.addDislike(2L, "bob");
+    repository.addLike(3L, "carol");
+    repository.removeLike(3L, "carol");
+
+    repository.snapshot();
+    EmbeddedReactionRepository restored = new EmbeddedReactionRepository(snapshotPath.toString());
+
+    assertThat(restored.getSummaries(List.of(1L, 2L, 3L), "bob")).containsExactly(
+        new ReactionSummary(1L, 2, 0, ReactionType.LIKE),
+        new ReactionSummary(2L, 0, 1, ReactionType.DISLIKE),
+        new ReactionSummary(3L, 0, 0, ReactionType.NONE));
+    assertThat(restored.addDislike(1L, "alice"))
+        .isEqualTo(new ReactionSummary(1L, 1, 1, ReactionType.DISLIKE));
+  }
+
+  @Test
+  void snapshotIsSkippedWhenNothingChanged() {
+    repository.getSummary(1L, "alice");
+
+    repository.snapshot();
+
+    assertThat(snapshotPath).doesNotExist();
+  }
+
+  @Test
+  void unreadableSnapshotStartsEmpty() throws IOException {
+    Files.write(snapshotPath, new byte[] {1, 2, 3});
+
+    EmbeddedReactionRepository restored = new EmbeddedReactionRepository(snapshotPath.toString());
+
+    assertThat(restored.getSummary(1L, "alice")).isEqualTo(new ReactionSummary(1L, 0, 0, ReactionType.NONE));
+  }
+}
@@ -0,0 +1,121 @@
+package com.backend.adapter.outbound.repo.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.backend.adapter.outbound.repo.index.IncidentSpatialIndex.IndexedMatch;
+import com.backend.domain.actor.UserId;
+import com.backend.domain.happening.Incident;
+import com.backend.domain.happening.IncidentId;
+import com.backend.domain.location.LocationId;
+import com.backend.domain.reactions.EngagementStats;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class IncidentSpatialIndexTest {
+
+  private static final Instant NOW = Instant.parse("2025-01-01T12:00:00Z");
+
+  private IncidentSpatialIndex index;
+
+  @BeforeEach
+  void setUp() {
+    index = new IncidentSpatialIndex(0.01);
+  }
+
+  @Test
+  void findWithinReturnsNearestFirstAndSkipsFarIncidents() {
+    index.put(incident(1L, NOW.plus(Duration.ofMinutes(10))), 44.4300, 26.1000, NOW);
+    index.put(incident(2L, NOW.plus(Duration.ofMinutes(10))), 44.4268, 26.1025, NOW);
+    index.put(incident(3L, NOW.plus(Duration.ofMinutes(10))), 45.0000, 26.1000, NOW);
+
+    List<IndexedMatch> matches = index.findWithin(44.4268, 26.1025, 1000, NOW);
+
+    assertThat(matches).extracting(match -> match.entry().id()).containsExactly(2L, 1L);
+    assertThat(matches.get(0).distanceMeters()).isLessThan(1.0);
+  }
+
+  @Test
+  void findWithinCoversNeighbouringCells() {
+    index.put(incident(1L, NOW.plus(Duration.ofMinutes(10))), 44.4099, 26.0999, NOW);
+
+    List<IndexedMatch> matches = index.findWithin(44.4101, 26.1001, 100, NOW);
+
+    assertThat(matches).extracting(match -> match.entry().id()).containsExactly(1L);
+  }
+
+  @Test
+  void findWithinWrapsAroundTheAntimeridian() {
+    index.put(incident(1L, NOW.plus(Duration.ofMinutes(10))), 0.0, -179.995, NOW);
+    index.put(incident(2L, NOW.plus(Duration.ofMinutes(10))), 0.0, 180.0, NOW);
+
+    List<IndexedMatch> matches = index.findWithin(0.0, 179.995, 2000, NOW);
+
+    assertThat(matches).extracting(match -> match.entry().id()).containsExactly(2L, 1L);
+    assertThat(matches.get(1).distanceMeters()).isBetween(1000.0, 1200.0);
+    assertThat(index.findWithin(0.0, -179.999, 2000, NOW))
+        .extracting(match -> match.entry().id())
+        .containsExactly(2L, 1L);
+  }
+
+  @Test
+  void findWithinNearThePoleScansTheLatitudeBand() {
+    index.put(incident(1L, NOW.plus(Duration.ofMinutes(10))), 89.95, -120.0, NOW);
+    index.put(incident(2L, NOW.plus(Duration.ofMinutes(10))), 89.95, 60.0, NOW);
+    index.put(incident(3L, NOW.plus(Duration.ofMinutes(10))), 80.0, 60.0, NOW);
+
+    List<IndexedMatch> matches = index.findWithin(89.9, 60.0, 50_000, NOW);
+
+    assertThat(matches).extracting(match -> match.entry().id()).containsExactly(2L, 1L);
+  }
+
+  @Test
+  void putMovesIncidentBetweenCells() {
+    index.put(incident(1L, NOW.plus(Duration.ofMinutes(10))), 44.43, 26.10, NOW);
+    index.put(incident(1L, NOW.plus(Duration.ofMinutes(10))), 46.77, 23.59, NOW);
+
+    assertThat(index.findWithin(44.43, 26.10, 1000, NOW)).isEmpty();
+    assertThat(index.findWithin(46.77, 23.59, 1000, NOW)).hasSize(1);
+    assertThat(index.size()).isEqualTo(1);
+  }
+
+  @Test
+  void expiredIncidentsAreHiddenAndEvicted() {
+    index.put(incident(1L, NOW.minusSeconds(1)), 44.43, 26.10, NOW);
+    index.put(incident(2L, NOW.plus(Duration.ofMinutes(5))), 44.43, 26.10, NOW);
+
+    assertThat(index.findWithin(44.43, 26.10, 1000, NOW))
+        .extracting(match -> match.entry().id())
+        .containsExactly(2L);
+
+    assertThat(index.evictExpired(NOW)).isEqualTo(1);
+    assertThat(index.get(1L)).isNull();
+    assertThat(index.size()).isEqualTo(1);
+  }
+
+  @Test
+  void removeDropsIncident() {
+    index.put(incident(1L, NOW.plus(Duration.ofMinutes(10))), 44.43, 26.10, NOW);
+
+    index.remove(1L);
+
+    assertThat(index.findWithin(44.43, 26.10, 1000, NOW)).isEmpty();
+    assertThat(index.size()).isZero();
+  }
+
+  private static Incident incident(long id, Instant expiresAt) {
+    return Incident.builder()
+        .id(new IncidentId(id))
+        .userId(new UserId("user-" + id))
+        .locationId(new LocationId(id))
+        .title("Incident " + id)
+        .description("desc")
+        .media(Set.of())
+        .engagementStats(new EngagementStats(0, 0, 0))
+        .expiresAt(expiresAt)
+        .build();
+  }
+}
@@ -0,0 +1,149 @@
+package com.backend.adapter.outbound.repo.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import com.backend.adapter.outbound.mapper.IncidentMapper;
+import com.backend.adapter.outbound.repo.IncidentPersistenceRepository;
+import com.backend.adapter.outbound.repo.buffer.IncidentEngagementsFlushedEvent;
+import com.backend.adapter.outbound.repo.persistence.IncidentPersistence;
+import com.backend.adapter.outbound.storage.ImageThumbnailProcessor;
+import com.backend.adapter.outbound.storage.MediaPreviewRecordedEvent;
+import com.backend.domain.actor.UserId;
+import com.backend.domain.happening.Incident;
+import com.backend.domain.happening.IncidentId;
+import com.backend.domain.location.Location;
+import com.backend.domain.location.LocationId;
+import com.backend.domain.media.Media;
+import com.backend.domain.reactions.EngagementStats;
+import com.backend.port.outbound.repo.AppliedEngagement;
+import com.backend.port.outbound.repo.IncidentEngagementRepository;
+import com.backend.port.outbound.repo.LocationRepository;
+import com.backend.port.outbound.repo.MediaRepository;
+import com.backend.port.outbound.storage.ObjectStoragePort;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class IndexedIncidentRepositoryTest {
+
+  private static final double LAT = 44.4267;
+  private static final double LON = 26.1025;
+
+  @Mock private IncidentPersistence delegate;
+  @Mock private IncidentPersistenceRepository incidentPersistenceRepository;
+  @Mock private IncidentEngagementRepository incidentEngagementRepository;
+  @Mock private IncidentMapper incidentMapper;
+  @Mock private LocationRepository locationRepository;
+  @Mock private ObjectStoragePort objectStoragePort;
+  @Mock private MediaRepository mediaRepository;
+
+  private IndexedIncidentRepository repository;
+
+  @BeforeEach
+  void setUp() {
+    repository = new IndexedIncidentRepository(
+        delegate, incidentPersistenceRepository, incidentEngagementRepository, incidentMapper, locationRepository, 0.01);
+    when(incidentPersistenceRepository.findAllByExpiresAtAfter(any()))
+        .thenReturn(List.of());
+    repository.warmUp();
+  }
+
+  @Test
+  void flushedEngagementsExtendIndexedIncident() {
+    index(incident(1L, Instant.now().plusSeconds(60)));
+    Instant extended = Instant.now().plus(Duration.ofMinutes(3));
+
+    repository.refreshEngagements(new IncidentEngagementsFlushedEvent(Map.of(
+        1L, new AppliedEngagement(new EngagementStats(5, 0, 0), extended))));
+
+    List<Incident> found = repository.findAllInGivenRange(LAT, LON, 100, null, 10).items();
+    assertThat(found).singleElement().satisfies(incident -> {
+      assertThat(incident.getExpiresAt()).isEqualTo(extended);
+      assertThat(incident.getEngagementStats()).isEqualTo(new EngagementStats(5, 0, 0));
+    });
+  }
+
+  @Test
+  void flushedEngagementsDropDeniedIncident() {
+    index(incident(1L, Instant.now().plus(Duration.ofMinutes(10))));
+
+    repository.refreshEngagements(new IncidentEngagementsFlushedEvent(Map.of(
+        1L, new AppliedEngagement(new EngagementStats(0, 3, 3), Instant.now().plus(Duration.ofMinutes(5))))));
+
+    assertThat(repository.findAllInGivenRange(LAT, LON, 100, null, 10).items()).isEmpty();
+  }
+
+  @Test
+  void flushedEngagementsOfIncidentsNotIndexedAreIgnored() {
+    repository.refreshEngagements(new IncidentEngagementsFlushedEvent(Map.of(
+        2L, new AppliedEngagement(new EngagementStats(5, 0, 0), Instant.now().plusSeconds(60)))));
+
+    assertThat(repository.findAllInGivenRange(LAT, LON, 100, null, 10).items()).isEmpty();
+  }
+
+  @Test
+  void generatedPreviewShowsUpInFeed() throws Exception {
+    index(incident(1L, Instant.now().plus(Duration.ofMinutes(10))).toBuilder()
+        .media(Set.of(new Media(1024, "photo.png", "image/png"), new Media(4096, "clip.mp4", "video/mp4")))
+        .build());
+    when(objectStoragePort.get("photo.png")).thenReturn(new ByteArrayInputStream(png(1600, 800)));
+    CountDownLatch recorded = new CountDownLatch(1);
+    ImageThumbnailProcessor processor = new ImageThumbnailProcessor(objectStoragePort, mediaRepository, event -> {
+      repository.refreshPreview((MediaPreviewRecordedEvent) event);
+      recorded.countDown();
+    }, 320, 1);
+
+    try {
+      processor.generatePreviews(repository.findAllInGivenRange(LAT, LON, 100, null, 10).items().getFirst().getMedia());
+      assertThat(recorded.await(5, TimeUnit.SECONDS)).isTrue();
+    } finally {
+      processor.shutdown();
+    }
+
+    assertThat(repository.findPreviewsInGivenRange(LAT, LON, 100, null, 10).items())
+        .singleElement()
+        .satisfies(preview -> assertThat(preview.mediaKeys()).containsExactly("clip.mp4", "photo.png.preview.jpg"));
+  }
+
+  private void index(Incident incident) {
+    when(delegate.save(incident)).thenReturn(incident);
+    when(locationRepository.findById(incident.getLocationId().value()))
+        .thenReturn(new Location(incident.getLocationId(), LON, LAT, "Main St 1"));
+    repository.save(incident);
+  }
+
+  private static Incident incident(long id, Instant expiresAt) {
+    return Incident.builder()
+        .id(new IncidentId(id))
+        .userId(new UserId("user-" + id))
+        .locationId(new LocationId(id))
+        .title("Incident " + id)
+        .description("desc")
+        .media(Set.of())
+        .engagementStats(new EngagementStats(0, 0, 0))
+        .expiresAt(expiresAt)
+        .build();
+  }
+
+  private static byte[] png(int width, int height) throws Exception {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", out);
+    return out.toByteArray();
+  }
+}
@@ -0,0 +1,122 @@
+package com.backend.adapter.outbound.repo.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.backend.adapter.outbound.entity.CommentEntity;
+import com.backend.adapter.outbound.repo.CommentPersistenceRepository;
+import com.backend.adapter.outbound.repo.IncidentPersistenceRepository;
+import com.backend.adapter.outbound.repo.cursor.CreatedAtCursor;
+import com.backend.domain.actor.Comment;
+import com.backend.domain.actor.CommentId;
+import com.backend.domain.actor.UserId;
+import com.backend.domain.happening.HappeningId;
+import com.backend.port.inbound.commands.CursorPage;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CommentPersistenceTest {
+
+  private static final Instant NOW = Instant.parse("2026-10-17T10:00:00.123456Z");
+
+  @Mock private CommentPersistenceRepository commentRepository;
+  @Mock private IncidentPersistenceRepository incidentRepository;
+
+  @InjectMocks private CommentPersistence commentPersistence;
+
+  @Test
+  void saveCountsCommentOnIncident() {
+    Comment comment = Comment.builder()
+        .text("Still blocked")
+        .happeningId(new HappeningId(7L))
+        .userId(new UserId("firebase-1"))
+        .createdAt(NOW)
+        .build();
+    when(commentRepository.save(any(CommentEntity.class))).thenReturn(entity(42L, NOW));
+
+    Comment saved = commentPersistence.save(comment);
+
+    assertThat(saved.id()).isEqualTo(new CommentId(42L));
+    verify(incidentRepository).adjustCommentCount(7L, 1);
+  }
+
+  @Test
+  void firstPageReturnsCursorOfLastCommentWhenMoreExist() {
+    when(commentRepository.findFirstPage(7L, 3)).thenReturn(List.of(
+        entity(3L, NOW), entity(2L, NOW.minusSeconds(1)), entity(1L, NOW.minusSeconds(2))));
+
+    CursorPage<Comment> page = commentPersistence.findPageByHappeningId(7L, null, 2);
+
+    assertThat(page.items()).extracting(Comment::id).containsExactly(new CommentId(3L), new CommentId(2L));
+    assertThat(CreatedAtCursor.decode(page.nextCursor()))
+        .isEqualTo(new CreatedAtCursor(NOW.minusSeconds(1), 2L));
+  }
+
+  @Test
+  void nextPageStartsAfterCursor() {
+    String cursor = new CreatedAtCursor(NOW, 3L).encode();
+    when(commentRepository.findPageAfter(7L, NOW, 3L, 3)).thenReturn(List.of(entity(2L, NOW)));
+
+    CursorPage<Comment> page = commentPersistence.findPageByHappeningId(7L, cursor, 2);
+
+    assertThat(page.items()).extracting(Comment::id).containsExactly(new CommentId(2L));
+    assertThat(page.hasNext()).isFalse();
+  }
+
+  @Test
+  void malformedCursorIsRejected() {
+    assertThatThrownBy(() -> commentPersistence.findPageByHappeningId(7L, "not-a-cursor", 2))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void countIsReadFromIncident() {
+    when(incidentRepository.findCommentCount(7L)).thenReturn(Optional.of(12));
+    when(incidentRepository.findCommentCount(8L)).thenReturn(Optional.empty());
+
+    assertThat(commentPersistence.countByHappeningId(7L)).isEqualTo(OptionalInt.of(12));
+    assertThat(commentPersistence.countByHappeningId(8L)).isEmpty();
+  }
+
+  @Test
+  void deleteUncountsCommentOnIncident() {
+    CommentEntity entity = entity(42L, NOW);
+    when(commentRepository.findById(42L)).thenReturn(Optional.of(entity));
+
+    commentPersistence.delete(42L);
+
+    verify(commentRepository).delete(entity);
+    verify(incidentRepository).adjustCommentCount(7L, -1);
+  }
+
+  @Test
+  void deleteOfMissingCommentChangesNothing() {
+    when(commentRepository.findById(42L)).thenReturn(Optional.empty());
+
+    commentPersistence.delete(42L);
+
+    verify(incidentRepository, never()).adjustCommentCount(7L, -1);
+  }
+
+  private static CommentEntity entity(long id, Instant createdAt) {
+    return CommentEntity.builder()
+        .id(id)
+        .incidentId(7L)
+        .userUid("firebase-1")
+        .value("Comment " + id)
+        .createdAt(createdAt)
+        .build();
+  }
+}
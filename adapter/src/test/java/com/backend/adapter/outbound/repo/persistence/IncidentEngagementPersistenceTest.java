@@ -0,0 +1,95 @@
+package com.backend.adapter.outbound.repo.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import com.backend.adapter.outbound.repo.IncidentEngagementPersistenceRepository;
+import com.backend.adapter.outbound.repo.IncidentEngagementView;
+import com.backend.adapter.outbound.repo.IncidentPersistenceRepository;
+import com.backend.domain.actor.UserId;
+import com.backend.domain.reactions.EngagementStats;
+import com.backend.domain.reactions.IncidentEngagementType;
+import com.backend.port.outbound.repo.AppliedEngagement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class IncidentEngagementPersistenceTest {
+
+  private static final Timestamp EXPIRES_AT = Timestamp.from(Instant.parse("2025-01-01T12:32:00Z"));
+
+  @Mock private IncidentEngagementPersistenceRepository engagementRepository;
+  @Mock private IncidentPersistenceRepository incidentRepository;
+
+  private IncidentEngagementPersistence engagementPersistence;
+
+  @BeforeEach
+  void setUp() {
+    engagementPersistence = new IncidentEngagementPersistence(engagementRepository, incidentRepository);
+  }
+
+  @Test
+  void applyEngagementMapsUpdatedRow() {
+    when(incidentRepository.applyEngagement(1L, "user-1", "CONFIRM"))
+        .thenReturn(Optional.of(engagementView(5, 1, 0)));
+
+    Optional<AppliedEngagement> applied =
+        engagementPersistence.applyEngagement(1L, new UserId("user-1"), IncidentEngagementType.CONFIRM);
+
+    assertThat(applied).contains(new AppliedEngagement(new EngagementStats(5, 1, 0), EXPIRES_AT.toInstant()));
+  }
+
+  @Test
+  void recordEngagementReturnsPersistedCounters() {
+    when(engagementRepository.recordEngagement(1L, "user-1", "DENY"))
+        .thenReturn(Optional.of(engagementView(3, 2, 2)));
+
+    Optional<AppliedEngagement> recorded =
+        engagementPersistence.recordEngagement(1L, new UserId("user-1"), IncidentEngagementType.DENY);
+
+    assertThat(recorded).contains(new AppliedEngagement(new EngagementStats(3, 2, 2), EXPIRES_AT.toInstant()));
+  }
+
+  @Test
+  void recordEngagementReturnsEmptyWhenAlreadyEngaged() {
+    when(engagementRepository.recordEngagement(1L, "user-1", "DENY")).thenReturn(Optional.empty());
+
+    assertThat(engagementPersistence.recordEngagement(1L, new UserId("user-1"), IncidentEngagementType.DENY))
+        .isEmpty();
+  }
+
+  private static IncidentEngagementView engagementView(int confirms, int denies, int consecutiveDenies) {
+    return new IncidentEngagementView() {
+      @Override
+      public Long getId() {
+        return 1L;
+      }
+
+      @Override
+      public Integer getConfirms() {
+        return confirms;
+      }
+
+      @Override
+      public Integer getDenies() {
+        return denies;
+      }
+
+      @Override
+      public Integer getConsecutiveDenies() {
+        return consecutiveDenies;
+      }
+
+      @Override
+      public Timestamp getExpiresAt() {
+        return EXPIRES_AT;
+      }
+    };
+  }
+}
@@ -3,6 +3,8 @@ package com.backend.adapter.outbound.repo.persistence;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -10,9 +12,11 @@ import com.backend.adapter.outbound.entity.IncidentEntity;
 import com.backend.adapter.outbound.entity.LocationEntity;
 import com.backend.adapter.outbound.entity.UserEntity;
 import com.backend.adapter.outbound.mapper.IncidentMapper;
+import com.backend.adapter.outbound.repo.IncidentDistanceView;
 import com.backend.adapter.outbound.repo.IncidentPersistenceRepository;
+import com.backend.adapter.outbound.repo.IncidentPreviewView;
 import com.backend.adapter.outbound.repo.LocationPersistenceRepository;
-import com.backend.adapter.outbound.repo.UserPersistenceRepository;
+import com.backend.adapter.outbound.repo.cursor.DistanceCursor;
 import com.backend.domain.actor.Role;
 import com.backend.domain.actor.UserId;
 import com.backend.domain.happening.Incident;
@@ -20,7 +24,13 @@ import com.backend.domain.happening.IncidentId;
 import com.backend.domain.location.LocationId;
 import com.backend.domain.media.Media;
 import com.backend.domain.reactions.EngagementStats;
+import com.backend.domain.reactions.IncidentEngagementType;
 import com.backend.domain.reactions.SentimentEngagement;
+import com.backend.port.inbound.commands.CursorPage;
+import com.backend.port.inbound.commands.IncidentPreview;
+import com.backend.port.outbound.repo.AppliedEngagement;
+import com.backend.port.outbound.repo.IncidentEngagementRepository;
+import java.sql.Timestamp;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
@@ -36,7 +46,7 @@ class IncidentPersistenceTest {
 
   @Mock private IncidentPersistenceRepository incidentRepository;
   @Mock private LocationPersistenceRepository locationRepository;
-  @Mock private UserPersistenceRepository userRepository;
+  @Mock private IncidentEngagementRepository engagementRepository;
 
   private IncidentMapper incidentMapper;
   private IncidentPersistence incidentPersistence;
@@ -48,8 +58,8 @@ class IncidentPersistenceTest {
 
   @BeforeEach
   void setUp() {
-    incidentMapper = new IncidentMapper(locationRepository, userRepository);
-    incidentPersistence = new IncidentPersistence(incidentRepository, incidentMapper);
+    incidentMapper = new IncidentMapper(locationRepository);
+    incidentPersistence = new IncidentPersistence(incidentRepository, incidentMapper, engagementRepository);
 
     locationEntity = LocationEntity.builder()
         .id(10L)
@@ -85,6 +95,7 @@ class IncidentPersistenceTest {
         .title("Road issue")
         .description("desc")
         .location(locationEntity)
+        .userUid("firebase-1")
         .user(userEntity)
         .media(Set.of())
         .confirms(0)
@@ -96,14 +107,14 @@ class IncidentPersistenceTest {
   @Test
   void savePersistsAndReturnsMappedDomain() {
     when(locationRepository.findById(10L)).thenReturn(Optional.of(locationEntity));
-    when(userRepository.findByFirebaseUid("firebase-1")).thenReturn(Optional.of(userEntity));
     when(incidentRepository.save(any(IncidentEntity.class)))
         .thenAnswer(invocation -> invocation.getArgument(0));
 
     Incident saved = incidentPersistence.save(domainIncident);
 
     assertThat(saved.getTitle()).isEqualTo("Road issue");
-    verify(incidentRepository).save(any(IncidentEntity.class));
+    assertThat(saved.getUserId().value()).isEqualTo("firebase-1");
+    verify(incidentRepository).save(argThat(entity -> "firebase-1".equals(entity.getUserUid())));
   }
 
   @Test
@@ -132,16 +143,72 @@ class IncidentPersistenceTest {
   }
 
   @Test
-  void findAllInGivenRangeMapsEntities() {
+  void findAllInGivenRangeMapsEntitiesInDistanceOrder() {
     IncidentEntity entity2 = incidentEntity(2L);
-    when(incidentRepository.findAllInGivenRange(1.0, 2.0, 500))
+    when(incidentRepository.findPageInGivenRange(1.0, 2.0, 500, -1, 0, 11))
+        .thenReturn(List.of(distanceView(2L, 10.0), distanceView(1L, 20.0)));
+    when(incidentRepository.findAllByIdIn(List.of(2L, 1L)))
         .thenReturn(List.of(entityIncident, entity2));
 
-    List<Incident> incidents = incidentPersistence.findAllInGivenRange(1.0, 2.0, 500);
+    CursorPage<Incident> page = incidentPersistence.findAllInGivenRange(1.0, 2.0, 500, null, 10);
 
-    assertThat(incidents).hasSize(2);
-    assertThat(incidents.get(0).getId().value()).isEqualTo(1L);
-    assertThat(incidents.get(1).getId().value()).isEqualTo(2L);
+    assertThat(page.items()).extracting(incident -> incident.getId().value()).containsExactly(2L, 1L);
+    assertThat(page.nextCursor()).isNull();
+  }
+
+  @Test
+  void findAllInGivenRangeReturnsCursorWhenMoreRowsExist() {
+    when(incidentRepository.findPageInGivenRange(1.0, 2.0, 500, -1, 0, 2))
+        .thenReturn(List.of(distanceView(1L, 10.0), distanceView(2L, 20.0)));
+    when(incidentRepository.findAllByIdIn(List.of(1L))).thenReturn(List.of(entityIncident));
+
+    CursorPage<Incident> page = incidentPersistence.findAllInGivenRange(1.0, 2.0, 500, null, 1);
+
+    assertThat(page.items()).hasSize(1);
+    assertThat(DistanceCursor.decode(page.nextCursor(), 1.0, 2.0, 500))
+        .isEqualTo(DistanceCursor.after(10.0, 1L, 1.0, 2.0, 500));
+  }
+
+  @Test
+  void findPreviewsInGivenRangeSplitsAggregatedMediaKeys() {
+    Timestamp postedAt = Timestamp.from(Instant.parse("2025-01-01T10:00:00Z"));
+    when(incidentRepository.findPreviewPageInGivenRange(1.0, 2.0, 500, -1, 0, 2))
+        .thenReturn(List.of(
+            previewView(1L, 5.0, postedAt, "a.png,b.png"),
+            previewView(2L, 9.0, postedAt, null)));
+
+    CursorPage<IncidentPreview> page = incidentPersistence.findPreviewsInGivenRange(1.0, 2.0, 500, null, 1);
+
+    assertThat(page.items()).containsExactly(
+        new IncidentPreview(1L, "Incident 1", 10.0, 20.0, postedAt.toInstant(), List.of("a.png", "b.png")));
+    assertThat(DistanceCursor.decode(page.nextCursor(), 1.0, 2.0, 500))
+        .isEqualTo(DistanceCursor.after(5.0, 1L, 1.0, 2.0, 500));
+  }
+
+  @Test
+  void findAllInGivenRangeRejectsMalformedCursor() {
+    assertThrows(IllegalArgumentException.class,
+        () -> incidentPersistence.findAllInGivenRange(1.0, 2.0, 500, "not-a-cursor", 10));
+  }
+
+  @Test
+  void findAllInGivenRangeRejectsCursorOfAnotherSearch() {
+    String cursor = DistanceCursor.after(10.0, 1L, 1.0, 2.0, 500).encode();
+
+    assertThrows(IllegalArgumentException.class,
+        () -> incidentPersistence.findAllInGivenRange(1.0, 2.0, 5_000, cursor, 10));
+    assertThrows(IllegalArgumentException.class,
+        () -> incidentPersistence.findPreviewsInGivenRange(1.5, 2.0, 500, cursor, 10));
+  }
+
+  @Test
+  void findAllInGivenRangeSeeksPastCursor() {
+    String cursor = DistanceCursor.after(10.0, 1L, 1.0, 2.0, 500).encode();
+    when(incidentRepository.findPageInGivenRange(1.0, 2.0, 500, 10.0, 1L, 11)).thenReturn(List.of());
+
+    CursorPage<Incident> page = incidentPersistence.findAllInGivenRange(1.0, 2.0, 500, cursor, 10);
+
+    assertThat(page.items()).isEmpty();
   }
 
   @Test
@@ -162,12 +229,103 @@ class IncidentPersistenceTest {
     assertThat(incidents.get(0).getUserId().value()).isEqualTo("firebase-1");
   }
 
+  private static IncidentPreviewView previewView(
+      long id, double distanceMeters, Timestamp createdAt, String mediaKeys) {
+
+    return new IncidentPreviewView() {
+      @Override
+      public Long getId() {
+        return id;
+      }
+
+      @Override
+      public String getTitle() {
+        return "Incident " + id;
+      }
+
+      @Override
+      public Double getLat() {
+        return 10.0;
+      }
+
+      @Override
+      public Double getLon() {
+        return 20.0;
+      }
+
+      @Override
+      public Timestamp getCreatedAt() {
+        return createdAt;
+      }
+
+      @Override
+      public Double getDistanceMeters() {
+        return distanceMeters;
+      }
+
+      @Override
+      public String getMediaKeys() {
+        return mediaKeys;
+      }
+    };
+  }
+
+  private static IncidentDistanceView distanceView(long id, double distanceMeters) {
+    return new IncidentDistanceView() {
+      @Override
+      public Long getId() {
+        return id;
+      }
+
+      @Override
+      public Double getDistanceMeters() {
+        return distanceMeters;
+      }
+    };
+  }
+
+  @Test
+  void applyEngagementOverlaysAppliedCounters() {
+    Instant expiresAt = Instant.parse("2025-01-01T12:32:00Z");
+    when(engagementRepository.applyEngagement(1L, new UserId("user-1"), IncidentEngagementType.CONFIRM))
+        .thenReturn(Optional.of(new AppliedEngagement(new EngagementStats(5, 1, 0), expiresAt)));
+    when(incidentRepository.findById(1L)).thenReturn(Optional.of(entityIncident));
+
+    Optional<Incident> applied =
+        incidentPersistence.applyEngagement(1L, new UserId("user-1"), IncidentEngagementType.CONFIRM);
+
+    assertThat(applied).isPresent();
+    assertThat(applied.get().getEngagementStats()).isEqualTo(new EngagementStats(5, 1, 0));
+    assertThat(applied.get().getExpiresAt()).isEqualTo(expiresAt);
+  }
+
+  @Test
+  void applyEngagementReturnsEmptyWhenNothingApplied() {
+    when(engagementRepository.applyEngagement(1L, new UserId("user-1"), IncidentEngagementType.DENY))
+        .thenReturn(Optional.empty());
+
+    assertThat(incidentPersistence.applyEngagement(1L, new UserId("user-1"), IncidentEngagementType.DENY)).isEmpty();
+    verify(incidentRepository, never()).findById(1L);
+  }
+
+  @Test
+  void mapperKeepsConsecutiveDenies() {
+    entityIncident.setDenies(4);
+    entityIncident.setConsecutiveDenies(2);
+    when(incidentRepository.findById(1L)).thenReturn(Optional.of(entityIncident));
+
+    Incident incident = incidentPersistence.findById(1L).orElseThrow();
+
+    assertThat(incident.getEngagementStats()).isEqualTo(new EngagementStats(0, 4, 2));
+  }
+
   private IncidentEntity incidentEntity(long id) {
     return IncidentEntity.builder()
         .id(id)
         .title("Road issue")
         .description("desc")
         .location(locationEntity)
+        .userUid("firebase-1")
         .user(userEntity)
         .media(Set.of())
         .confirms(0)
@@ -8,9 +8,12 @@ import static org.mockito.Mockito.when;
 
 import com.backend.adapter.outbound.entity.LocationEntity;
 import com.backend.adapter.outbound.repo.LocationPersistenceRepository;
+import com.backend.domain.location.GeoCell;
 import com.backend.domain.location.Location;
 import com.backend.domain.location.LocationId;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -45,6 +48,53 @@ class LocationPersistenceTest {
     verify(locationPersistenceRepository).save(any(LocationEntity.class));
   }
 
+  @Test
+  void findAnyInCellSearchesCellBounds() {
+    GeoCell cell = GeoCell.of(44.42671, 26.10253);
+    LocationEntity entity = LocationEntity.builder().id(5L).lat(44.42672).lng(26.10254).addressText("Corner").build();
+
+    when(locationPersistenceRepository.findFirstByLatBetweenAndLngBetweenAndAddressTextNot(
+        cell.minLatitude(), cell.maxLatitude(), cell.minLongitude(), cell.maxLongitude(),
+        Location.PENDING_ADDRESS))
+        .thenReturn(Optional.of(entity));
+
+    assertThat(locationPersistence.findAnyInCell(cell)).map(Location::address).contains("Corner");
+  }
+
+  @Test
+  void saveInCellUpsertsOnCellKey() {
+    Location location = new Location(new LocationId(0), 26.10254, 44.42672, "Corner");
+    GeoCell cell = GeoCell.of(44.42672, 26.10254);
+    LocationEntity owner = LocationEntity.builder()
+        .id(9L).lat(44.42671).lng(26.10253).addressText("Corner").cellKey(cell.key()).build();
+
+    when(locationPersistenceRepository.findByCellKey("444267:261025")).thenReturn(Optional.of(owner));
+
+    Location saved = locationPersistence.saveInCell(location, cell);
+
+    verify(locationPersistenceRepository).insertIfCellUnclaimed(44.42672, 26.10254, "Corner", "444267:261025");
+    assertThat(saved.id().value()).isEqualTo(9L);
+    assertThat(saved.latitude()).isEqualTo(44.42671);
+  }
+
+  @Test
+  void findAllByIdsMapsEntitiesInOneLookup() {
+    LocationEntity first = LocationEntity.builder().id(1L).lat(11.0).lng(22.0).addressText("First").build();
+    LocationEntity second = LocationEntity.builder().id(2L).lat(33.0).lng(44.0).addressText("Second").build();
+
+    when(locationPersistenceRepository.findAllById(Set.of(1L, 2L))).thenReturn(List.of(first, second));
+
+    List<Location> locations = locationPersistence.findAllByIds(Set.of(1L, 2L));
+
+    assertThat(locations).extracting(Location::address).containsExactly("First", "Second");
+    verify(locationPersistenceRepository).findAllById(Set.of(1L, 2L));
+  }
+
+  @Test
+  void findAllByIdsSkipsRepositoryForEmptyInput() {
+    assertThat(locationPersistence.findAllByIds(Set.of())).isEmpty();
+  }
+
   @Test
   void findByIdReturnsMappedLocation() {
     LocationEntity entity = LocationEntity.builder()
@@ -71,24 +121,6 @@ class LocationPersistenceTest {
     assertThrows(IllegalStateException.class, () -> locationPersistence.findById(99L));
   }
 
-  @Test
-  void findByCoordinateReturnsOptionalLocation() {
-    LocationEntity entity = LocationEntity.builder()
-        .id(7L)
-        .lat(33.3)
-        .lng(44.4)
-        .addressText("Somewhere")
-        .build();
-
-    when(locationPersistenceRepository.findByLatAndLng(33.3, 44.4))
-        .thenReturn(Optional.of(entity));
-
-    Optional<Location> result = locationPersistence.findByCoordinate(33.3, 44.4);
-
-    assertThat(result).isPresent();
-    assertThat(result.get().address()).isEqualTo("Somewhere");
-  }
-
   @Test
   void deleteByIdDelegatesToRepository() {
     locationPersistence.deleteById(8L);
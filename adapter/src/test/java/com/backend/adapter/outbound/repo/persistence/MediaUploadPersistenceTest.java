@@ -0,0 +1,77 @@
+package com.backend.adapter.outbound.repo.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import com.backend.adapter.outbound.entity.MediaUploadEntity;
+import com.backend.adapter.outbound.repo.MediaUploadPersistenceRepository;
+import com.backend.domain.actor.UserId;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class MediaUploadPersistenceTest {
+
+  private static final UserId USER = new UserId("firebase-1");
+  private static final Instant NOW = Instant.parse("2026-01-01T12:00:00Z");
+
+  @Mock
+  private MediaUploadPersistenceRepository repository;
+
+  @InjectMocks
+  private MediaUploadPersistence mediaUploadPersistence;
+
+  @Test
+  void markAttachedAttachesEveryIssuedKey() {
+    MediaUploadEntity first = upload("uploads/firebase-1/a.jpg", "firebase-1", NOW.plusSeconds(60), null);
+    MediaUploadEntity second = upload("uploads/firebase-1/b.jpg", "firebase-1", NOW.plusSeconds(60), null);
+    Set<String> keys = Set.of(first.getKey(), second.getKey());
+    when(repository.findAllByKeyIn(keys)).thenReturn(List.of(first, second));
+
+    assertThat(mediaUploadPersistence.markAttached(USER, keys, NOW)).isTrue();
+
+    assertThat(first.getAttachedAt()).isEqualTo(NOW);
+    assertThat(second.getAttachedAt()).isEqualTo(NOW);
+  }
+
+  @Test
+  void markAttachedLeavesAllKeysAloneIfOneCannotBeAttached() {
+    MediaUploadEntity fresh = upload("uploads/firebase-1/a.jpg", "firebase-1", NOW.plusSeconds(60), null);
+    MediaUploadEntity used = upload("uploads/firebase-1/b.jpg", "firebase-1", NOW.plusSeconds(60), NOW);
+    Set<String> keys = Set.of(fresh.getKey(), used.getKey());
+    when(repository.findAllByKeyIn(keys)).thenReturn(List.of(fresh, used));
+
+    assertThat(mediaUploadPersistence.markAttached(USER, keys, NOW.plusSeconds(1))).isFalse();
+
+    assertThat(fresh.getAttachedAt()).isNull();
+  }
+
+  @Test
+  void markAttachedRejectsUnknownForeignAndExpiredKeys() {
+    MediaUploadEntity foreign = upload("uploads/firebase-2/a.jpg", "firebase-2", NOW.plusSeconds(60), null);
+    MediaUploadEntity expired = upload("uploads/firebase-1/b.jpg", "firebase-1", NOW.minusSeconds(1), null);
+    when(repository.findAllByKeyIn(Set.of(foreign.getKey()))).thenReturn(List.of(foreign));
+    when(repository.findAllByKeyIn(Set.of(expired.getKey()))).thenReturn(List.of(expired));
+    when(repository.findAllByKeyIn(Set.of("uploads/firebase-1/never-issued.jpg"))).thenReturn(List.of());
+
+    assertThat(mediaUploadPersistence.markAttached(USER, Set.of(foreign.getKey()), NOW)).isFalse();
+    assertThat(mediaUploadPersistence.markAttached(USER, Set.of(expired.getKey()), NOW)).isFalse();
+    assertThat(mediaUploadPersistence.markAttached(USER, Set.of("uploads/firebase-1/never-issued.jpg"), NOW))
+        .isFalse();
+  }
+
+  private static MediaUploadEntity upload(String key, String userUid, Instant expiresAt, Instant attachedAt) {
+    return MediaUploadEntity.builder()
+        .key(key)
+        .userUid(userUid)
+        .expiresAt(expiresAt)
+        .attachedAt(attachedAt)
+        .build();
+  }
+}
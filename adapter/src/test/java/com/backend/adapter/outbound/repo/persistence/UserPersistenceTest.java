@@ -3,6 +3,8 @@ package com.backend.adapter.outbound.repo.persistence;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -12,7 +14,9 @@ import com.backend.adapter.outbound.repo.UserPersistenceRepository;
 import com.backend.domain.actor.Role;
 import com.backend.domain.actor.User;
 import com.backend.domain.actor.UserId;
+import java.sql.Timestamp;
 import java.time.Instant;
+import java.util.Map;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -20,6 +24,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 @ExtendWith(MockitoExtension.class)
 class UserPersistenceTest {
@@ -27,6 +32,9 @@ class UserPersistenceTest {
   @Mock
   private UserPersistenceRepository repository;
 
+  @Mock
+  private JdbcTemplate jdbcTemplate;
+
   @InjectMocks
   private UserPersistence userPersistence;
 
@@ -115,4 +123,22 @@ class UserPersistenceTest {
     assertThat(userPersistence.existsByFirebaseUid("firebase-1")).isTrue();
     verify(repository).existsByFirebaseUid("firebase-1");
   }
+
+  @Test
+  void updateLastLoginsUsesOneMultiRowStatement() {
+    Instant loggedInAt = Instant.parse("2025-01-01T12:00:00Z");
+    when(jdbcTemplate.update(contains("FROM (VALUES (CAST(? AS VARCHAR), CAST(? AS TIMESTAMP)))"),
+        eq("firebase-1"), eq(Timestamp.from(loggedInAt))))
+        .thenReturn(1);
+
+    int updated = userPersistence.updateLastLogins(Map.of("firebase-1", loggedInAt));
+
+    assertThat(updated).isEqualTo(1);
+  }
+
+  @Test
+  void updateLastLoginsSkipsEmptyBatch() {
+    assertThat(userPersistence.updateLastLogins(Map.of())).isZero();
+    verify(jdbcTemplate, never()).update(any(String.class), any(Object[].class));
+  }
 }
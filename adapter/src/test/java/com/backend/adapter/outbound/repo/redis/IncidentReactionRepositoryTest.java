@@ -0,0 +1,119 @@
+package com.backend.adapter.outbound.repo.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.backend.port.inbound.commands.ReactionSummary;
+import com.backend.port.inbound.commands.ReactionType;
+import com.github.fppt.jedismock.RedisServer;
+import java.io.IOException;
+import java.util.List;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+class IncidentReactionRepositoryTest {
+
+  private static RedisServer redisServer;
+  private static LettuceConnectionFactory connectionFactory;
+
+  private StringRedisTemplate redisTemplate;
+  private IncidentReactionRepository repository;
+
+  @BeforeAll
+  static void startRedis() throws IOException {
+    redisServer = RedisServer.newRedisServer().start();
+    connectionFactory = new LettuceConnectionFactory(
+        new RedisStandaloneConfiguration(redisServer.getHost(), redisServer.getBindPort()));
+    connectionFactory.afterPropertiesSet();
+    connectionFactory.start();
+  }
+
+  @AfterAll
+  static void stopRedis() throws IOException {
+    connectionFactory.destroy();
+    redisServer.stop();
+  }
+
+  @BeforeEach
+  void setUp() {
+    redisTemplate = new StringRedisTemplate(connectionFactory);
+    redisTemplate.execute(connection -> {
+      connection.serverCommands().flushAll();
+      return null;
+    }, true);
+    repository = new IncidentReactionRepository(redisTemplate, new ReactionKeyBuilder(8), 1_000);
+  }
+
+  @Test
+  void likeThenDislikeMovesUserBetweenSets() {
+    repository.addLike(1L, "alice");
+    repository.addLike(1L, "bob");
+
+    ReactionSummary summary = repository.addDislike(1L, "alice");
+
+    assertThat(summary).isEqualTo(new ReactionSummary(1L, 1, 1, ReactionType.DISLIKE));
+  }
+
+  @Test
+  void repeatedLikeIsCountedOnce() {
+    repository.addLike(1L, "alice");
+
+    ReactionSummary summary = repository.addLike(1L, "alice");
+
+    assertThat(summary).isEqualTo(new ReactionSummary(1L, 1, 0, ReactionType.LIKE));
+  }
+
+  @Test
+  void removeLikeOnlyDropsLike() {
+    repository.addDislike(1L, "alice");
+
+    ReactionSummary summary = repository.removeLike(1L, "alice");
+
+    assertThat(summary).isEqualTo(new ReactionSummary(1L, 0, 1, ReactionType.DISLIKE));
+    assertThat(repository.removeDislike(1L, "alice")).isEqualTo(new ReactionSummary(1L, 0, 0, ReactionType.NONE));
+  }
+
+  @Test
+  void getSummariesReadsSeveralIncidentsInOrder() {
+    repository.addLike(2L, "alice");
+    repository.addDislike(1L, "alice");
+    repository.addLike(1L, "bob");
+
+    List<ReactionSummary> summaries = repository.getSummaries(List.of(2L, 1L, 3L, 2L), "alice");
+
+    assertThat(summaries).containsExactly(
+        new ReactionSummary(2L, 1, 0, ReactionType.LIKE),
+        new ReactionSummary(1L, 1, 1, ReactionType.DISLIKE),
+        new ReactionSummary(3L, 0, 0, ReactionType.NONE));
+  }
+
+  @Test
+  void anonymousSummaryHasNoReaction() {
+    repository.addLike(1L, "alice");
+
+    assertThat(repository.getSummary(1L, "")).isEqualTo(new ReactionSummary(1L, 1, 0, ReactionType.NONE));
+    assertThat(repository.getSummaries(List.of(), "")).isEmpty();
+  }
+
+  @Test
+  void bothSetsOfAnIncidentShareAHashTag() {
+    ReactionKeyBuilder keyBuilder = new ReactionKeyBuilder(8);
+
+    assertThat(keyBuilder.likesKey(42L)).isEqualTo("incident:{42}:likes");
+    assertThat(keyBuilder.dislikesKey(42L)).isEqualTo("incident:{42}:dislikes");
+  }
+
+  @Test
+  void outboxShardsCarryTheirOwnHashTag() {
+    ReactionKeyBuilder keyBuilder = new ReactionKeyBuilder(8);
+
+    assertThat(keyBuilder.outboxKey(42L)).isEqualTo("reactions:outbox:{shard-2}");
+    assertThat(keyBuilder.outboxKey(-1L)).isEqualTo("reactions:outbox:{shard-7}");
+    assertThat(keyBuilder.deadLetterKey(keyBuilder.outboxKey(42L))).isEqualTo("reactions:outbox:{shard-2}:dead");
+    assertThat(keyBuilder.outboxKeys()).hasSize(8).doesNotHaveDuplicates();
+  }
+}
@@ -0,0 +1,161 @@
+package com.backend.adapter.outbound.repo.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.github.fppt.jedismock.RedisServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class ReactionOutboxFlusherTest {
+
+  private static RedisServer redisServer;
+  private static LettuceConnectionFactory connectionFactory;
+
+  @Mock private JdbcTemplate jdbcTemplate;
+  @Captor private ArgumentCaptor<List<Object[]>> batchCaptor;
+
+  private final ReactionKeyBuilder keyBuilder = new ReactionKeyBuilder(4);
+  private StringRedisTemplate redisTemplate;
+  private IncidentReactionRepository reactions;
+  private ReactionOutboxFlusher flusher;
+
+  @BeforeAll
+  static void startRedis() throws IOException {
+    redisServer = RedisServer.newRedisServer().start();
+    connectionFactory = new LettuceConnectionFactory(
+        new RedisStandaloneConfiguration(redisServer.getHost(), redisServer.getBindPort()));
+    connectionFactory.afterPropertiesSet();
+    connectionFactory.start();
+  }
+
+  @AfterAll
+  static void stopRedis() throws IOException {
+    connectionFactory.destroy();
+    redisServer.stop();
+  }
+
+  @BeforeEach
+  void setUp() {
+    redisTemplate = new StringRedisTemplate(connectionFactory);
+    redisTemplate.execute(connection -> {
+      connection.serverCommands().flushAll();
+      return null;
+    }, true);
+    reactions = new IncidentReactionRepository(redisTemplate, keyBuilder, 1_000);
+    flusher = new ReactionOutboxFlusher(redisTemplate, keyBuilder, jdbcTemplate, 100, 1_000, new SimpleMeterRegistry());
+  }
+
+  @Test
+  void onlyChangesReachTheOutbox() {
+    reactions.addLike(1L, "alice");
+    reactions.addLike(1L, "alice");
+    reactions.removeDislike(1L, "alice");
+    reactions.getSummary(1L, "alice");
+
+    assertThat(redisTemplate.opsForStream().size(keyBuilder.outboxKey(1L))).isEqualTo(1);
+  }
+
+  @Test
+  void flushWritesLatestReactionPerUserAndDrainsOutbox() {
+    reactions.addLike(1L, "alice");
+    reactions.addDislike(1L, "alice");
+    reactions.addLike(5L, "bob");
+
+    flusher.flush();
+
+    verify(jdbcTemplate).batchUpdate(contains("INSERT INTO reactions"), batchCaptor.capture());
+    assertThat(batchCaptor.getValue())
+        .extracting(args -> List.of(args[0], args[2], args[3]))
+        .containsExactly(List.of("DISLIKE", "alice", 1L), List.of("LIKE", "bob", 5L));
+    verify(jdbcTemplate, never()).batchUpdate(contains("DELETE FROM reactions"), anyList());
+    assertThat(redisTemplate.opsForStream().size(keyBuilder.outboxKey(1L))).isZero();
+    assertThat(redisTemplate.opsForStream().size(keyBuilder.outboxKey(5L))).isZero();
+  }
+
+  @Test
+  void withdrawnReactionIsDeleted() {
+    reactions.addLike(1L, "alice");
+    reactions.removeLike(1L, "alice");
+
+    flusher.flush();
+
+    verify(jdbcTemplate).batchUpdate(contains("DELETE FROM reactions"), batchCaptor.capture());
+    assertThat(batchCaptor.getValue())
+        .extracting(args -> List.of(args[0], args[1]))
+        .containsExactly(List.of(1L, "alice"));
+    verify(jdbcTemplate, never()).batchUpdate(contains("INSERT INTO reactions"), anyList());
+  }
+
+  @Test
+  void failedWriteKeepsOutboxForNextFlush() {
+    reactions.addLike(1L, "alice");
+    when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenThrow(new QueryTimeoutException("timeout"));
+
+    flusher.flush();
+
+    assertThat(redisTemplate.opsForStream().size(keyBuilder.outboxKey(1L))).isEqualTo(1);
+  }
+
+  @Test
+  void constraintViolationDeadLettersOnlyTheOffendingReaction() {
+    reactions.addLike(1L, "alice");
+    reactions.addLike(1L, "mallory");
+    when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(invocation -> {
+      List<Object[]> rows = invocation.getArgument(1);
+      if (rows.stream().anyMatch(row -> "mallory".equals(row[2]))) {
+        throw new DataIntegrityViolationException("value too long");
+      }
+      return new int[rows.size()];
+    });
+
+    flusher.flush();
+
+    verify(jdbcTemplate, times(3)).batchUpdate(contains("INSERT INTO reactions"), batchCaptor.capture());
+    assertThat(batchCaptor.getAllValues().get(1))
+        .extracting(args -> args[2])
+        .containsExactly("alice");
+    String outboxKey = keyBuilder.outboxKey(1L);
+    assertThat(redisTemplate.opsForStream().size(outboxKey)).isZero();
+    assertThat(redisTemplate.opsForStream().range(keyBuilder.deadLetterKey(outboxKey), Range.unbounded()))
+        .extracting(record -> record.getValue().get("user"))
+        .containsExactly("mallory");
+  }
+
+  @Test
+  void malformedEntryIsDeadLettered() {
+    String outboxKey = keyBuilder.outboxKey(1L);
+    redisTemplate.opsForStream().add(outboxKey, Map.of("incident", "abc", "user", "alice", "reaction", "LIKE"));
+
+    flusher.flush();
+
+    verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    assertThat(redisTemplate.opsForStream().size(outboxKey)).isZero();
+    assertThat(redisTemplate.opsForStream().size(keyBuilder.deadLetterKey(outboxKey))).isEqualTo(1);
+  }
+}
@@ -0,0 +1,99 @@
+package com.backend.adapter.outbound.repo.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.backend.adapter.outbound.storage.ImageThumbnailProcessor;
+import com.backend.adapter.outbound.storage.MediaPreviewRecordedEvent;
+import com.backend.domain.media.Media;
+import com.backend.port.outbound.repo.MediaRepository;
+import com.backend.port.outbound.storage.ObjectStoragePort;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.util.Set;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+@ExtendWith(MockitoExtension.class)
+class ImageThumbnailProcessorTest {
+
+  @Mock
+  private ObjectStoragePort objectStoragePort;
+
+  @Mock
+  private MediaRepository mediaRepository;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  private ImageThumbnailProcessor processor;
+
+  @BeforeEach
+  void setUp() {
+    processor = new ImageThumbnailProcessor(objectStoragePort, mediaRepository, eventPublisher, 320, 1);
+  }
+
+  @AfterEach
+  void tearDown() {
+    processor.shutdown();
+  }
+
+  @Test
+  void storesDownscaledPreviewNextToOriginal() throws Exception {
+    when(objectStoragePort.get("photo.png")).thenReturn(png(1600, 800));
+
+    processor.generatePreviews(Set.of(new Media(1024, "photo.png", "image/png")));
+
+    ArgumentCaptor<InputStream> content = ArgumentCaptor.forClass(InputStream.class);
+    verify(eventPublisher, timeout(5000)).publishEvent(new MediaPreviewRecordedEvent("photo.png", "photo.png.preview.jpg"));
+    verify(mediaRepository).updatePreviewKey("photo.png", "photo.png.preview.jpg");
+    verify(objectStoragePort).put(eq("photo.png.preview.jpg"), content.capture(), anyLong(), eq("image/jpeg"));
+
+    BufferedImage preview = ImageIO.read(content.getValue());
+    assertThat(preview.getWidth()).isEqualTo(320);
+    assertThat(preview.getHeight()).isEqualTo(160);
+  }
+
+  @Test
+  void leavesSmallImagesAlone() throws Exception {
+    when(objectStoragePort.get("icon.png")).thenReturn(png(200, 100));
+
+    processor.generatePreviews(Set.of(new Media(256, "icon.png", "image/png")));
+
+    verify(objectStoragePort, timeout(5000)).get("icon.png");
+    verify(objectStoragePort, never()).put(anyString(), any(), anyLong(), anyString());
+    verifyNoInteractions(mediaRepository, eventPublisher);
+  }
+
+  @Test
+  void skipsNonImagesAndExistingPreviews() {
+    processor.generatePreviews(Set.of(
+        new Media(4096, "clip.mp4", "video/mp4"),
+        new Media(1024, "photo.png", "image/png", "photo.png.preview.jpg")));
+
+    verifyNoInteractions(objectStoragePort, mediaRepository);
+  }
+
+  private static InputStream png(int width, int height) throws Exception {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", out);
+    return new ByteArrayInputStream(out.toByteArray());
+  }
+}
@@ -3,9 +3,11 @@ package com.backend.adapter.outbound.repo.storage;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -14,21 +16,31 @@ import static org.mockito.Mockito.when;
 import com.backend.adapter.outbound.storage.MinioObjectStorageAdapter;
 import com.backend.domain.media.Media;
 import com.backend.port.inbound.commands.UploadMediaCommand;
+import com.backend.port.outbound.storage.PresignedUpload;
+import com.backend.port.outbound.storage.StoredObject;
 import io.minio.BucketExistsArgs;
 import io.minio.GetPresignedObjectUrlArgs;
 import io.minio.MinioClient;
+import io.minio.PostPolicy;
 import io.minio.PutObjectArgs;
 import io.minio.RemoveObjectsArgs;
 import io.minio.Result;
+import io.minio.StatObjectArgs;
+import io.minio.StatObjectResponse;
 import io.minio.messages.DeleteError;
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeoutException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
@@ -36,12 +48,13 @@ class MinioObjectStorageAdapterTest {
 
   private MinioClient minioClient;
   private final static String BUCKET = "test-bucket";
+  private final static String ENDPOINT = "http://minio:9000/";
   private MinioObjectStorageAdapter adapter;
 
   @BeforeEach
   void setUp() {
     minioClient = mock(MinioClient.class);
-    adapter = new MinioObjectStorageAdapter(minioClient, BUCKET);
+    adapter = new MinioObjectStorageAdapter(minioClient, BUCKET, ENDPOINT);
   }
 
   @Test
@@ -67,6 +80,73 @@ class MinioObjectStorageAdapterTest {
     verify(minioClient, times(1)).putObject(any(PutObjectArgs.class));
   }
 
+  @Test
+  void testBucketIsCheckedOnlyOnce() throws Exception {
+    when(minioClient.bucketExists(any(BucketExistsArgs.class))).thenReturn(true);
+
+    adapter.initBucket();
+    adapter.uploadAll(Set.of(upload("a.png")));
+    adapter.uploadAll(Set.of(upload("b.png")));
+
+    verify(minioClient, times(1)).bucketExists(any(BucketExistsArgs.class));
+    verify(minioClient, times(2)).putObject(any(PutObjectArgs.class));
+  }
+
+  @Test
+  void testFailedUploadRemovesStoredObjects() throws Exception {
+    when(minioClient.bucketExists(any(BucketExistsArgs.class))).thenReturn(true);
+    when(minioClient.putObject(any(PutObjectArgs.class))).thenAnswer(invocation -> {
+      PutObjectArgs args = invocation.getArgument(0);
+      if (args.object().endsWith("broken.png")) throw new IOException("connection reset");
+      return null;
+    });
+    when(minioClient.removeObjects(any(RemoveObjectsArgs.class))).thenReturn(List.of());
+
+    assertThrows(IOException.class,
+        () -> adapter.uploadAll(Set.of(upload("ok.png"), upload("broken.png"))));
+
+    verify(minioClient, times(1)).removeObjects(any(RemoveObjectsArgs.class));
+  }
+
+  @Test
+  void testTimeQueuedForAPermitDoesNotCountAgainstTheUploadTimeout() throws Exception {
+    adapter = new MinioObjectStorageAdapter(minioClient, BUCKET, ENDPOINT, 1, 300);
+    when(minioClient.bucketExists(any(BucketExistsArgs.class))).thenReturn(true);
+    when(minioClient.putObject(any(PutObjectArgs.class))).thenAnswer(invocation -> {
+      Thread.sleep(200);
+      return null;
+    });
+
+    Set<Media> results = adapter.uploadAll(Set.of(upload("a.png"), upload("b.png")));
+
+    assertEquals(2, results.size());
+  }
+
+  @Test
+  void testUploadCompletingAfterTimeoutIsRemoved() throws Exception {
+    adapter = new MinioObjectStorageAdapter(minioClient, BUCKET, ENDPOINT, 1, 50);
+    CountDownLatch stalled = new CountDownLatch(1);
+    when(minioClient.bucketExists(any(BucketExistsArgs.class))).thenReturn(true);
+    when(minioClient.putObject(any(PutObjectArgs.class))).thenAnswer(invocation -> {
+      while (true) {
+        try {
+          stalled.await();
+          return null;
+        } catch (InterruptedException ignored) {
+          // a stuck socket write does not notice the interrupt either
+        }
+      }
+    });
+    when(minioClient.removeObjects(any(RemoveObjectsArgs.class))).thenReturn(List.of());
+
+    assertThrows(TimeoutException.class, () -> adapter.uploadAll(Set.of(upload("slow.png"))));
+    verify(minioClient, times(1)).removeObjects(any(RemoveObjectsArgs.class));
+
+    stalled.countDown();
+
+    verify(minioClient, timeout(1_000).times(2)).removeObjects(any(RemoveObjectsArgs.class));
+  }
+
   @Test
   void testDeleteAllByKeys() throws Exception {
     String key = "key1";
@@ -98,18 +178,31 @@ class MinioObjectStorageAdapterTest {
   }
 
   @Test
-  void testPresignPut() throws Exception {
-    String key = "file.png";
-    Duration ttl = Duration.ofMinutes(10);
-    String url = "http://example.com/file.png";
+  void testPresignUploadPinsKeyContentTypeAndSize() throws Exception {
+    String key = "uploads/uid/photo.jpg";
+    ArgumentCaptor<PostPolicy> policy = ArgumentCaptor.forClass(PostPolicy.class);
+    when(minioClient.getPresignedPostFormData(policy.capture())).thenReturn(Map.of("policy", "signed"));
 
-    when(minioClient.getPresignedObjectUrl(any(GetPresignedObjectUrlArgs.class))).thenReturn(url);
+    PresignedUpload upload = adapter.presignUpload(key, Duration.ofMinutes(10), "image/jpeg", 1024);
 
-    String result = adapter.presignPut(key, ttl);
+    assertEquals("http://minio:9000/" + BUCKET, upload.url());
+    assertEquals(Map.of("policy", "signed", "key", key, "Content-Type", "image/jpeg"), upload.formFields());
+    assertEquals(BUCKET, policy.getValue().bucket());
+  }
 
-    assertEquals(url, result);
-    verify(minioClient, times(1))
-      .getPresignedObjectUrl(any(GetPresignedObjectUrlArgs.class));
+  @Test
+  void testStatReturnsObjectMetadata() throws Exception {
+    StatObjectResponse response = mock(StatObjectResponse.class);
+    when(response.size()).thenReturn(2048L);
+    when(response.contentType()).thenReturn("image/jpeg");
+    when(minioClient.statObject(any(StatObjectArgs.class))).thenReturn(response);
+
+    StoredObject stored = adapter.stat("uploads/uid/photo.jpg").orElseThrow();
+
+    assertEquals(new StoredObject("uploads/uid/photo.jpg", 2048L, "image/jpeg"), stored);
   }
 
+  private static UploadMediaCommand upload(String filename) {
+    return new UploadMediaCommand(new ByteArrayInputStream(new byte[4]), filename, 4L, "image/png");
+  }
 }
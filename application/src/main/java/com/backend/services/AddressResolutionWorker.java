@@ -0,0 +1,140 @@
+package com.backend.services;
+
+import com.backend.domain.location.Location;
+import com.backend.port.inbound.commands.CoordinatesCommand;
+import com.backend.port.outbound.repo.IncidentRepository;
+import com.backend.port.outbound.repo.LocationRepository;
+import com.backend.services.events.LocationAddressPendingEvent;
+import com.backend.services.events.LocationAddressResolvedEvent;
+import com.backend.services.exceptions.GeocodingRateLimitedException;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Resolves addresses of locations that were saved with {@link Location#PENDING_ADDRESS}.
+ *
+ * <p>Each location is retried with exponential backoff and jitter, or after the advertised
+ * {@code Retry-After} when Mapbox throttled us and that is longer. Locations that still have no
+ * address after the last attempt, or that were left pending by a restart, are picked up again
+ * by a periodic sweep. Once resolved, a {@link LocationAddressResolvedEvent} is published so
+ * subscribers can push the address to clients.</p>
+ */
+@Slf4j
+@Service
+public class AddressResolutionWorker {
+
+    static final int MAX_ATTEMPTS = 6;
+    private static final Duration INITIAL_BACKOFF = Duration.ofSeconds(2);
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(2);
+    private static final int SWEEP_BATCH_SIZE = 100;
+
+    private final LocationService locationService;
+    private final LocationRepository locationRepository;
+    private final IncidentRepository incidentRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+        Thread.ofPlatform().name("address-resolution").daemon(true).factory());
+
+    public AddressResolutionWorker(
+            LocationService locationService,
+            LocationRepository locationRepository,
+            IncidentRepository incidentRepository,
+            ApplicationEventPublisher eventPublisher) {
+
+        this.locationService = locationService;
+        this.locationRepository = locationRepository;
+        this.incidentRepository = incidentRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    @EventListener
+    public void onAddressPending(final LocationAddressPendingEvent event) {
+        enqueue(event.location());
+    }
+
+    /**
+     * Re-enqueues locations that are still pending, e.g. after a restart or after exhausting retries.
+     */
+    @Scheduled(fixedDelayString = "${location.geocoding.sweep-interval-ms:300000}")
+    public void resumePending() {
+        try {
+            locationRepository.findAllByAddress(Location.PENDING_ADDRESS, SWEEP_BATCH_SIZE)
+                .forEach(this::enqueue);
+        } catch (Exception e) {
+            log.warn("Could not load locations with pending addresses", e);
+        }
+    }
+
+    private void enqueue(final Location location) {
+        if (inFlight.add(location.id().value())) {
+            schedule(location, 1, Duration.ZERO);
+        }
+    }
+
+    private void schedule(final Location location, final int attempt, final Duration delay) {
+        scheduler.schedule(() -> resolve(location, attempt), delay.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Makes one resolution attempt, rescheduling itself on failure until {@link #MAX_ATTEMPTS}.
+     */
+    void resolve(final Location location, final int attempt) {
+        final long locationId = location.id().value();
+
+        try {
+            final String address = locationService.getAddress(
+                new CoordinatesCommand(location.latitude(), location.longitude()));
+
+            locationRepository.updateAddress(locationId, address);
+            inFlight.remove(locationId);
+
+            eventPublisher.publishEvent(new LocationAddressResolvedEvent(
+                location.id(), location.latitude(), location.longitude(), address,
+                incidentRepository.findIdsByLocationId(locationId)));
+
+        } catch (Exception e) {
+            if (attempt >= MAX_ATTEMPTS) {
+                inFlight.remove(locationId);
+                log.warn("Giving up on address of location {} after {} attempts", locationId, attempt, e);
+                return;
+            }
+
+            final Duration backoff = backoff(attempt);
+            final Duration delay = e instanceof GeocodingRateLimitedException limited
+                && limited.getRetryAfter().compareTo(backoff) > 0
+                ? limited.getRetryAfter()
+                : backoff;
+            log.debug("Address of location {} not resolved (attempt {}), retrying in {}", locationId, attempt, delay);
+            schedule(location, attempt + 1, delay);
+        }
+    }
+
+    /**
+     * @return exponential backoff for the given attempt, capped and with up to 20% jitter
+     */
+    static Duration backoff(final int attempt) {
+        final long base = INITIAL_BACKOFF.toMillis() << Math.min(attempt - 1, 16);
+        final long capped = Math.min(base, MAX_BACKOFF.toMillis());
+        final long jitter = ThreadLocalRandom.current().nextLong(capped / 5 + 1);
+
+        return Duration.ofMillis(capped + jitter);
+    }
+}
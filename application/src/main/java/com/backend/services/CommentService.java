@@ -1,37 +1,111 @@
 package com.backend.services;
 
-import com.backend.port.inbound.CommentUseCase;
 import com.backend.domain.actor.Comment;
+import com.backend.domain.actor.UserId;
+import com.backend.domain.happening.HappeningId;
+import com.backend.port.inbound.CommentUseCase;
 import com.backend.port.inbound.commands.CommentTextCommand;
+import com.backend.port.inbound.commands.CursorPage;
+import com.backend.port.outbound.repo.CommentRepository;
+import com.backend.port.outbound.repo.IncidentRepository;
+import com.backend.services.exceptions.CommentNotFoundException;
+import com.backend.services.exceptions.CommentNotOwnedException;
+import com.backend.services.exceptions.IncidentNotFoundException;
+import java.time.Instant;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
-
+/**
+ * Application service for the comments of incidents. Comments are read one page at a time and the
+ * number of comments is read from the incident, so opening an incident costs the same however many
+ * comments it has.
+ */
 @Service
+@RequiredArgsConstructor
 public class CommentService implements CommentUseCase {
 
+    private static final int COMMENT_PAGE_SIZE = 20;
+
+    private final CommentRepository commentRepository;
+    private final IncidentRepository incidentRepository;
+
+    /**
+     * @throws IncidentNotFoundException if the incident does not exist
+     * @throws IllegalArgumentException  if the user is missing or the text is blank
+     */
     @Override
-    public Comment create(CommentTextCommand commentText) {
-        return null;
+    public Comment create(long incidentId, String userId, CommentTextCommand commentText) {
+        assertUser(userId);
+        if (!incidentRepository.existsById(incidentId)) {
+            throw new IncidentNotFoundException("Incident not found with value: " + incidentId);
+        }
+
+        return commentRepository.save(Comment.builder()
+            .text(commentText.text())
+            .happeningId(new HappeningId(incidentId))
+            .userId(new UserId(userId))
+            .createdAt(Instant.now())
+            .build());
     }
 
+    /**
+     * Unknown incidents have no comments; their existence is not checked.
+     *
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
     @Override
-    public List<Comment> findByActorId(long actorId) {
-        return List.of();
+    public CursorPage<Comment> findByIncidentId(long incidentId, String cursor) {
+        return commentRepository.findPageByHappeningId(incidentId, cursor, COMMENT_PAGE_SIZE);
     }
 
+    /**
+     * @throws IncidentNotFoundException if the incident does not exist
+     */
     @Override
-    public List<Comment> findByHappeningId(long happeningId) {
-        return List.of();
+    public int countByIncidentId(long incidentId) {
+        return commentRepository.countByHappeningId(incidentId)
+            .orElseThrow(() -> new IncidentNotFoundException("Incident not found with value: " + incidentId));
     }
 
+    /**
+     * @throws CommentNotFoundException if the incident has no such comment
+     * @throws CommentNotOwnedException if the user is not the author
+     * @throws IllegalArgumentException if the user is missing or the text is blank
+     */
     @Override
-    public Comment update(long commentId, CommentTextCommand newCommentText) {
-        return null;
+    public Comment update(long incidentId, long commentId, String userId, CommentTextCommand newCommentText) {
+        final Comment comment = findOwnComment(incidentId, commentId, userId);
+
+        return commentRepository.update(commentId, comment.toBuilder().text(newCommentText.text()).build());
     }
 
+    /**
+     * @throws CommentNotFoundException if the incident has no such comment
+     * @throws CommentNotOwnedException if the user is not the author
+     * @throws IllegalArgumentException if the user is missing
+     */
     @Override
-    public void delete(long commentId) {
+    public void delete(long incidentId, long commentId, String userId) {
+        findOwnComment(incidentId, commentId, userId);
+        commentRepository.delete(commentId);
+    }
+
+    private Comment findOwnComment(long incidentId, long commentId, String userId) {
+        assertUser(userId);
+        final Comment comment = commentRepository.findById(commentId)
+            .filter(found -> found.happeningId().id() == incidentId)
+            .orElseThrow(() -> new CommentNotFoundException(
+                "Comment " + commentId + " not found on incident " + incidentId));
+
+        if (!comment.userId().value().equals(userId)) {
+            throw new CommentNotOwnedException("Comment " + commentId + " belongs to another user");
+        }
+        return comment;
+    }
 
+    private static void assertUser(String userId) {
+        if (userId == null || userId.isBlank()) {
+            throw new IllegalArgumentException("User value is required to change comments");
+        }
     }
 }
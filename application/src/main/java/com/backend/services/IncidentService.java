@@ -7,13 +7,18 @@ import com.backend.domain.location.LocationId;
 import com.backend.domain.media.Media;
 import com.backend.domain.reactions.IncidentEngagementType;
 import com.backend.port.inbound.IncidentUseCase;
+import com.backend.port.inbound.MediaUploadUseCase;
 import com.backend.port.inbound.commands.CoordinatesCommand;
 import com.backend.port.inbound.commands.CreateIncidentCommand;
+import com.backend.port.inbound.commands.CursorPage;
+import com.backend.port.inbound.commands.IncidentPreview;
 import com.backend.port.inbound.commands.RadiusCommand;
 import com.backend.port.inbound.commands.UploadMediaCommand;
 import com.backend.port.outbound.repo.IncidentEngagementRepository;
 import com.backend.port.outbound.repo.IncidentRepository;
+import com.backend.port.outbound.storage.MediaProcessingPort;
 import com.backend.port.outbound.storage.ObjectStoragePort;
+import com.backend.services.events.LocationAddressPendingEvent;
 import com.backend.services.exceptions.ActorNotFoundException;
 import com.backend.services.exceptions.DuplicateIncidentException;
 import com.backend.services.exceptions.IncidentAlreadyConfirmedException;
@@ -24,9 +29,11 @@ import com.backend.services.exceptions.InvalidCoordinatesException;
 import com.backend.services.exceptions.LocationNotFoundException;
 import com.backend.services.exceptions.ValidationException;
 
+import java.util.HashSet;
 import java.util.Set;
 import lombok.RequiredArgsConstructor;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -41,31 +48,55 @@ import java.util.List;
 @RequiredArgsConstructor
 public class IncidentService implements IncidentUseCase {
 
+  private static final int RANGE_PAGE_SIZE = 100;
+
   private final IncidentRepository incidentRepository;
   private final IncidentEngagementRepository incidentEngagementRepository;
   private final ObjectStoragePort objectStoragePort;
   private final LocationService locationService;
+  private final MediaUploadUseCase mediaUploadUseCase;
+  private final MediaProcessingPort mediaProcessingPort;
+  private final ApplicationEventPublisher eventPublisher;
 
     /**
-     * Retrieves all Incident entries within a given visibility range.
+     * Retrieves one page of Incident entries within a given visibility range.
      *
-     * @param radiusCommand the command containing center coordinates and radius in meters
-     * @return list of matching {@code Incident} instances.
+     * @param radiusCommand the command containing center coordinates, radius in meters and cursor
+     * @return page of matching {@code Incident} instances.
      * @throws InvalidCoordinatesException if coordinates or radius are invalid
      */
     @Override
-    public List<Incident> findAllInGivenRange(final RadiusCommand radiusCommand)
+    public CursorPage<Incident> findAllInGivenRange(final RadiusCommand radiusCommand)
             throws InvalidCoordinatesException {
 
-        final double userLatitude = radiusCommand.lat();
-        final double userLongitude = radiusCommand.lon();
-        final double radiusMeters = radiusCommand.radius();
+        validateRadiusCommand(radiusCommand);
 
-        if (radiusMeters < 0 || radiusMeters > 50000) // Max 50km
-            throw new InvalidCoordinatesException("Radius must be between 0 and 50000 meters");
+        try {
+            return incidentRepository.findAllInGivenRange(
+                radiusCommand.lat(), radiusCommand.lon(), radiusCommand.radius(),
+                radiusCommand.cursor(), RANGE_PAGE_SIZE);
+        } catch (Exception e) {
+            throw new InvalidCoordinatesException("Failed to search incidents in given range", e);
+        }
+    }
+
+    /**
+     * Retrieves one page of incident previews within a given visibility range.
+     *
+     * @param radiusCommand the command containing center coordinates, radius in meters and cursor
+     * @return page of matching {@code IncidentPreview} projections.
+     * @throws InvalidCoordinatesException if coordinates, radius or cursor are invalid
+     */
+    @Override
+    public CursorPage<IncidentPreview> findPreviewsInGivenRange(final RadiusCommand radiusCommand)
+            throws InvalidCoordinatesException {
+
+        validateRadiusCommand(radiusCommand);
 
         try {
-            return incidentRepository.findAllInGivenRange(userLatitude, userLongitude, radiusMeters);
+            return incidentRepository.findPreviewsInGivenRange(
+                radiusCommand.lat(), radiusCommand.lon(), radiusCommand.radius(),
+                radiusCommand.cursor(), RANGE_PAGE_SIZE);
         } catch (Exception e) {
             throw new InvalidCoordinatesException("Failed to search incidents in given range", e);
         }
@@ -126,9 +157,13 @@ public class IncidentService implements IncidentUseCase {
           final double latitude = createIncidentCommand.lat();
           final CoordinatesCommand coordinatesCommand = new CoordinatesCommand(latitude, longitude);
 
+          final Set<String> mediaKeys = createIncidentCommand.mediaKeys();
+          final Set<Media> uploadedMedia =
+              new HashSet<>(mediaUploadUseCase.resolveUploadedMedia(userId, mediaKeys));
+
           final Location location = locationService.findByCoordinates(coordinatesCommand);
           final LocationId locationId = location.id();
-          final Set<Media> uploadedMedia = objectStoragePort.uploadAll(media);
+          uploadedMedia.addAll(objectStoragePort.uploadAll(media));
 
           final Incident incident = Incident.builder()
               .userId(userId)
@@ -138,7 +173,22 @@ public class IncidentService implements IncidentUseCase {
               .media(uploadedMedia)
               .build();
 
-          return incidentRepository.save(incident);
+          mediaUploadUseCase.attachUploadedMedia(userId, mediaKeys);
+          final Incident saved;
+          try {
+            saved = incidentRepository.save(incident);
+          } catch (Exception e) {
+            mediaUploadUseCase.detachUploadedMedia(mediaKeys);
+            throw e;
+          }
+          mediaProcessingPort.generatePreviews(saved.getMedia());
+
+          // Only now, so the resolved address is pushed for this incident too.
+          if (location.isAddressPending()) {
+            eventPublisher.publishEvent(new LocationAddressPendingEvent(location));
+          }
+
+          return saved;
 
         } catch (ActorNotFoundException | LocationNotFoundException e) {
           throw e;
@@ -179,7 +229,10 @@ public class IncidentService implements IncidentUseCase {
           .media(uploadUpdatedMedia)
           .build();
 
-        return incidentRepository.save(updatedExistingOldIncident);
+        final Incident saved = incidentRepository.save(updatedExistingOldIncident);
+        mediaProcessingPort.generatePreviews(saved.getMedia());
+
+        return saved;
 
         } catch (IncidentNotFoundException e) {
             throw e;
@@ -191,7 +244,8 @@ public class IncidentService implements IncidentUseCase {
     }
 
     /**
-     * Extends the expiration time of an incident by confirming it.
+     * Extends the expiration time of an incident by confirming it. The engagement and the
+     * counter update are applied atomically, so concurrent confirms are never lost.
      *
      * @param incidentId the ID of the incident.
      * @return a new {@link Incident} instance with extended lifespan.
@@ -205,21 +259,8 @@ public class IncidentService implements IncidentUseCase {
         if (incidentId <= 0) throw new IllegalArgumentException("Incident ID must be positive");
 
         try {
-          final Incident incident = findById(incidentId);
-          incidentEngagementRepository.findUserEngagement(incidentId, userId)
-              .ifPresent(existing -> {
-                if (existing == IncidentEngagementType.CONFIRM) {
-                  throw new IncidentAlreadyConfirmedException(
-                      "User has already confirmed incident " + incidentId);
-                }
-                throw new IncidentAlreadyDeniedException(
-                    "User has already denied incident " + incidentId);
-              });
-
-          incident.confirmIncident();
-          incidentEngagementRepository.saveEngagement(incidentId, userId, IncidentEngagementType.CONFIRM);
-
-          return incidentRepository.save(incident);
+          return incidentRepository.applyEngagement(incidentId, userId, IncidentEngagementType.CONFIRM)
+              .orElseThrow(() -> engagementRejected(incidentId, userId));
 
         } catch (IncidentNotFoundException | IncidentAlreadyConfirmedException e) {
             throw e;
@@ -231,7 +272,19 @@ public class IncidentService implements IncidentUseCase {
     }
 
     /**
-     * Finds the incident by ID, applies a denial, and saves it.
+     * Explains why an engagement was not applied: the user has already engaged with the
+     * incident, or the incident does not exist. Only consulted on the rejection path.
+     */
+    private RuntimeException engagementRejected(final long incidentId, final UserId userId) {
+        return incidentEngagementRepository.findUserEngagement(incidentId, userId)
+            .<RuntimeException>map(existing -> existing == IncidentEngagementType.CONFIRM
+                ? new IncidentAlreadyConfirmedException("User has already confirmed incident " + incidentId)
+                : new IncidentAlreadyDeniedException("User has already denied incident " + incidentId))
+            .orElseGet(() -> new IncidentNotFoundException("Incident not found with ID: " + incidentId));
+    }
+
+    /**
+     * Applies a denial to the incident atomically.
      * Denial increments the counters and may eventually mark
      * the incident as deleted.
      *
@@ -247,20 +300,8 @@ public class IncidentService implements IncidentUseCase {
         if (incidentId <= 0) throw new IllegalArgumentException("Incident ID must be positive");
 
         try {
-          final Incident incident = findById(incidentId);
-          incidentEngagementRepository.findUserEngagement(incidentId, userId)
-              .ifPresent(existing -> {
-                if (existing == IncidentEngagementType.DENY) {
-                  throw new IncidentAlreadyDeniedException(
-                      "User has already denied incident " + incidentId);
-                }
-                throw new IncidentAlreadyConfirmedException(
-                    "User has already confirmed incident " + incidentId);
-              });
-          incident.denyIncident();
-          incidentEngagementRepository.saveEngagement(incidentId, userId, IncidentEngagementType.DENY);
-
-          return incidentRepository.save(incident);
+          return incidentRepository.applyEngagement(incidentId, userId, IncidentEngagementType.DENY)
+              .orElseThrow(() -> engagementRejected(incidentId, userId));
 
         } catch (IncidentNotFoundException | IncidentAlreadyDeniedException e) {
             throw e;
@@ -322,6 +363,13 @@ public class IncidentService implements IncidentUseCase {
         }
     }
 
+    private void validateRadiusCommand(final RadiusCommand radiusCommand) throws InvalidCoordinatesException {
+        final double radiusMeters = radiusCommand.radius();
+
+        if (radiusMeters < 0 || radiusMeters > 50000) // Max 50km
+            throw new InvalidCoordinatesException("Radius must be between 0 and 50000 meters");
+    }
+
     private void validateCreateIncidentCommand(final CreateIncidentCommand command) throws ValidationException {
         if (command == null) {
             throw new ValidationException("Create incident command cannot be null");
@@ -1,17 +1,36 @@
 package com.backend.services;
 
+import com.backend.domain.location.GeoCell;
 import com.backend.domain.location.Location;
 import com.backend.domain.location.LocationId;
 import com.backend.port.inbound.LocationUseCase;
 import com.backend.port.inbound.commands.CoordinatesCommand;
 import com.backend.port.outbound.repo.LocationRepository;
+import com.backend.services.exceptions.GeocodingRateLimitedException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -19,21 +38,93 @@ import org.springframework.stereotype.Service;
 /**
  * Service layer implementation of {@link LocationUseCase},
  * providing access to location data through the repository.
+ *
+ * <p>Reverse geocoding goes through a two-tier cache keyed by {@link GeoCell}, so positions a few
+ * metres apart share one lookup: a bounded in-process tier first, then any stored location in the
+ * same cell. Mapbox is only called when both tiers miss. The tier answering each lookup is counted
+ * in {@code geocode.lookups} and Mapbox round trips are timed in {@code geocode.mapbox}.</p>
+ *
+ * <p>With {@code location.geocoding.async=true}, a new location whose address is not cached is
+ * saved right away with {@link Location#PENDING_ADDRESS}; the address is then resolved in the
+ * background by {@link AddressResolutionWorker}, so creating an incident never waits on Mapbox.</p>
+ *
+ * <p>Coordinates are snapped to the nearest stored location within
+ * {@code location.snap-radius-meters}, so GPS jitter does not mint a new row per report. New
+ * locations claim their {@link GeoCell}; when two requests race for the same spot, both get the
+ * row that won the cell.</p>
+ *
+ * <p>Mapbox calls are guarded on several levels: concurrent lookups of the same cell share one
+ * in-flight request (counted in {@code geocode.coalesced}), a token bucket keeps us within
+ * {@code mapbox.rate-limit.per-minute}, and a 429 pauses all calls for the advertised
+ * {@code Retry-After}. Refused calls fail fast with {@link GeocodingRateLimitedException} and are
+ * counted in {@code geocode.throttled}.</p>
  */
 @Service
 public class LocationService implements LocationUseCase {
 
+    private static final long MAX_CACHED_CELLS = 100_000;
+    private static final Duration CACHED_ADDRESS_TTL = Duration.ofDays(1);
+    private static final Duration DEFAULT_RETRY_AFTER = Duration.ofMinutes(1);
+
     private final LocationRepository locationRepository;
     private final String mapboxToken;
-    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private final boolean asyncGeocoding;
+    private final double snapRadiusMeters;
+    private final HttpClient httpClient;
+    private final Duration mapboxReadTimeout;
+    private final TokenBucket mapboxQuota;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
+    private final Cache<GeoCell, String> addressCache;
+    private final Map<GeoCell, CompletableFuture<String>> inFlightLookups = new ConcurrentHashMap<>();
+    private final Counter memoryHits;
+    private final Counter databaseHits;
+    private final Counter mapboxLookups;
+    private final Counter coalescedLookups;
+    private final Counter locallyThrottled;
+    private final Counter remotelyThrottled;
+    private final Timer mapboxLatency;
+
     public LocationService(
             LocationRepository locationRepository,
-            @Value("${mapbox.token}") String mapboxToken) {
+            @Value("${mapbox.token}") String mapboxToken,
+            @Value("${location.geocoding.async:false}") boolean asyncGeocoding,
+            @Value("${location.snap-radius-meters:15}") double snapRadiusMeters,
+            @Value("${mapbox.rate-limit.per-minute:600}") int mapboxPermitsPerMinute,
+            @Value("${mapbox.rate-limit.burst:30}") int mapboxBurst,
+            @Value("${mapbox.connect-timeout-ms:2000}") long connectTimeoutMs,
+            @Value("${mapbox.read-timeout-ms:5000}") long readTimeoutMs,
+            MeterRegistry meterRegistry) {
 
         this.locationRepository = locationRepository;
         this.mapboxToken = mapboxToken;
+        this.asyncGeocoding = asyncGeocoding;
+        this.snapRadiusMeters = snapRadiusMeters;
+        this.httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_2)
+            .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+            .build();
+        this.mapboxReadTimeout = Duration.ofMillis(readTimeoutMs);
+        this.mapboxQuota = new TokenBucket(mapboxPermitsPerMinute, mapboxBurst, System::nanoTime);
+        this.addressCache = Caffeine.newBuilder()
+            .maximumSize(MAX_CACHED_CELLS)
+            .expireAfterWrite(CACHED_ADDRESS_TTL)
+            .recordStats()
+            .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, addressCache, "geocode.addresses");
+        this.memoryHits = lookupCounter(meterRegistry, "memory");
+        this.databaseHits = lookupCounter(meterRegistry, "database");
+        this.mapboxLookups = lookupCounter(meterRegistry, "mapbox");
+        this.coalescedLookups = Counter.builder("geocode.coalesced")
+            .description("Lookups that joined an in-flight lookup of the same cell")
+            .register(meterRegistry);
+        this.locallyThrottled = throttledCounter(meterRegistry, "quota");
+        this.remotelyThrottled = throttledCounter(meterRegistry, "mapbox");
+        this.mapboxLatency = Timer.builder("geocode.mapbox")
+            .description("Latency of Mapbox reverse geocoding calls")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
     }
 
     /**
@@ -48,10 +139,11 @@ public class LocationService implements LocationUseCase {
     }
 
     /**
-     * Finds a location by its latitude and longitude coordinates.
+     * Finds the stored location nearest to the coordinates within the snap radius,
+     * creating one when there is none.
      *
      * @param coordinatesCommand command containing latitude and longitude
-     * @return the matching location, or null if not found
+     * @return the matching or newly created location
      */
     @Override
     public Location findByCoordinates(final CoordinatesCommand coordinatesCommand) {
@@ -59,7 +151,7 @@ public class LocationService implements LocationUseCase {
         final double longitude = coordinatesCommand.lon();
 
           return locationRepository
-              .findByCoordinate(latitude, longitude)
+              .findNearest(latitude, longitude, snapRadiusMeters)
               .orElseGet(() -> createLocation(longitude, latitude));
     }
 
@@ -76,18 +168,117 @@ public class LocationService implements LocationUseCase {
         final double latitude = coordinatesCommand.lat();
         final double longitude = coordinatesCommand.lon();
 
-        return reverseGeocode(longitude, latitude);
+        return resolveAddress(longitude, latitude);
     }
 
   private Location createLocation(final double longitude, final double latitude) {
-        String address = reverseGeocode(longitude, latitude);
+        String address = asyncGeocoding
+          ? findKnownAddress(longitude, latitude).orElse(Location.PENDING_ADDRESS)
+          : resolveAddress(longitude, latitude);
         Location newLocation = Location.builder()
           .longitude(longitude)
           .latitude(latitude)
           .address(address)
           .build();
 
-        return locationRepository.save(newLocation);
+        return locationRepository.saveInCell(newLocation, GeoCell.of(latitude, longitude));
+    }
+
+    /**
+     * Looks the address up in the cache tiers only, never calling Mapbox.
+     */
+    private Optional<String> findKnownAddress(final double longitude, final double latitude) {
+        final GeoCell cell = GeoCell.of(latitude, longitude);
+
+        final String cached = addressCache.getIfPresent(cell);
+        if (cached != null) {
+            memoryHits.increment();
+            return Optional.of(cached);
+        }
+
+        return locationRepository.findAnyInCell(cell).map(stored -> {
+            databaseHits.increment();
+            addressCache.put(cell, stored.address());
+            return stored.address();
+        });
+    }
+
+    /**
+     * Resolves the address of the cell containing the coordinates, consulting the in-process
+     * tier, then stored locations, then Mapbox. Concurrent lookups of the same cell share one load.
+     */
+    private String resolveAddress(final double longitude, final double latitude) {
+        final GeoCell cell = GeoCell.of(latitude, longitude);
+
+        final String cached = addressCache.getIfPresent(cell);
+        if (cached != null) {
+            memoryHits.increment();
+            return cached;
+        }
+
+        return loadOnce(cell, () -> locationRepository.findAnyInCell(cell)
+            .map(stored -> {
+                databaseHits.increment();
+                return stored.address();
+            })
+            .orElseGet(() -> {
+                mapboxLookups.increment();
+                return mapboxLatency.record(() -> reverseGeocode(longitude, latitude));
+            }));
+    }
+
+    /**
+     * Runs the loader for a cell unless a lookup of that cell is already in flight, in which case
+     * the caller waits for that lookup and shares its result or failure. The loader runs outside
+     * any cache lock, so a slow Mapbox call never blocks lookups of other cells.
+     */
+    private String loadOnce(final GeoCell cell, final Supplier<String> loader) {
+        final CompletableFuture<String> own = new CompletableFuture<>();
+        final CompletableFuture<String> inFlight = inFlightLookups.putIfAbsent(cell, own);
+        if (inFlight != null) {
+            coalescedLookups.increment();
+            return await(inFlight);
+        }
+
+        try {
+            final String cached = addressCache.getIfPresent(cell);
+            final String address = cached != null ? cached : loader.get();
+            addressCache.put(cell, address);
+            own.complete(address);
+            return address;
+
+        } catch (RuntimeException e) {
+            own.completeExceptionally(e);
+            throw e;
+
+        } finally {
+            inFlightLookups.remove(cell, own);
+        }
+    }
+
+    private static String await(final CompletableFuture<String> lookup) {
+        try {
+            return lookup.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static Counter lookupCounter(final MeterRegistry meterRegistry, final String tier) {
+        return Counter.builder("geocode.lookups")
+            .description("Reverse geocoding lookups by the tier that answered them")
+            .tag("tier", tier)
+            .register(meterRegistry);
+    }
+
+    private static Counter throttledCounter(final MeterRegistry meterRegistry, final String source) {
+        return Counter.builder("geocode.throttled")
+            .description("Mapbox calls refused by our quota or by Mapbox")
+            .tag("source", source)
+            .register(meterRegistry);
     }
 
     private String reverseGeocode(final double longitude, final double latitude) {
@@ -99,12 +290,24 @@ public class LocationService implements LocationUseCase {
                 language,
                 mapboxToken);
 
+        final Duration wait = mapboxQuota.tryAcquire();
+        if (!wait.isZero()) {
+            locallyThrottled.increment();
+            throw new GeocodingRateLimitedException("Mapbox quota exhausted", wait);
+        }
+
         try {
-            final HttpRequest request = HttpRequest.newBuilder(URI.create(uri)).GET().build();
+            final HttpRequest request = HttpRequest.newBuilder(URI.create(uri))
+                .timeout(mapboxReadTimeout)
+                .GET()
+                .build();
             final HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
 
             if (response.statusCode() == 429) {
-                throw new RuntimeException("Rate limited by Mapbox");
+                final Duration retryAfter = retryAfter(response);
+                mapboxQuota.pause(retryAfter);
+                remotelyThrottled.increment();
+                throw new GeocodingRateLimitedException("Rate limited by Mapbox", retryAfter);
             }
             if (response.statusCode() / 100 != 2) {
                 throw new RuntimeException("Mapbox error: " + response.body());
@@ -117,8 +320,34 @@ public class LocationService implements LocationUseCase {
             }
             return "Unknown address";
 
+        } catch (GeocodingRateLimitedException e) {
+            throw e;
+
         } catch (Exception e) {
             throw new RuntimeException("Reverse geocode failed", e);
         }
     }
+
+    /**
+     * Reads {@code Retry-After}, given either in seconds or as an HTTP date.
+     */
+    static Duration retryAfter(final HttpResponse<?> response) {
+        final Optional<String> header = response.headers().firstValue("Retry-After");
+        if (header.isEmpty()) {
+            return DEFAULT_RETRY_AFTER;
+        }
+
+        final String value = header.get().trim();
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(value)));
+        } catch (NumberFormatException notSeconds) {
+            try {
+                final Instant until = ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+                final Duration remaining = Duration.between(Instant.now(), until);
+                return remaining.isNegative() ? Duration.ZERO : remaining;
+            } catch (DateTimeParseException notDate) {
+                return DEFAULT_RETRY_AFTER;
+            }
+        }
+    }
 }
@@ -0,0 +1,238 @@
+package com.backend.services;
+
+import com.backend.domain.actor.UserId;
+import com.backend.domain.media.Media;
+import com.backend.port.inbound.MediaUploadUseCase;
+import com.backend.port.inbound.commands.UploadSlot;
+import com.backend.port.outbound.repo.MediaUploadRepository;
+import com.backend.port.outbound.storage.ObjectStoragePort;
+import com.backend.port.outbound.storage.PresignedUpload;
+import com.backend.port.outbound.storage.StoredObject;
+import com.backend.services.exceptions.ValidationException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service implementation of {@link MediaUploadUseCase}.
+ *
+ * <p>Clients upload media straight to object storage through presigned POST forms, so file bytes
+ * never pass through the application. Each form pins the key, the content type derived from the
+ * file extension and the maximum size, so storage itself rejects anything else. Keys are scoped to
+ * the uploading user ({@code uploads/{uid}/...}) and recorded when they are issued; when the
+ * incident is created, every key is checked against the stored object and marked as attached, so
+ * it cannot be reused. Keys that are not attached within {@code media.upload.attach-window-minutes}
+ * after their form expired are removed together with their objects.</p>
+ */
+@Slf4j
+@Service
+public class MediaUploadService implements MediaUploadUseCase {
+
+    private static final String UPLOAD_PREFIX = "uploads/";
+    private static final int CLEANUP_BATCH_SIZE = 500;
+    private static final Map<String, String> CONTENT_TYPES = Map.of(
+        "jpg", "image/jpeg",
+        "jpeg", "image/jpeg",
+        "png", "image/png",
+        "gif", "image/gif",
+        "webp", "image/webp",
+        "heic", "image/heic",
+        "mp4", "video/mp4",
+        "mov", "video/quicktime",
+        "webm", "video/webm");
+
+    private final ObjectStoragePort objectStoragePort;
+    private final MediaUploadRepository mediaUploadRepository;
+    private final int maxFiles;
+    private final long maxFileBytes;
+    private final Duration urlTtl;
+    private final Duration attachWindow;
+
+    public MediaUploadService(
+            ObjectStoragePort objectStoragePort,
+            MediaUploadRepository mediaUploadRepository,
+            @Value("${media.upload.max-files:10}") int maxFiles,
+            @Value("${media.upload.max-file-bytes:52428800}") long maxFileBytes,
+            @Value("${media.upload.url-ttl-minutes:15}") long urlTtlMinutes,
+            @Value("${media.upload.attach-window-minutes:60}") long attachWindowMinutes) {
+
+        this.objectStoragePort = objectStoragePort;
+        this.mediaUploadRepository = mediaUploadRepository;
+        this.maxFiles = maxFiles;
+        this.maxFileBytes = maxFileBytes;
+        this.urlTtl = Duration.ofMinutes(urlTtlMinutes);
+        this.attachWindow = Duration.ofMinutes(attachWindowMinutes);
+    }
+
+    /**
+     * Reserves one key per file under the user's upload prefix and presigns an upload form for each.
+     *
+     * @param userId    the user who will upload the files
+     * @param filenames original names of the files to upload
+     * @return one upload slot per file, in the same order
+     * @throws ValidationException if no files, too many files or unsupported file types are requested
+     */
+    @Override
+    public List<UploadSlot> createUploadSession(final UserId userId, final List<String> filenames)
+            throws ValidationException {
+
+        if (filenames == null || filenames.isEmpty())
+            throw new ValidationException("At least one file must be requested");
+
+        if (filenames.size() > maxFiles)
+            throw new ValidationException("Cannot upload more than " + maxFiles + " files at once");
+
+        final List<String> contentTypes = new ArrayList<>(filenames.size());
+        for (String filename : filenames) {
+            contentTypes.add(contentTypeOf(filename));
+        }
+
+        final Instant expiresAt = Instant.now().plus(urlTtl);
+        final List<UploadSlot> slots = new ArrayList<>(filenames.size());
+
+        try {
+            for (int i = 0; i < filenames.size(); i++) {
+                final String key = userPrefix(userId) + UUID.randomUUID() + "-" + sanitize(filenames.get(i));
+                final PresignedUpload upload =
+                    objectStoragePort.presignUpload(key, urlTtl, contentTypes.get(i), maxFileBytes);
+                slots.add(new UploadSlot(key, upload.url(), upload.formFields(), expiresAt));
+            }
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to create upload session", e);
+        }
+
+        final Set<String> keys = new HashSet<>();
+        slots.forEach(slot -> keys.add(slot.key()));
+        mediaUploadRepository.saveAll(userId, keys, expiresAt.plus(attachWindow));
+
+        return slots;
+    }
+
+    /**
+     * Verifies keys returned by a client after a direct upload and turns them into {@link Media}.
+     * Each key must belong to the user, point at an existing object and respect the size limit.
+     *
+     * @param userId the user creating the incident
+     * @param keys   object keys from an upload session
+     * @return media backed by the verified objects
+     * @throws ValidationException if any key is foreign, missing or too large
+     */
+    @Override
+    public Set<Media> resolveUploadedMedia(final UserId userId, final Set<String> keys)
+            throws ValidationException {
+
+        if (keys == null || keys.isEmpty()) return Set.of();
+
+        if (keys.size() > maxFiles)
+            throw new ValidationException("Cannot attach more than " + maxFiles + " files");
+
+        final String prefix = userPrefix(userId);
+        final Set<Media> media = new HashSet<>();
+
+        for (String key : keys) {
+            if (key == null || !key.startsWith(prefix) || key.contains(".."))
+                throw new ValidationException("Media key does not belong to the user: " + key);
+
+            final StoredObject object = stat(key);
+            if (object.size() <= 0 || object.size() > maxFileBytes)
+                throw new ValidationException("Uploaded file exceeds " + maxFileBytes + " bytes: " + key);
+
+            media.add(new Media(object.size(), key, object.contentType()));
+        }
+
+        return media;
+    }
+
+    /**
+     * Marks keys as attached to an incident. All keys are attached or none is.
+     *
+     * @param userId the user creating the incident
+     * @param keys   object keys from an upload session
+     * @throws ValidationException if any key was not issued to the user, expired or is already attached
+     */
+    @Override
+    public void attachUploadedMedia(final UserId userId, final Set<String> keys) throws ValidationException {
+        if (keys == null || keys.isEmpty()) return;
+
+        if (!mediaUploadRepository.markAttached(userId, keys, Instant.now()))
+            throw new ValidationException("Media keys are unknown, expired or already attached");
+    }
+
+    /**
+     * Makes keys available again after the incident could not be saved.
+     *
+     * @param keys object keys previously attached
+     */
+    @Override
+    public void detachUploadedMedia(final Set<String> keys) {
+        if (keys == null || keys.isEmpty()) return;
+
+        mediaUploadRepository.markDetached(keys);
+    }
+
+    /**
+     * Removes uploads that were never attached to an incident, object first so a failure leaves the
+     * key to be retried on the next run.
+     */
+    @Scheduled(fixedDelayString = "${media.upload.cleanup-interval-ms:600000}")
+    public void removeExpiredUploads() {
+        try {
+            List<String> expired;
+            do {
+                expired = mediaUploadRepository.findExpiredKeys(Instant.now(), CLEANUP_BATCH_SIZE);
+                if (expired.isEmpty()) return;
+
+                final Set<String> keys = new HashSet<>(expired);
+                objectStoragePort.deleteAllByKeys(keys);
+                mediaUploadRepository.deleteAllByKeys(keys);
+                log.debug("Removed {} abandoned uploads", keys.size());
+            } while (expired.size() == CLEANUP_BATCH_SIZE);
+
+        } catch (Exception e) {
+            log.warn("Could not remove abandoned uploads", e);
+        }
+    }
+
+    private StoredObject stat(final String key) throws ValidationException {
+        try {
+            return objectStoragePort.stat(key)
+                .orElseThrow(() -> new ValidationException("Uploaded file not found: " + key));
+        } catch (ValidationException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to verify uploaded file " + key, e);
+        }
+    }
+
+    private static String userPrefix(final UserId userId) {
+        return UPLOAD_PREFIX + userId.value() + "/";
+    }
+
+    private static String contentTypeOf(final String filename) throws ValidationException {
+        final int dot = filename == null ? -1 : filename.lastIndexOf('.');
+        final String contentType = dot < 0
+            ? null
+            : CONTENT_TYPES.get(filename.substring(dot + 1).toLowerCase(Locale.ROOT));
+
+        if (contentType == null)
+            throw new ValidationException("Unsupported media type: " + filename);
+
+        return contentType;
+    }
+
+    private static String sanitize(final String filename) {
+        return (filename == null || filename.isBlank())
+            ? "file"
+            : filename.replaceAll("[^a-zA-Z0-9._-]", "_");
+    }
+}
@@ -2,10 +2,12 @@ package com.backend.services;
 
 import com.backend.port.inbound.ReactionUseCase;
 import com.backend.port.inbound.commands.ReactToIncidentCommand;
+import com.backend.port.inbound.commands.ReactionSummariesCommand;
 import com.backend.port.inbound.commands.ReactionSummary;
 import com.backend.port.outbound.repo.IncidentRepository;
 import com.backend.port.outbound.repo.ReactionRepository;
 import com.backend.services.exceptions.IncidentNotFoundException;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -30,6 +32,7 @@ public class ReactionService implements ReactionUseCase {
   @Override
   @Transactional
   public ReactionSummary addLike(ReactToIncidentCommand command) {
+    assertUser(command);
     ensureIncidentExists(command.incidentId());
     return reactionRepository.addLike(command.incidentId(), command.userId());
   }
@@ -43,6 +46,7 @@ public class ReactionService implements ReactionUseCase {
   @Override
   @Transactional
   public ReactionSummary addDislike(ReactToIncidentCommand command) {
+    assertUser(command);
     ensureIncidentExists(command.incidentId());
     return reactionRepository.addDislike(command.incidentId(), command.userId());
   }
@@ -56,6 +60,7 @@ public class ReactionService implements ReactionUseCase {
   @Override
   @Transactional
   public ReactionSummary removeLike(ReactToIncidentCommand command) {
+    assertUser(command);
     ensureIncidentExists(command.incidentId());
     return reactionRepository.removeLike(command.incidentId(), command.userId());
   }
@@ -69,6 +74,7 @@ public class ReactionService implements ReactionUseCase {
   @Override
   @Transactional
   public ReactionSummary removeDislike(ReactToIncidentCommand command) {
+    assertUser(command);
     ensureIncidentExists(command.incidentId());
     return reactionRepository.removeDislike(command.incidentId(), command.userId());
   }
@@ -87,6 +93,18 @@ public class ReactionService implements ReactionUseCase {
     return reactionRepository.getSummary(command.incidentId(), command.safeUserId());
   }
 
+  /**
+   * Reads the reaction summaries of several incidents in one round trip. Incident existence is not
+   * checked, as that would cost a query per incident; unknown incidents have no reactions.
+   *
+   * @param command incoming command containing the incident identifiers and the user identifier
+   * @return one summary per distinct incident, in request order
+   */
+  @Override
+  public List<ReactionSummary> getSummaries(ReactionSummariesCommand command) {
+    return reactionRepository.getSummaries(command.incidentIds(), command.safeUserId());
+  }
+
   /**
    * Verifies that the incident exists before invoking the reaction repository.
    *
@@ -0,0 +1,71 @@
+package com.backend.services;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket limiting calls to an external API to a sustained rate with a bounded burst.
+ *
+ * <p>The bucket can also be paused, e.g. when the remote side answers with {@code Retry-After};
+ * no tokens are handed out until the pause is over, and the bucket then refills from empty.</p>
+ */
+final class TokenBucket {
+
+    private final double capacity;
+    private final double tokensPerNano;
+    private final LongSupplier nanoClock;
+
+    private double tokens;
+    private long lastRefill;
+    private long pausedUntil;
+
+    /**
+     * @param permitsPerMinute sustained rate
+     * @param burst            maximum number of permits available at once
+     * @param nanoClock        monotonic clock, {@code System::nanoTime} outside tests
+     */
+    TokenBucket(final int permitsPerMinute, final int burst, final LongSupplier nanoClock) {
+        if (permitsPerMinute <= 0 || burst <= 0)
+            throw new IllegalArgumentException("Rate and burst must be positive");
+
+        this.capacity = burst;
+        this.tokensPerNano = permitsPerMinute / (double) Duration.ofMinutes(1).toNanos();
+        this.nanoClock = nanoClock;
+        this.tokens = burst;
+        this.lastRefill = nanoClock.getAsLong();
+        this.pausedUntil = lastRefill;
+    }
+
+    /**
+     * Takes a permit if one is available.
+     *
+     * @return {@link Duration#ZERO} if a permit was taken, otherwise how long until one is available
+     */
+    synchronized Duration tryAcquire() {
+        final long now = nanoClock.getAsLong();
+        if (now - pausedUntil < 0) {
+            return Duration.ofNanos(pausedUntil - now);
+        }
+
+        tokens = Math.min(capacity, tokens + (now - lastRefill) * tokensPerNano);
+        lastRefill = now;
+
+        if (tokens >= 1) {
+            tokens -= 1;
+            return Duration.ZERO;
+        }
+        return Duration.ofNanos((long) Math.ceil((1 - tokens) / tokensPerNano));
+    }
+
+    /**
+     * Stops handing out permits for the given time and drains the bucket.
+     */
+    synchronized void pause(final Duration duration) {
+        final long until = nanoClock.getAsLong() + duration.toNanos();
+        if (until - pausedUntil > 0) {
+            pausedUntil = until;
+            lastRefill = until;
+            tokens = 0;
+        }
+    }
+}
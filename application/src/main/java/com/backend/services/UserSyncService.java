@@ -0,0 +1,111 @@
+package com.backend.services;
+
+import com.backend.domain.actor.User;
+import com.backend.port.outbound.repo.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Keeps the users table in step with Firebase without writing to it on every request.
+ *
+ * <p>Users seen recently are remembered together with the profile claims (email, name, picture)
+ * of their last token. A request only goes through {@link UserService#create} when the user is not
+ * remembered or the claims changed; otherwise just the login time is noted. Noted login times are
+ * written by {@link #flushLastLogins()} on a timer, all users in one statement.</p>
+ */
+@Slf4j
+@Service
+public class UserSyncService {
+
+    private final UserService userService;
+    private final UserRepository userRepository;
+    private final Cache<String, ProfileClaims> knownUsers;
+    private final Map<String, Instant> pendingLogins = new ConcurrentHashMap<>();
+
+    public UserSyncService(
+            UserService userService,
+            UserRepository userRepository,
+            @Value("${user.sync.known-users.max-size:100000}") long maxKnownUsers,
+            @Value("${user.sync.known-users.ttl-minutes:60}") long knownUserTtlMinutes,
+            MeterRegistry meterRegistry) {
+
+        this.userService = userService;
+        this.userRepository = userRepository;
+        this.knownUsers = Caffeine.newBuilder()
+            .maximumSize(maxKnownUsers)
+            .expireAfterWrite(Duration.ofMinutes(knownUserTtlMinutes))
+            .recordStats()
+            .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, knownUsers, "users.known");
+    }
+
+    /**
+     * Makes sure the authenticated user exists and is current, upserting only when needed.
+     *
+     * @param user user hydrated from a verified token
+     */
+    public void sync(final User user) {
+        final String uid = user.uid().value();
+        final ProfileClaims claims = ProfileClaims.of(user);
+
+        if (claims.equals(knownUsers.getIfPresent(uid))) {
+            pendingLogins.put(uid, Instant.now());
+            return;
+        }
+
+        userService.create(user);
+        knownUsers.put(uid, claims);
+    }
+
+    /**
+     * Writes the login times noted since the last flush. On failure they are kept for the next run.
+     */
+    @Scheduled(fixedDelayString = "${user.sync.last-login-flush-ms:30000}")
+    public void flushLastLogins() {
+        if (pendingLogins.isEmpty()) return;
+
+        final Map<String, Instant> batch = new HashMap<>();
+        for (Map.Entry<String, Instant> entry : pendingLogins.entrySet()) {
+            if (pendingLogins.remove(entry.getKey(), entry.getValue())) {
+                batch.put(entry.getKey(), entry.getValue());
+            }
+        }
+
+        try {
+            final int updated = userRepository.updateLastLogins(batch);
+            log.debug("Flushed last login of {} users ({} updated)", batch.size(), updated);
+        } catch (Exception e) {
+            batch.forEach((uid, loggedInAt) -> pendingLogins.merge(uid, loggedInAt,
+                (newer, older) -> newer.isAfter(older) ? newer : older));
+            log.warn("Could not flush last login of {} users, retrying later", batch.size(), e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flushLastLogins();
+    }
+
+    /**
+     * The token claims that are copied onto the stored user.
+     */
+    private record ProfileClaims(String email, String name, String picture) {
+
+        static ProfileClaims of(final User user) {
+            return new ProfileClaims(user.email(), user.name(), user.picture());
+        }
+    }
+}
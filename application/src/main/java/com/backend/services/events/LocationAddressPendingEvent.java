@@ -0,0 +1,11 @@
+package com.backend.services.events;
+
+import com.backend.domain.location.Location;
+
+/**
+ * Published once an incident has been saved at a location whose address is not known yet. It is
+ * published after the save, so the incidents listed when the address is resolved include it.
+ *
+ * @param location the saved location, carrying {@link Location#PENDING_ADDRESS}
+ */
+public record LocationAddressPendingEvent(Location location) { }
@@ -0,0 +1,20 @@
+package com.backend.services.events;
+
+import com.backend.domain.location.LocationId;
+import java.util.List;
+
+/**
+ * Published once the address of a location that was saved with a pending address is known.
+ *
+ * @param locationId  the location whose address was resolved
+ * @param latitude    latitude of the location
+ * @param longitude   longitude of the location
+ * @param address     the resolved address
+ * @param incidentIds incidents reported at that location, whose clients should refresh the address
+ */
+public record LocationAddressResolvedEvent(
+    LocationId locationId,
+    double latitude,
+    double longitude,
+    String address,
+    List<Long> incidentIds) { }
@@ -0,0 +1,17 @@
+package com.backend.services.exceptions;
+
+/**
+ * Exception thrown when a comment with the given identifier cannot be found
+ * on the given incident.
+ */
+public class CommentNotFoundException extends RuntimeException {
+
+  /**
+   * Creates a new exception with the given message.
+   *
+   * @param message detail message explaining the exception
+   */
+  public CommentNotFoundException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,16 @@
+package com.backend.services.exceptions;
+
+/**
+ * Exception thrown when a user tries to change a comment written by someone else.
+ */
+public class CommentNotOwnedException extends RuntimeException {
+
+  /**
+   * Creates a new exception with the given message.
+   *
+   * @param message detail message explaining the exception
+   */
+  public CommentNotOwnedException(String message) {
+    super(message);
+  }
+}
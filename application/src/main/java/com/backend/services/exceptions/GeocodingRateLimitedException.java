@@ -0,0 +1,30 @@
+package com.backend.services.exceptions;
+
+import java.time.Duration;
+
+/**
+ * Exception thrown when a reverse geocoding call is refused because the Mapbox
+ * quota is exhausted, either by the local limiter or by Mapbox itself.
+ */
+public class GeocodingRateLimitedException extends RuntimeException {
+
+  private final Duration retryAfter;
+
+  /**
+   * Creates a new exception with the given message and the time to wait before retrying.
+   *
+   * @param message    detail message explaining the exception
+   * @param retryAfter how long callers should wait before trying again
+   */
+  public GeocodingRateLimitedException(String message, Duration retryAfter) {
+    super(message);
+    this.retryAfter = retryAfter;
+  }
+
+  /**
+   * @return how long callers should wait before trying again
+   */
+  public Duration getRetryAfter() {
+    return retryAfter;
+  }
+}
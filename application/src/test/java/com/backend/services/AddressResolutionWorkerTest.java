@@ -0,0 +1,76 @@
+package com.backend.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.backend.domain.location.Location;
+import com.backend.domain.location.LocationId;
+import com.backend.port.inbound.commands.CoordinatesCommand;
+import com.backend.port.outbound.repo.IncidentRepository;
+import com.backend.port.outbound.repo.LocationRepository;
+import com.backend.services.events.LocationAddressResolvedEvent;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+@ExtendWith(MockitoExtension.class)
+class AddressResolutionWorkerTest {
+
+  private static final Location PENDING =
+      new Location(new LocationId(7L), 26.1025, 44.4267, Location.PENDING_ADDRESS);
+
+  @Mock private LocationService locationService;
+  @Mock private LocationRepository locationRepository;
+  @Mock private IncidentRepository incidentRepository;
+  @Mock private ApplicationEventPublisher eventPublisher;
+
+  private AddressResolutionWorker worker;
+
+  @BeforeEach
+  void setUp() {
+    worker = new AddressResolutionWorker(locationService, locationRepository, incidentRepository, eventPublisher);
+  }
+
+  @AfterEach
+  void tearDown() {
+    worker.shutdown();
+  }
+
+  @Test
+  void resolveStoresAddressAndPublishesFollowUp() {
+    when(locationService.getAddress(new CoordinatesCommand(44.4267, 26.1025))).thenReturn("Main St 1");
+    when(incidentRepository.findIdsByLocationId(7L)).thenReturn(List.of(11L, 12L));
+
+    worker.resolve(PENDING, 1);
+
+    verify(locationRepository).updateAddress(7L, "Main St 1");
+    verify(eventPublisher).publishEvent(
+        new LocationAddressResolvedEvent(new LocationId(7L), 44.4267, 26.1025, "Main St 1", List.of(11L, 12L)));
+  }
+
+  @Test
+  void resolveGivesUpAfterLastAttempt() {
+    when(locationService.getAddress(any())).thenThrow(new RuntimeException("Mapbox down"));
+
+    worker.resolve(PENDING, AddressResolutionWorker.MAX_ATTEMPTS);
+
+    verify(locationRepository, never()).updateAddress(any(Long.class), any());
+    verify(eventPublisher, never()).publishEvent(any());
+  }
+
+  @Test
+  void backoffGrowsExponentiallyUpToCap() {
+    assertThat(AddressResolutionWorker.backoff(1)).isBetween(Duration.ofSeconds(2), Duration.ofMillis(2400));
+    assertThat(AddressResolutionWorker.backoff(3)).isBetween(Duration.ofSeconds(8), Duration.ofMillis(9600));
+    assertThat(AddressResolutionWorker.backoff(20)).isBetween(Duration.ofMinutes(2), Duration.ofSeconds(144));
+  }
+}
@@ -0,0 +1,113 @@
+package com.backend.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.backend.domain.actor.Comment;
+import com.backend.domain.actor.CommentId;
+import com.backend.domain.actor.UserId;
+import com.backend.domain.happening.HappeningId;
+import com.backend.port.inbound.commands.CommentTextCommand;
+import com.backend.port.outbound.repo.CommentRepository;
+import com.backend.port.outbound.repo.IncidentRepository;
+import com.backend.services.exceptions.CommentNotFoundException;
+import com.backend.services.exceptions.CommentNotOwnedException;
+import com.backend.services.exceptions.IncidentNotFoundException;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.OptionalInt;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CommentServiceTest {
+
+  @Mock
+  private CommentRepository commentRepository;
+
+  @Mock
+  private IncidentRepository incidentRepository;
+
+  @InjectMocks
+  private CommentService commentService;
+
+  @Test
+  void createSavesCommentOfUserOnIncident() {
+    when(incidentRepository.existsById(7L)).thenReturn(true);
+    when(commentRepository.save(any(Comment.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+    commentService.create(7L, "firebase-1", new CommentTextCommand("Still blocked"));
+
+    final ArgumentCaptor<Comment> captor = ArgumentCaptor.forClass(Comment.class);
+    verify(commentRepository).save(captor.capture());
+    assertThat(captor.getValue().happeningId()).isEqualTo(new HappeningId(7L));
+    assertThat(captor.getValue().userId()).isEqualTo(new UserId("firebase-1"));
+    assertThat(captor.getValue().text()).isEqualTo("Still blocked");
+    assertThat(captor.getValue().createdAt()).isNotNull();
+  }
+
+  @Test
+  void createOnMissingIncidentThrows() {
+    when(incidentRepository.existsById(7L)).thenReturn(false);
+
+    assertThatThrownBy(() -> commentService.create(7L, "firebase-1", new CommentTextCommand("Hello")))
+        .isInstanceOf(IncidentNotFoundException.class);
+    verify(commentRepository, never()).save(any());
+  }
+
+  @Test
+  void countOfMissingIncidentThrows() {
+    when(commentRepository.countByHappeningId(7L)).thenReturn(OptionalInt.empty());
+
+    assertThatThrownBy(() -> commentService.countByIncidentId(7L))
+        .isInstanceOf(IncidentNotFoundException.class);
+  }
+
+  @Test
+  void updateReplacesTextOfOwnComment() {
+    final Comment comment = comment(7L, "firebase-1");
+    when(commentRepository.findById(42L)).thenReturn(Optional.of(comment));
+    when(commentRepository.update(any(Long.class), any(Comment.class)))
+        .thenAnswer(invocation -> invocation.getArgument(1));
+
+    final Comment updated = commentService.update(7L, 42L, "firebase-1", new CommentTextCommand("Open again"));
+
+    assertThat(updated.text()).isEqualTo("Open again");
+    assertThat(updated.id()).isEqualTo(comment.id());
+  }
+
+  @Test
+  void updateOfAnotherUsersCommentThrows() {
+    when(commentRepository.findById(42L)).thenReturn(Optional.of(comment(7L, "firebase-2")));
+
+    assertThatThrownBy(() -> commentService.update(7L, 42L, "firebase-1", new CommentTextCommand("Mine now")))
+        .isInstanceOf(CommentNotOwnedException.class);
+  }
+
+  @Test
+  void deleteOfCommentOnAnotherIncidentThrows() {
+    when(commentRepository.findById(42L)).thenReturn(Optional.of(comment(8L, "firebase-1")));
+
+    assertThatThrownBy(() -> commentService.delete(7L, 42L, "firebase-1"))
+        .isInstanceOf(CommentNotFoundException.class);
+    verify(commentRepository, never()).delete(42L);
+  }
+
+  private static Comment comment(long incidentId, String userId) {
+    return Comment.builder()
+        .id(new CommentId(42L))
+        .text("Still blocked")
+        .happeningId(new HappeningId(incidentId))
+        .userId(new UserId(userId))
+        .createdAt(Instant.parse("2026-10-17T10:00:00Z"))
+        .build();
+  }
+}
@@ -4,9 +4,12 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.backend.domain.actor.UserId;
@@ -18,21 +21,29 @@ import com.backend.domain.media.Media;
 import com.backend.domain.reactions.EngagementStats;
 import com.backend.domain.reactions.IncidentEngagementType;
 import com.backend.domain.reactions.SentimentEngagement;
+import com.backend.port.inbound.MediaUploadUseCase;
 import com.backend.port.inbound.commands.CreateIncidentCommand;
 import com.backend.port.inbound.commands.RadiusCommand;
 import com.backend.port.inbound.commands.UploadMediaCommand;
 import com.backend.port.outbound.repo.IncidentEngagementRepository;
 import com.backend.port.outbound.repo.IncidentRepository;
+import com.backend.port.outbound.storage.MediaProcessingPort;
 import com.backend.port.outbound.storage.ObjectStoragePort;
+import com.backend.services.events.LocationAddressPendingEvent;
+import com.backend.services.exceptions.IncidentAlreadyConfirmedException;
+import com.backend.services.exceptions.IncidentNotFoundException;
 import com.backend.services.exceptions.InvalidCoordinatesException;
+import com.backend.services.exceptions.ValidationException;
 import java.io.ByteArrayInputStream;
 import java.util.Optional;
 import java.util.Set;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 class IncidentServiceTest {
@@ -49,6 +60,15 @@ class IncidentServiceTest {
   @Mock
   private LocationService locationService;
 
+  @Mock
+  private MediaUploadUseCase mediaUploadUseCase;
+
+  @Mock
+  private MediaProcessingPort mediaProcessingPort;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
   @InjectMocks
   private IncidentService incidentService;
 
@@ -81,39 +101,136 @@ class IncidentServiceTest {
     verify(locationService).findByCoordinates(any());
     verify(objectStoragePort).uploadAll(command.media());
     verify(incidentRepository).save(any(Incident.class));
+    verify(mediaProcessingPort).generatePreviews(created.getMedia());
+    verifyNoInteractions(eventPublisher);
   }
 
   @Test
-  void confirmAddsEngagementAndUpdatesStats() throws Exception {
-    Incident incident = sampleIncident(1L);
-    UserId userId = new UserId("user-123");
+  void createAnnouncesPendingAddressOnlyAfterIncidentIsSaved() throws Exception {
+    CreateIncidentCommand command =
+        CreateIncidentCommand.builder()
+            .userId(new UserId("firebase-1"))
+            .title("Road obstruction")
+            .description("Tree fell on the road")
+            .media(Set.of(upload("blocked.png")))
+            .lat(42.0)
+            .lon(9.0)
+            .build();
+    Location location = new Location(new LocationId(1L), 9.0, 42.0, Location.PENDING_ADDRESS);
 
-    when(incidentRepository.findById(1L)).thenReturn(Optional.of(incident));
+    when(locationService.findByCoordinates(any())).thenReturn(location);
+    when(objectStoragePort.uploadAll(command.media())).thenReturn(Set.of(new Media(1, "blocked.png", "image/png")));
     when(incidentRepository.save(any(Incident.class))).thenAnswer(invocation -> invocation.getArgument(0));
-    when(incidentEngagementRepository.findUserEngagement(1L, userId)).thenReturn(Optional.empty());
+
+    incidentService.create(command);
+
+    InOrder order = inOrder(objectStoragePort, incidentRepository, eventPublisher);
+    order.verify(objectStoragePort).uploadAll(command.media());
+    order.verify(incidentRepository).save(any(Incident.class));
+    order.verify(eventPublisher).publishEvent(new LocationAddressPendingEvent(location));
+  }
+
+  @Test
+  void createAttachesVerifiedUploadSessionMedia() throws Exception {
+    UserId userId = new UserId("firebase-1");
+    Set<String> keys = Set.of("uploads/firebase-1/abc-photo.jpg");
+    CreateIncidentCommand command =
+        CreateIncidentCommand.builder()
+            .userId(userId)
+            .title("Road obstruction")
+            .description("Tree fell on the road")
+            .mediaKeys(keys)
+            .lat(42.0)
+            .lon(9.0)
+            .build();
+    Location location = new Location(new LocationId(1L), 9.0, 42.0, "Central Park");
+    Set<Media> verifiedMedia = Set.of(new Media(2048, "uploads/firebase-1/abc-photo.jpg", "image/jpeg"));
+
+    when(mediaUploadUseCase.resolveUploadedMedia(userId, keys)).thenReturn(verifiedMedia);
+    when(locationService.findByCoordinates(any())).thenReturn(location);
+    when(incidentRepository.save(any(Incident.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+    Incident created = incidentService.create(command);
+
+    assertThat(created.getMedia()).isEqualTo(verifiedMedia);
+    verify(mediaUploadUseCase).attachUploadedMedia(userId, keys);
+  }
+
+  @Test
+  void createDetachesUploadedMediaWhenSaveFails() throws Exception {
+    UserId userId = new UserId("firebase-1");
+    Set<String> keys = Set.of("uploads/firebase-1/abc-photo.jpg");
+    CreateIncidentCommand command =
+        CreateIncidentCommand.builder()
+            .userId(userId)
+            .title("Road obstruction")
+            .description("Tree fell on the road")
+            .mediaKeys(keys)
+            .lat(42.0)
+            .lon(9.0)
+            .build();
+    Location location = new Location(new LocationId(1L), 9.0, 42.0, "Central Park");
+
+    when(locationService.findByCoordinates(any())).thenReturn(location);
+    when(incidentRepository.save(any(Incident.class))).thenThrow(new IllegalStateException("database down"));
+
+    assertThrows(ValidationException.class, () -> incidentService.create(command));
+
+    verify(mediaUploadUseCase).attachUploadedMedia(userId, keys);
+    verify(mediaUploadUseCase).detachUploadedMedia(keys);
+  }
+
+  @Test
+  void confirmAppliesEngagementAtomically() throws Exception {
+    UserId userId = new UserId("user-123");
+    Incident confirmed = sampleIncident(1L).toBuilder().engagementStats(new EngagementStats(1, 0, 0)).build();
+
+    when(incidentRepository.applyEngagement(1L, userId, IncidentEngagementType.CONFIRM))
+        .thenReturn(Optional.of(confirmed));
 
     Incident updated = incidentService.confirm(1L, userId);
 
     assertThat(updated.getEngagementStats().confirms()).isEqualTo(1);
-    verify(incidentEngagementRepository).saveEngagement(1L, userId, IncidentEngagementType.CONFIRM);
-    verify(incidentRepository).save(updated);
+    verify(incidentRepository, never()).save(any(Incident.class));
+    verifyNoInteractions(incidentEngagementRepository);
   }
 
   @Test
-  void denyAddsEngagementAndUpdatesStats() throws Exception {
-    Incident incident = sampleIncident(2L);
+  void denyAppliesEngagementAtomically() throws Exception {
     UserId userId = new UserId("user-456");
+    Incident denied = sampleIncident(2L).toBuilder().engagementStats(new EngagementStats(0, 1, 1)).build();
 
-    when(incidentRepository.findById(2L)).thenReturn(Optional.of(incident));
-    when(incidentRepository.save(any(Incident.class))).thenAnswer(invocation -> invocation.getArgument(0));
-    when(incidentEngagementRepository.findUserEngagement(2L, userId)).thenReturn(Optional.empty());
+    when(incidentRepository.applyEngagement(2L, userId, IncidentEngagementType.DENY))
+        .thenReturn(Optional.of(denied));
 
     Incident updated = incidentService.deny(2L, userId);
 
     assertThat(updated.getEngagementStats().denies()).isEqualTo(1);
     assertThat(updated.getEngagementStats().consecutiveDenies()).isEqualTo(1);
-    verify(incidentEngagementRepository).saveEngagement(2L, userId, IncidentEngagementType.DENY);
-    verify(incidentRepository).save(updated);
+    verify(incidentRepository, never()).save(any(Incident.class));
+  }
+
+  @Test
+  void confirmTwiceIsRejected() {
+    UserId userId = new UserId("user-123");
+
+    when(incidentRepository.applyEngagement(1L, userId, IncidentEngagementType.CONFIRM))
+        .thenReturn(Optional.empty());
+    when(incidentEngagementRepository.findUserEngagement(1L, userId))
+        .thenReturn(Optional.of(IncidentEngagementType.CONFIRM));
+
+    assertThrows(IncidentAlreadyConfirmedException.class, () -> incidentService.confirm(1L, userId));
+  }
+
+  @Test
+  void confirmUnknownIncidentIsNotFound() {
+    UserId userId = new UserId("user-123");
+
+    when(incidentRepository.applyEngagement(9L, userId, IncidentEngagementType.CONFIRM))
+        .thenReturn(Optional.empty());
+    when(incidentEngagementRepository.findUserEngagement(9L, userId)).thenReturn(Optional.empty());
+
+    assertThrows(IncidentNotFoundException.class, () -> incidentService.confirm(9L, userId));
   }
 
   @Test
@@ -140,10 +257,10 @@ class IncidentServiceTest {
 
   @Test
   void findAllInGivenRangeRejectsLargeRadius() {
-    RadiusCommand command = new RadiusCommand(0.0, 0.0, 60000);
+    RadiusCommand command = new RadiusCommand(0.0, 0.0, 60000, null);
 
     assertThrows(InvalidCoordinatesException.class, () -> incidentService.findAllInGivenRange(command));
-    verify(incidentRepository, never()).findAllInGivenRange(anyDouble(), anyDouble(), anyDouble());
+    verify(incidentRepository, never()).findAllInGivenRange(anyDouble(), anyDouble(), anyDouble(), any(), anyInt());
   }
 
   private static UploadMediaCommand upload(String filename) {
@@ -2,25 +2,39 @@ package com.backend.services;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import com.backend.domain.location.GeoCell;
 import com.backend.domain.location.Location;
 import com.backend.domain.location.LocationId;
 import com.backend.port.inbound.commands.CoordinatesCommand;
 import com.backend.port.outbound.repo.LocationRepository;
+import com.backend.services.exceptions.GeocodingRateLimitedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.lang.reflect.Field;
 import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -31,10 +45,15 @@ class LocationServiceTest {
   @Mock private LocationRepository locationRepository;
   @Mock private HttpClient httpClient;
 
-  @InjectMocks private LocationService locationService;
+  private SimpleMeterRegistry meterRegistry;
+  private LocationService locationService;
 
   @BeforeEach
   void setUp() throws Exception {
+    meterRegistry = new SimpleMeterRegistry();
+    locationService = new LocationService(
+        locationRepository, "token", false, 15.0, 600, 30, 2_000, 5_000, meterRegistry);
+
     Field httpClientField = LocationService.class.getDeclaredField("httpClient");
     httpClientField.setAccessible(true);
     httpClientField.set(locationService, httpClient);
@@ -45,20 +64,20 @@ class LocationServiceTest {
     CoordinatesCommand command = new CoordinatesCommand(10.0, 20.0);
     Location existing = new Location(new LocationId(7L), 20.0, 10.0, "Cached address");
 
-    when(locationRepository.findByCoordinate(command.lat(), command.lon()))
+    when(locationRepository.findNearest(command.lat(), command.lon(), 15.0))
         .thenReturn(Optional.of(existing));
 
     Location result = locationService.findByCoordinates(command);
 
     assertSame(existing, result);
-    verify(locationRepository, never()).save(any());
+    verify(locationRepository, never()).saveInCell(any(), any());
     verifyNoInteractions(httpClient);
   }
 
   @Test
   void findByCoordinatesCreatesLocationWhenMissing() throws Exception {
     CoordinatesCommand command = new CoordinatesCommand(11.5, 22.5);
-    when(locationRepository.findByCoordinate(command.lat(), command.lon()))
+    when(locationRepository.findNearest(command.lat(), command.lon(), 15.0))
         .thenReturn(Optional.empty());
 
     HttpResponse<String> response = Mockito.mock(HttpResponse.class);
@@ -69,7 +88,7 @@ class LocationServiceTest {
     when(httpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
         .thenReturn(response);
 
-    when(locationRepository.save(any(Location.class)))
+    when(locationRepository.saveInCell(any(Location.class), any(GeoCell.class)))
         .thenAnswer(invocation -> {
           Location saved = invocation.getArgument(0);
           return new Location(
@@ -82,7 +101,161 @@ class LocationServiceTest {
     Location result = locationService.findByCoordinates(command);
 
     assertEquals("Generated address", result.address());
-    verify(locationRepository).save(any(Location.class));
+    verify(locationRepository).saveInCell(any(Location.class), eq(GeoCell.of(command.lat(), command.lon())));
     verify(httpClient).send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class));
   }
+
+  @Test
+  void asyncModeSavesPendingLocationWithoutCallingMapbox() {
+    locationService = new LocationService(
+        locationRepository, "token", true, 15.0, 600, 30, 2_000, 5_000, meterRegistry);
+    CoordinatesCommand command = new CoordinatesCommand(11.5, 22.5);
+
+    when(locationRepository.findNearest(command.lat(), command.lon(), 15.0)).thenReturn(Optional.empty());
+    when(locationRepository.saveInCell(any(Location.class), any(GeoCell.class)))
+        .thenAnswer(invocation -> {
+          Location saved = invocation.getArgument(0);
+          return saved.toBuilder().id(new LocationId(99L)).build();
+        });
+
+    Location result = locationService.findByCoordinates(command);
+
+    assertEquals(Location.PENDING_ADDRESS, result.address());
+    verifyNoInteractions(httpClient);
+  }
+
+  @Test
+  void findByCoordinatesReturnsCellOwnerWhenCreateRaces() {
+    locationService = new LocationService(
+        locationRepository, "token", true, 15.0, 600, 30, 2_000, 5_000, meterRegistry);
+    CoordinatesCommand command = new CoordinatesCommand(11.5, 22.5);
+    Location owner = new Location(new LocationId(41L), 22.50002, 11.50003, "Owner address");
+
+    when(locationRepository.findNearest(command.lat(), command.lon(), 15.0)).thenReturn(Optional.empty());
+    when(locationRepository.saveInCell(any(Location.class), any(GeoCell.class))).thenReturn(owner);
+
+    Location result = locationService.findByCoordinates(command);
+
+    assertSame(owner, result);
+    verifyNoInteractions(httpClient);
+  }
+
+  @Test
+  void getAddressCallsMapboxOncePerCell() throws Exception {
+    stubMapbox("Corner address");
+
+    String first = locationService.getAddress(new CoordinatesCommand(44.426712, 26.102531));
+    String second = locationService.getAddress(new CoordinatesCommand(44.426748, 26.102589));
+
+    assertEquals("Corner address", first);
+    assertEquals("Corner address", second);
+    verify(httpClient, times(1)).send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class));
+    assertEquals(1.0, lookups("memory"));
+    assertEquals(1.0, lookups("mapbox"));
+    assertEquals(1L, meterRegistry.get("geocode.mapbox").timer().count());
+  }
+
+  @Test
+  void getAddressUsesStoredLocationInSameCell() {
+    CoordinatesCommand command = new CoordinatesCommand(44.426712, 26.102531);
+    Location stored = new Location(new LocationId(3L), 26.10255, 44.42673, "Stored address");
+
+    when(locationRepository.findAnyInCell(any())).thenReturn(Optional.of(stored));
+
+    assertEquals("Stored address", locationService.getAddress(command));
+    verifyNoInteractions(httpClient);
+    assertEquals(1.0, lookups("database"));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void concurrentLookupsOfSameCellShareOneMapboxCall() throws Exception {
+    CountDownLatch requestSent = new CountDownLatch(1);
+    CountDownLatch releaseResponse = new CountDownLatch(1);
+    HttpResponse<String> response = Mockito.mock(HttpResponse.class);
+    when(response.statusCode()).thenReturn(200);
+    when(response.body()).thenReturn("{\"features\":[{\"place_name\":\"Crash site\"}]}");
+    when(httpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+        .thenAnswer(invocation -> {
+          requestSent.countDown();
+          releaseResponse.await(5, TimeUnit.SECONDS);
+          return response;
+        });
+
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      Future<String> first = executor.submit(() -> locationService.getAddress(new CoordinatesCommand(44.426712, 26.102531)));
+      assertEquals(true, requestSent.await(5, TimeUnit.SECONDS));
+
+      Future<String> second = executor.submit(() -> locationService.getAddress(new CoordinatesCommand(44.426748, 26.102589)));
+      long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+      while (meterRegistry.get("geocode.coalesced").counter().count() < 1 && System.nanoTime() < deadline) {
+        Thread.sleep(5);
+      }
+      releaseResponse.countDown();
+
+      assertEquals("Crash site", first.get(5, TimeUnit.SECONDS));
+      assertEquals("Crash site", second.get(5, TimeUnit.SECONDS));
+    } finally {
+      executor.shutdownNow();
+    }
+
+    verify(httpClient, times(1)).send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class));
+    assertEquals(1.0, meterRegistry.get("geocode.coalesced").counter().count());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void tooManyRequestsPausesMapboxForRetryAfter() throws Exception {
+    HttpResponse<String> response = Mockito.mock(HttpResponse.class);
+    when(response.statusCode()).thenReturn(429);
+    when(response.headers()).thenReturn(HttpHeaders.of(Map.of("Retry-After", List.of("30")), (name, value) -> true));
+    when(httpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+        .thenReturn(response);
+
+    GeocodingRateLimitedException first = assertThrows(GeocodingRateLimitedException.class,
+        () -> locationService.getAddress(new CoordinatesCommand(44.4267, 26.1025)));
+    GeocodingRateLimitedException second = assertThrows(GeocodingRateLimitedException.class,
+        () -> locationService.getAddress(new CoordinatesCommand(46.7712, 23.6236)));
+
+    assertEquals(Duration.ofSeconds(30), first.getRetryAfter());
+    assertEquals(true, second.getRetryAfter().compareTo(Duration.ofSeconds(29)) > 0);
+    verify(httpClient, times(1)).send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class));
+    assertEquals(1.0, throttled("mapbox"));
+    assertEquals(1.0, throttled("quota"));
+  }
+
+  @Test
+  void quotaRefusesCallsBeyondBurst() throws Exception {
+    locationService = new LocationService(
+        locationRepository, "token", false, 15.0, 1, 1, 2_000, 5_000, meterRegistry);
+    Field httpClientField = LocationService.class.getDeclaredField("httpClient");
+    httpClientField.setAccessible(true);
+    httpClientField.set(locationService, httpClient);
+    stubMapbox("First address");
+
+    assertEquals("First address", locationService.getAddress(new CoordinatesCommand(44.4267, 26.1025)));
+    assertThrows(GeocodingRateLimitedException.class,
+        () -> locationService.getAddress(new CoordinatesCommand(46.7712, 23.6236)));
+
+    verify(httpClient, times(1)).send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class));
+    assertEquals(1.0, throttled("quota"));
+  }
+
+  @SuppressWarnings("unchecked")
+  private void stubMapbox(String placeName) throws Exception {
+    HttpResponse<String> response = Mockito.mock(HttpResponse.class);
+    when(response.statusCode()).thenReturn(200);
+    when(response.body()).thenReturn("{\"features\":[{\"place_name\":\"" + placeName + "\"}]}");
+    when(httpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+        .thenReturn(response);
+  }
+
+  private double throttled(String source) {
+    return meterRegistry.get("geocode.throttled").tag("source", source).counter().count();
+  }
+
+  private double lookups(String tier) {
+    return meterRegistry.get("geocode.lookups").tag("tier", tier).counter().count();
+  }
 }
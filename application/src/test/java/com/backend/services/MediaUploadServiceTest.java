@@ -0,0 +1,146 @@
+package com.backend.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.backend.domain.actor.UserId;
+import com.backend.domain.media.Media;
+import com.backend.port.inbound.commands.UploadSlot;
+import com.backend.port.outbound.repo.MediaUploadRepository;
+import com.backend.port.outbound.storage.ObjectStoragePort;
+import com.backend.port.outbound.storage.PresignedUpload;
+import com.backend.port.outbound.storage.StoredObject;
+import com.backend.services.exceptions.ValidationException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class MediaUploadServiceTest {
+
+  private static final UserId USER = new UserId("firebase-1");
+
+  @Mock
+  private ObjectStoragePort objectStoragePort;
+
+  @Mock
+  private MediaUploadRepository mediaUploadRepository;
+
+  private MediaUploadService mediaUploadService;
+
+  @BeforeEach
+  void setUp() {
+    mediaUploadService = new MediaUploadService(objectStoragePort, mediaUploadRepository, 2, 1024, 15, 60);
+  }
+
+  @Test
+  void createUploadSessionPresignsUserScopedKeys() throws Exception {
+    when(objectStoragePort.presignUpload(anyString(), any(Duration.class), anyString(), anyLong()))
+        .thenAnswer(invocation -> new PresignedUpload("https://minio/bucket", Map.of("policy", "signed")));
+
+    List<UploadSlot> slots = mediaUploadService.createUploadSession(USER, List.of("my photo.jpg"));
+
+    assertThat(slots).hasSize(1);
+    String key = slots.get(0).key();
+    assertThat(key).startsWith("uploads/firebase-1/").endsWith("-my_photo.jpg");
+    assertThat(slots.get(0).uploadUrl()).isEqualTo("https://minio/bucket");
+    assertThat(slots.get(0).formFields()).containsEntry("policy", "signed");
+    verify(objectStoragePort).presignUpload(eq(key), eq(Duration.ofMinutes(15)), eq("image/jpeg"), eq(1024L));
+    verify(mediaUploadRepository).saveAll(USER, Set.of(key), slots.get(0).expiresAt().plus(Duration.ofMinutes(60)));
+  }
+
+  @Test
+  void createUploadSessionRejectsUnsupportedFileTypes() {
+    assertThrows(ValidationException.class,
+        () -> mediaUploadService.createUploadSession(USER, List.of("photo.jpg", "script.sh")));
+    verifyNoInteractions(objectStoragePort, mediaUploadRepository);
+  }
+
+  @Test
+  void createUploadSessionRejectsTooManyFiles() {
+    assertThrows(ValidationException.class,
+        () -> mediaUploadService.createUploadSession(USER, List.of("a.jpg", "b.jpg", "c.jpg")));
+    verifyNoInteractions(objectStoragePort);
+  }
+
+  @Test
+  void resolveUploadedMediaUsesStoredMetadata() throws Exception {
+    String key = "uploads/firebase-1/abc-photo.jpg";
+    when(objectStoragePort.stat(key)).thenReturn(Optional.of(new StoredObject(key, 512, "image/jpeg")));
+
+    Set<Media> media = mediaUploadService.resolveUploadedMedia(USER, Set.of(key));
+
+    assertThat(media).containsExactly(new Media(512, key, "image/jpeg"));
+  }
+
+  @Test
+  void resolveUploadedMediaRejectsForeignKeys() {
+    assertThrows(ValidationException.class,
+        () -> mediaUploadService.resolveUploadedMedia(USER, Set.of("uploads/someone-else/abc.jpg")));
+    verifyNoInteractions(objectStoragePort);
+  }
+
+  @Test
+  void resolveUploadedMediaRejectsMissingAndOversizedObjects() throws Exception {
+    String missing = "uploads/firebase-1/missing.jpg";
+    String large = "uploads/firebase-1/large.jpg";
+    when(objectStoragePort.stat(missing)).thenReturn(Optional.empty());
+    when(objectStoragePort.stat(large)).thenReturn(Optional.of(new StoredObject(large, 4096, "image/jpeg")));
+
+    assertThrows(ValidationException.class,
+        () -> mediaUploadService.resolveUploadedMedia(USER, Set.of(missing)));
+    assertThrows(ValidationException.class,
+        () -> mediaUploadService.resolveUploadedMedia(USER, Set.of(large)));
+  }
+
+  @Test
+  void attachUploadedMediaRejectsKeysThatCannotBeAttached() {
+    String key = "uploads/firebase-1/abc-photo.jpg";
+    when(mediaUploadRepository.markAttached(eq(USER), eq(Set.of(key)), any(Instant.class))).thenReturn(false);
+
+    assertThrows(ValidationException.class, () -> mediaUploadService.attachUploadedMedia(USER, Set.of(key)));
+  }
+
+  @Test
+  void removeExpiredUploadsDeletesObjectsBeforeForgettingKeys() throws Exception {
+    String key = "uploads/firebase-1/abandoned.jpg";
+    when(mediaUploadRepository.findExpiredKeys(any(Instant.class), anyInt())).thenReturn(List.of(key));
+
+    mediaUploadService.removeExpiredUploads();
+
+    InOrder inOrder = inOrder(objectStoragePort, mediaUploadRepository);
+    inOrder.verify(objectStoragePort).deleteAllByKeys(Set.of(key));
+    inOrder.verify(mediaUploadRepository).deleteAllByKeys(Set.of(key));
+  }
+
+  @Test
+  void removeExpiredUploadsKeepsKeysWhenObjectsCannotBeDeleted() throws Exception {
+    String key = "uploads/firebase-1/abandoned.jpg";
+    when(mediaUploadRepository.findExpiredKeys(any(Instant.class), anyInt())).thenReturn(List.of(key));
+    doThrow(new RuntimeException("storage down")).when(objectStoragePort).deleteAllByKeys(Set.of(key));
+
+    mediaUploadService.removeExpiredUploads();
+
+    verify(mediaUploadRepository, never()).deleteAllByKeys(any());
+  }
+}
@@ -0,0 +1,50 @@
+package com.backend.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class TokenBucketTest {
+
+  private final AtomicLong clock = new AtomicLong();
+
+  @Test
+  void allowsBurstThenRefillsAtRate() {
+    TokenBucket bucket = new TokenBucket(60, 2, clock::get);
+
+    assertThat(bucket.tryAcquire()).isZero();
+    assertThat(bucket.tryAcquire()).isZero();
+    assertThat(bucket.tryAcquire()).isEqualTo(Duration.ofSeconds(1));
+
+    clock.addAndGet(Duration.ofSeconds(1).toNanos());
+
+    assertThat(bucket.tryAcquire()).isZero();
+  }
+
+  @Test
+  void refillNeverExceedsBurst() {
+    TokenBucket bucket = new TokenBucket(60, 2, clock::get);
+
+    clock.addAndGet(Duration.ofMinutes(5).toNanos());
+
+    assertThat(bucket.tryAcquire()).isZero();
+    assertThat(bucket.tryAcquire()).isZero();
+    assertThat(bucket.tryAcquire()).isPositive();
+  }
+
+  @Test
+  void pauseBlocksUntilOverAndDrainsBucket() {
+    TokenBucket bucket = new TokenBucket(60, 10, clock::get);
+
+    bucket.pause(Duration.ofSeconds(30));
+
+    assertThat(bucket.tryAcquire()).isEqualTo(Duration.ofSeconds(30));
+
+    clock.addAndGet(Duration.ofSeconds(31).toNanos());
+
+    assertThat(bucket.tryAcquire()).isZero();
+    assertThat(bucket.tryAcquire()).isPositive();
+  }
+}
@@ -0,0 +1,115 @@
+package com.backend.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.backend.domain.actor.User;
+import com.backend.domain.actor.UserId;
+import com.backend.port.outbound.repo.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class UserSyncServiceTest {
+
+  @Mock private UserService userService;
+  @Mock private UserRepository userRepository;
+
+  private UserSyncService userSyncService;
+
+  @BeforeEach
+  void setUp() {
+    userSyncService = new UserSyncService(userService, userRepository, 100, 60, new SimpleMeterRegistry());
+  }
+
+  @Test
+  void firstSyncUpsertsUser() {
+    User user = user("firebase-1", "Ana");
+
+    userSyncService.sync(user);
+
+    verify(userService).create(user);
+  }
+
+  @Test
+  void repeatedSyncWithSameClaimsOnlyNotesLogin() {
+    User user = user("firebase-1", "Ana");
+
+    userSyncService.sync(user);
+    userSyncService.sync(user);
+    userSyncService.sync(user);
+
+    verify(userService, times(1)).create(any());
+    verifyNoInteractions(userRepository);
+  }
+
+  @Test
+  void changedClaimsUpsertAgain() {
+    userSyncService.sync(user("firebase-1", "Ana"));
+    userSyncService.sync(user("firebase-1", "Ana Maria"));
+
+    verify(userService, times(2)).create(any());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void flushWritesNotedLoginsInOneCall() {
+    userSyncService.sync(user("firebase-1", "Ana"));
+    userSyncService.sync(user("firebase-2", "Dan"));
+    userSyncService.sync(user("firebase-1", "Ana"));
+    userSyncService.sync(user("firebase-2", "Dan"));
+
+    userSyncService.flushLastLogins();
+    userSyncService.flushLastLogins();
+
+    ArgumentCaptor<Map<String, Instant>> batch = ArgumentCaptor.forClass(Map.class);
+    verify(userRepository, times(1)).updateLastLogins(batch.capture());
+    assertThat(batch.getValue()).containsOnlyKeys("firebase-1", "firebase-2");
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void failedFlushIsRetried() {
+    userSyncService.sync(user("firebase-1", "Ana"));
+    userSyncService.sync(user("firebase-1", "Ana"));
+    when(userRepository.updateLastLogins(anyMap()))
+        .thenThrow(new IllegalStateException("database down"))
+        .thenReturn(1);
+
+    userSyncService.flushLastLogins();
+    userSyncService.flushLastLogins();
+
+    ArgumentCaptor<Map<String, Instant>> batches = ArgumentCaptor.forClass(Map.class);
+    verify(userRepository, times(2)).updateLastLogins(batches.capture());
+    assertThat(batches.getAllValues().get(1)).isEqualTo(batches.getAllValues().get(0)).containsOnlyKeys("firebase-1");
+  }
+
+  @Test
+  void flushWithoutLoginsSkipsDatabase() {
+    userSyncService.flushLastLogins();
+
+    verify(userRepository, never()).updateLastLogins(anyMap());
+  }
+
+  private static User user(String uid, String name) {
+    return User.builder()
+        .uid(new UserId(uid))
+        .email(uid + "@example.com")
+        .name(name)
+        .picture("pic.png")
+        .build();
+  }
+}
@@ -11,9 +11,11 @@ import lombok.NonNull;
 /**
  * Represents a user-generated comment associated with a {@code Happening} (such as an Event or Incident).
  * Contains the author's username, the comment content, and the timestamp of creation.
+ * The {@code id} is {@code null} until the comment has been saved.
  */
 @Builder(toBuilder = true)
 public record Comment(
+    CommentId id,
     @NonNull String text,
     @NonNull HappeningId happeningId,
     @NonNull UserId userId,
@@ -0,0 +1,7 @@
+package com.backend.domain.actor;
+
+/**
+ * Strongly typed domain ID for a {@link Comment} (immutable, value-based equality).
+ */
+public record CommentId(long value) {
+}
@@ -0,0 +1,61 @@
+package com.backend.domain.location;
+
+/**
+ * A fixed-size latitude/longitude grid cell used to treat nearby coordinates as the same place.
+ *
+ * <p>With the default size of 0.0001 degrees a cell spans about 11 m north-south and less
+ * east-west, which is finer than the accuracy of a phone fix on a street corner.</p>
+ *
+ * @param latIndex    index of the cell along the latitude axis
+ * @param lonIndex    index of the cell along the longitude axis
+ * @param cellDegrees edge length of the cell in degrees
+ */
+public record GeoCell(long latIndex, long lonIndex, double cellDegrees) {
+
+  public static final double DEFAULT_CELL_DEGREES = 0.0001;
+
+  public GeoCell {
+    if (cellDegrees <= 0 || cellDegrees > 1)
+      throw new IllegalArgumentException("Cell size must be in (0, 1] degrees");
+  }
+
+  /**
+   * @return the default-sized cell containing the given coordinates
+   */
+  public static GeoCell of(double latitude, double longitude) {
+    return of(latitude, longitude, DEFAULT_CELL_DEGREES);
+  }
+
+  /**
+   * @return the cell of the given size containing the given coordinates
+   */
+  public static GeoCell of(double latitude, double longitude, double cellDegrees) {
+    return new GeoCell(
+        (long) Math.floor(latitude / cellDegrees),
+        (long) Math.floor(longitude / cellDegrees),
+        cellDegrees);
+  }
+
+  /**
+   * @return a stable text key for the cell, unique among cells of the same size
+   */
+  public String key() {
+    return latIndex + ":" + lonIndex;
+  }
+
+  public double minLatitude() {
+    return latIndex * cellDegrees;
+  }
+
+  public double maxLatitude() {
+    return (latIndex + 1) * cellDegrees;
+  }
+
+  public double minLongitude() {
+    return lonIndex * cellDegrees;
+  }
+
+  public double maxLongitude() {
+    return (lonIndex + 1) * cellDegrees;
+  }
+}
@@ -15,6 +15,11 @@ import lombok.NonNull;
 @Builder(toBuilder = true)
 public record Location(LocationId id, double longitude, double latitude, String address) {
 
+  /**
+   * Placeholder stored while the address of a new location is still being resolved.
+   */
+  public static final String PENDING_ADDRESS = "(pending)";
+
   public Location {
     if (latitude < -90 || latitude > 90)
       throw new IllegalArgumentException("Latitude must be between -90 and 90 degrees");
@@ -26,4 +31,11 @@ public record Location(LocationId id, double longitude, double latitude, String
       throw new IllegalArgumentException("Address cannot be empty");
     }
   }
+
+  /**
+   * @return whether the address is still being resolved
+   */
+  public boolean isAddressPending() {
+    return PENDING_ADDRESS.equals(address);
+  }
 }
@@ -5,11 +5,32 @@ package com.backend.domain.media;
  * Represents a media resource that holds information about its type,
  * the associated content type, and the location where it can be accessed.
  *
- * @param size        the size of media
- * @param contentType the content type of the media
- * @param filename    the filename
+ * @param size            the size of media
+ * @param contentType     the content type of the media
+ * @param filename        the filename
+ * @param previewFilename the filename of the downscaled preview, or {@code null} if none exists yet
  */
 public record Media(
     long size,
     String filename,
-    String contentType) { }
+    String contentType,
+    String previewFilename) {
+
+  public Media(long size, String filename, String contentType) {
+    this(size, filename, contentType, null);
+  }
+
+  /**
+   * @return whether the media is an image that previews can be generated for
+   */
+  public boolean isImage() {
+    return contentType != null && contentType.startsWith("image/");
+  }
+
+  /**
+   * @return the preview filename when one exists, otherwise the original filename
+   */
+  public String previewOrOriginal() {
+    return previewFilename != null ? previewFilename : filename;
+  }
+}
@@ -0,0 +1,35 @@
+package com.backend.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.backend.domain.location.GeoCell;
+import org.junit.jupiter.api.Test;
+
+class GeoCellTest {
+
+  @Test
+  void nearbyCoordinatesShareCell() {
+    assertThat(GeoCell.of(44.426712, 26.102531)).isEqualTo(GeoCell.of(44.426748, 26.102589));
+  }
+
+  @Test
+  void coordinatesAcrossBoundaryFallInDifferentCells() {
+    assertThat(GeoCell.of(44.42669, 26.1025)).isNotEqualTo(GeoCell.of(44.42671, 26.1025));
+  }
+
+  @Test
+  void boundsContainCoordinates() {
+    GeoCell cell = GeoCell.of(-33.868820, 151.209296);
+
+    assertThat(cell.minLatitude()).isLessThanOrEqualTo(-33.868820);
+    assertThat(cell.maxLatitude()).isGreaterThan(-33.868820);
+    assertThat(cell.minLongitude()).isLessThanOrEqualTo(151.209296);
+    assertThat(cell.maxLongitude()).isGreaterThan(151.209296);
+  }
+
+  @Test
+  void keyUsesFlooredIndices() {
+    assertThat(GeoCell.of(44.426712, 26.102531).key()).isEqualTo("444267:261025");
+    assertThat(GeoCell.of(-0.00005, -0.00005).key()).isEqualTo("-1:-1");
+  }
+}
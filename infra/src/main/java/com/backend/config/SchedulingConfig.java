@@ -0,0 +1,13 @@
+package com.backend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables Spring's {@code @Scheduled} support for background maintenance tasks
+ * such as evicting expired incidents from in-memory indexes.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -34,6 +34,7 @@ public class WebConfig {
    *   <li>Permits standard HTTP methods like GET, POST, PUT, etc.</li>
    *   <li>Accepts all request headers</li>
    *   <li>Allows sending credentials (e.g., cookies, auth tokens)</li>
+   *   <li>Exposes the pagination cursor and total count headers to browser clients</li>
    * </ul>
    *
    * <p>This configuration is applied to all request paths ("/**") via {@link UrlBasedCorsConfigurationSource}.</p>
@@ -47,6 +48,7 @@ public class WebConfig {
     config.setAllowedMethods(List.of("GET","POST","PUT","PATCH","DELETE","OPTIONS"));
     config.setAllowedHeaders(List.of("*"));
     config.setAllowCredentials(true);
+    config.setExposedHeaders(List.of("X-Next-Cursor", "X-Total-Count"));
 
     UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
     source.registerCorsConfiguration("/**", config);
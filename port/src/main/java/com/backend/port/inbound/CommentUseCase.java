@@ -2,51 +2,58 @@ package com.backend.port.inbound;
 
 import com.backend.domain.actor.Comment;
 import com.backend.port.inbound.commands.CommentTextCommand;
-import java.util.List;
+import com.backend.port.inbound.commands.CursorPage;
 
 /**
- * Defines use cases for managing comments, including creation, retrieval,
- * modification, deletion, and reactions.
+ * Defines use cases for managing the comments of incidents, including creation, paginated
+ * retrieval, modification and deletion.
  */
 public interface CommentUseCase {
 
     /**
-     * Creates a new comment.
+     * Creates a new comment on an incident.
      *
+     * @param incidentId  the identifier of the incident
+     * @param userId      the Firebase UID of the author
      * @param commentText the command object containing the comment text
      * @return the created comment
      */
-    Comment create(CommentTextCommand commentText);
+    Comment create(long incidentId, String userId, CommentTextCommand commentText);
 
     /**
-     * Finds all comments authored by a given actor.
+     * Finds one page of the comments of an incident, newest first.
      *
-     * @param actorId the identifier of the actor
-     * @return the list of comments by the actor
+     * @param incidentId the identifier of the incident
+     * @param cursor     cursor returned with the previous page, or {@code null} for the first page
+     * @return the page of comments for the incident
      */
-    List<Comment> findByActorId(long actorId);
+    CursorPage<Comment> findByIncidentId(long incidentId, String cursor);
 
     /**
-     * Finds all comments associated with a given Happening.
+     * Reads the number of comments on an incident.
      *
-     * @param happeningId the identifier of the Happening
-     * @return the list of comments for the Happening
+     * @param incidentId the identifier of the incident
+     * @return the number of comments
      */
-    List<Comment> findByHappeningId(long happeningId);
+    int countByIncidentId(long incidentId);
 
     /**
-     * Updates the text of an existing comment.
+     * Updates the text of an existing comment. Only its author may update it.
      *
+     * @param incidentId      the identifier of the incident the comment belongs to
      * @param commentId       the identifier of the comment to update
+     * @param userId          the Firebase UID of the caller
      * @param newCommentText  the command object containing the new text
      * @return the updated comment
      */
-    Comment update(long commentId, CommentTextCommand newCommentText);
+    Comment update(long incidentId, long commentId, String userId, CommentTextCommand newCommentText);
 
     /**
-     * Deletes a comment by its identifier.
+     * Deletes a comment by its identifier. Only its author may delete it.
      *
-     * @param commentId the identifier of the comment to delete
+     * @param incidentId the identifier of the incident the comment belongs to
+     * @param commentId  the identifier of the comment to delete
+     * @param userId     the Firebase UID of the caller
      */
-    void delete(long commentId);
+    void delete(long incidentId, long commentId, String userId);
 }
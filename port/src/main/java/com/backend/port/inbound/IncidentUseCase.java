@@ -3,6 +3,8 @@ package com.backend.port.inbound;
 import com.backend.domain.actor.UserId;
 import com.backend.domain.happening.Incident;
 import com.backend.port.inbound.commands.CreateIncidentCommand;
+import com.backend.port.inbound.commands.CursorPage;
+import com.backend.port.inbound.commands.IncidentPreview;
 import com.backend.port.inbound.commands.RadiusCommand;
 import java.util.List;
 
@@ -35,12 +37,21 @@ public interface IncidentUseCase {
     List<Incident> findByUserId(String actorId);
 
     /**
-     * Finds all incidents within a given geographic radius.
+     * Finds one page of incidents within a given geographic radius, nearest first.
      *
-     * @param radiusCommand the command containing center coordinates and radius in meters
-     * @return the list of incidents within the given radius
+     * @param radiusCommand the command containing center coordinates, radius in meters and cursor
+     * @return the page of incidents within the given radius
      */
-    List<Incident> findAllInGivenRange(RadiusCommand radiusCommand);
+    CursorPage<Incident> findAllInGivenRange(RadiusCommand radiusCommand);
+
+    /**
+     * Finds one page of incident previews within a given geographic radius, nearest first.
+     * Intended for feed rendering where only the card fields are needed.
+     *
+     * @param radiusCommand the command containing center coordinates, radius in meters and cursor
+     * @return the page of previews within the given radius
+     */
+    CursorPage<IncidentPreview> findPreviewsInGivenRange(RadiusCommand radiusCommand);
 
     /**
      * Creates a new incident.
@@ -0,0 +1,46 @@
+package com.backend.port.inbound;
+
+import com.backend.domain.actor.UserId;
+import com.backend.domain.media.Media;
+import com.backend.port.inbound.commands.UploadSlot;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Defines use cases for uploading media straight to object storage.
+ */
+public interface MediaUploadUseCase {
+
+    /**
+     * Reserves one object key per file and presigns an upload for each of them.
+     *
+     * @param userId    the user who will upload the files
+     * @param filenames original names of the files to upload
+     * @return one upload slot per file, in the same order
+     */
+    List<UploadSlot> createUploadSession(UserId userId, List<String> filenames);
+
+    /**
+     * Verifies keys returned by a client after a direct upload and turns them into {@link Media}.
+     *
+     * @param userId the user creating the incident
+     * @param keys   object keys from an upload session
+     * @return media backed by the verified objects
+     */
+    Set<Media> resolveUploadedMedia(UserId userId, Set<String> keys);
+
+    /**
+     * Marks uploaded keys as used by an incident, so they cannot be attached again.
+     *
+     * @param userId the user creating the incident
+     * @param keys   object keys from an upload session
+     */
+    void attachUploadedMedia(UserId userId, Set<String> keys);
+
+    /**
+     * Makes keys available again after the incident they were attached to could not be saved.
+     *
+     * @param keys object keys previously attached
+     */
+    void detachUploadedMedia(Set<String> keys);
+}
@@ -1,7 +1,9 @@
 package com.backend.port.inbound;
 
 import com.backend.port.inbound.commands.ReactToIncidentCommand;
+import com.backend.port.inbound.commands.ReactionSummariesCommand;
 import com.backend.port.inbound.commands.ReactionSummary;
+import java.util.List;
 
 /**
  * Defines use cases for managing reactions such as likes and dislikes.
@@ -45,4 +47,11 @@ public interface ReactionUseCase {
    * @return the reaction summary
    */
   ReactionSummary getSummary(ReactToIncidentCommand command);
+
+  /**
+   * Retrieves the reaction summaries of several incidents at once.
+   *
+   * @return one summary per distinct incident, in request order
+   */
+  List<ReactionSummary> getSummaries(ReactionSummariesCommand command);
 }
@@ -12,6 +12,7 @@ import lombok.Builder;
  * @param media       the set of media associated with the incident
  * @param lat         the latitude where the incident occurred
  * @param lon         the longitude where the incident occurred
+ * @param mediaKeys   keys of media the client already uploaded through an upload session
  */
 @Builder(toBuilder = true)
 public record CreateIncidentCommand(
@@ -20,4 +21,17 @@ public record CreateIncidentCommand(
     String description,
     Set<UploadMediaCommand> media,
     double lat,
-    double lon) { }
+    double lon,
+    Set<String> mediaKeys) {
+
+  public CreateIncidentCommand {
+    media = media == null ? Set.of() : media;
+    mediaKeys = mediaKeys == null ? Set.of() : mediaKeys;
+  }
+
+  public CreateIncidentCommand(
+      UserId userId, String title, String description, Set<UploadMediaCommand> media, double lat, double lon) {
+
+    this(userId, title, description, media, lat, lon, Set.of());
+  }
+}
@@ -0,0 +1,20 @@
+package com.backend.port.inbound.commands;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated result.
+ *
+ * @param items      the page content, in result order
+ * @param nextCursor opaque token pointing after the last item, or {@code null} on the last page
+ * @param <T>        item type
+ */
+public record CursorPage<T>(List<T> items, String nextCursor) {
+
+  /**
+   * @return {@code true} if another page can be requested with {@link #nextCursor()}
+   */
+  public boolean hasNext() {
+    return nextCursor != null;
+  }
+}
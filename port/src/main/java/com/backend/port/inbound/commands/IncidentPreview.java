@@ -0,0 +1,28 @@
+package com.backend.port.inbound.commands;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Read-only projection holding only what a feed card renders, so list endpoints do not need to
+ * hydrate full incidents, their locations and their media rows.
+ *
+ * @param id        incident identifier
+ * @param title     incident title
+ * @param lat       latitude of the incident location
+ * @param lon       longitude of the incident location
+ * @param createdAt when the incident was posted
+ * @param mediaKeys object storage keys of the attached media, preview variants where available
+ */
+public record IncidentPreview(
+    long id,
+    String title,
+    double lat,
+    double lon,
+    Instant createdAt,
+    List<String> mediaKeys) {
+
+  public IncidentPreview {
+    mediaKeys = mediaKeys == null ? List.of() : List.copyOf(mediaKeys);
+  }
+}
@@ -6,7 +6,8 @@ package com.backend.port.inbound.commands;
  * @param lat    the latitude of the center point
  * @param lon    the longitude of the center point
  * @param radius the search radius in meters
+ * @param cursor opaque cursor returned by the previous page, or {@code null} for the first page
  */
-public record RadiusCommand(double lat, double lon, double radius) {
+public record RadiusCommand(double lat, double lon, double radius, String cursor) {
 
 }
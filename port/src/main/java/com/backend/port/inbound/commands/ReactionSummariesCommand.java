@@ -0,0 +1,37 @@
+package com.backend.port.inbound.commands;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Command requesting the reaction summaries of several incidents at once, e.g. for a feed page.
+ *
+ * @param incidentIds target incident identifiers (positive, at most {@value #MAX_INCIDENTS})
+ * @param userId      identifier of the requesting user (may be {@code null} for anonymous lookups)
+ */
+public record ReactionSummariesCommand(List<Long> incidentIds, String userId) {
+
+  public static final int MAX_INCIDENTS = 100;
+
+  public ReactionSummariesCommand {
+    if (incidentIds == null) {
+      throw new IllegalArgumentException("Incident values must not be null");
+    }
+    if (incidentIds.size() > MAX_INCIDENTS) {
+      throw new IllegalArgumentException("At most " + MAX_INCIDENTS + " incidents can be requested at once");
+    }
+    if (incidentIds.stream().anyMatch(id -> id == null || id <= 0)) {
+      throw new IllegalArgumentException("Incident values must be positive");
+    }
+    incidentIds = List.copyOf(incidentIds);
+  }
+
+  /**
+   * Safely returns the user identifier, defaulting to an empty string when absent.
+   *
+   * @return user identifier or empty string
+   */
+  public String safeUserId() {
+    return Objects.toString(userId, "");
+  }
+}
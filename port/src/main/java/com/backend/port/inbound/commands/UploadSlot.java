@@ -0,0 +1,18 @@
+package com.backend.port.inbound.commands;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * A reserved object key together with the presigned URL the client uploads to.
+ *
+ * @param key        object key to pass back when creating the incident
+ * @param uploadUrl  URL the upload form is posted to
+ * @param formFields signed form fields to send along with the file
+ * @param expiresAt  instant after which the upload is no longer accepted
+ */
+public record UploadSlot(
+    String key,
+    String uploadUrl,
+    Map<String, String> formFields,
+    Instant expiresAt) { }
@@ -0,0 +1,12 @@
+package com.backend.port.outbound.repo;
+
+import com.backend.domain.reactions.EngagementStats;
+import java.time.Instant;
+
+/**
+ * Engagement counters and expiry of an incident right after an engagement was applied to it.
+ *
+ * @param engagementStats the counters including the applied engagement
+ * @param expiresAt       the expiry of the incident
+ */
+public record AppliedEngagement(EngagementStats engagementStats, Instant expiresAt) { }
@@ -1,7 +1,9 @@
 package com.backend.port.outbound.repo;
 
 import com.backend.domain.actor.Comment;
-import java.util.List;
+import com.backend.port.inbound.commands.CursorPage;
+import java.util.Optional;
+import java.util.OptionalInt;
 
 /**
  * Repository interface for accessing and managing Comment entities in the data store.
@@ -9,38 +11,50 @@ import java.util.List;
 public interface CommentRepository {
 
     /**
-     * Saves a new comment in the system.
+     * Saves a new comment in the system and counts it on its happening.
      *
      * @param comment the comment to be saved
-     * @return The saved Comment object, potentially with a generated ID.
+     * @return The saved Comment object, with its generated ID.
      */
     Comment save(Comment comment);
 
     /**
-     * Retrieves all comments associated with a specific happening.
+     * Retrieves one page of the comments of a happening, newest first. The cost of a page does not
+     * depend on how many comments the happening has.
      *
      * @param happeningId The ID of the happening whose comments are to be fetched.
-     * @return A list of Comment objects related to the specified happening.
+     * @param cursor      cursor returned with the previous page, or {@code null} for the first page
+     * @param limit       maximum number of comments on the page
+     * @return The page of comments related to the specified happening.
+     * @throws IllegalArgumentException if the cursor is malformed
      */
-    List<Comment> findByHappeningId(long happeningId);
+    CursorPage<Comment> findPageByHappeningId(long happeningId, String cursor, int limit);
+
+    /**
+     * Reads the number of comments on a happening.
+     *
+     * @param happeningId The ID of the happening.
+     * @return The number of comments, or empty if the happening does not exist.
+     */
+    OptionalInt countByHappeningId(long happeningId);
 
     /**
      * Finds a comment by its unique identifier.
      *
      * @param id The unique ID of the comment to retrieve.
-     * @return The Comment object if found, or null if not found.
+     * @return The Comment object, or empty if not found.
      */
-    Comment findById(long id);
+    Optional<Comment> findById(long id);
 
     /**
-     * Deletes a comment by its unique identifier.
+     * Deletes a comment by its unique identifier and uncounts it on its happening.
      *
      * @param id The unique ID of the comment to delete.
      */
     void delete(long id);
 
     /**
-     * Updates an existing comment identified by its ID.
+     * Updates the text of an existing comment identified by its ID.
      *
      * @param id The ID of the comment to edit.
      * @param updatedComment The Comment object containing updated fields.
@@ -7,4 +7,16 @@ import java.util.Optional;
 public interface IncidentEngagementRepository {
   Optional<IncidentEngagementType> findUserEngagement(long incidentId, UserId userId);
   void saveEngagement(long incidentId, UserId userId, IncidentEngagementType type);
+
+  /**
+   * Records the user's engagement and applies it to the incident counters, following the rules of
+   * {@code Incident#confirmIncident()} and {@code Incident#denyIncident()}.
+   *
+   * @param incidentId the identifier of the incident
+   * @param userId     the user confirming or denying
+   * @param type       whether the user confirms or denies the incident
+   * @return the counters and expiry after the engagement, or empty if the incident does not exist
+   *         or the user has already engaged with it
+   */
+  Optional<AppliedEngagement> applyEngagement(long incidentId, UserId userId, IncidentEngagementType type);
 }
@@ -1,6 +1,10 @@
 package com.backend.port.outbound.repo;
 
+import com.backend.domain.actor.UserId;
 import com.backend.domain.happening.Incident;
+import com.backend.domain.reactions.IncidentEngagementType;
+import com.backend.port.inbound.commands.CursorPage;
+import com.backend.port.inbound.commands.IncidentPreview;
 import java.util.List;
 import java.util.Optional;
 
@@ -33,6 +37,27 @@ public interface IncidentRepository {
    */
   List<Incident> findByUserId(String userId);
 
+  /**
+   * Finds the identifiers of all incidents reported at a given location.
+   *
+   * @param locationId the identifier of the location
+   * @return identifiers of the incidents at that location
+   */
+  List<Long> findIdsByLocationId(long locationId);
+
+  /**
+   * Records the user's engagement and applies it to the incident counters and expiry as one
+   * atomic operation, following the rules of {@link Incident#confirmIncident()} and
+   * {@link Incident#denyIncident()}.
+   *
+   * @param incidentId the identifier of the incident
+   * @param userId     the user confirming or denying
+   * @param type       whether the user confirms or denies the incident
+   * @return the updated incident, or empty if the incident does not exist or the user has
+   *         already engaged with it
+   */
+  Optional<Incident> applyEngagement(long incidentId, UserId userId, IncidentEngagementType type);
+
   /**
    * Deletes a Happening by its unique identifier.
    *
@@ -49,10 +74,30 @@ public interface IncidentRepository {
   Incident save(Incident incident);
 
   /**
-   * Finds all incidents within a specified range (e.g., geographical or time-based).
-   * Consider adding parameters such as location coordinates and range value.
+   * Finds incidents within a radius, nearest first. Results are keyset-paginated on
+   * (distance, id), so every page costs the same regardless of how deep the client scrolls.
+   *
+   * @param lat          latitude of the search centre
+   * @param lon          longitude of the search centre
+   * @param radiusMeters search radius in meters
+   * @param cursor       cursor returned with the previous page, or {@code null} for the first page
+   * @param limit        maximum number of incidents in the page
+   * @return the page of incidents and the cursor of the next page
+   */
+  CursorPage<Incident> findAllInGivenRange(
+      double lat, double lon, double radiusMeters, String cursor, int limit);
+
+  /**
+   * Same listing as {@link #findAllInGivenRange}, but returns feed-card projections built in a
+   * single query (one row per incident, media keys aggregated) instead of full incidents.
    *
-   * @return A list of incidents within the given range.
+   * @param lat          latitude of the search centre
+   * @param lon          longitude of the search centre
+   * @param radiusMeters search radius in meters
+   * @param cursor       cursor returned with the previous page, or {@code null} for the first page
+   * @param limit        maximum number of previews in the page
+   * @return the page of previews and the cursor of the next page
    */
-  List<Incident> findAllInGivenRange(double lat, double lon, double radiusMeters);
+  CursorPage<IncidentPreview> findPreviewsInGivenRange(
+      double lat, double lon, double radiusMeters, String cursor, int limit);
 }
@@ -1,7 +1,10 @@
 package com.backend.port.outbound.repo;
 
+import com.backend.domain.location.GeoCell;
 import com.backend.domain.location.Location;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -26,13 +29,59 @@ public interface LocationRepository {
     Location findById(long id);
 
     /**
-     * Finds a location by its latitude and longitude coordinates.
+     * Finds all locations with the given identifiers in a single lookup.
+     * Identifiers without a matching location are skipped.
      *
-     * @param latitude  The latitude coordinate of the location.
-     * @param longitude The longitude coordinate of the location.
-     * @return An Optional containing the Location if found, or empty if not found.
+     * @param ids The unique IDs of the locations to retrieve.
+     * @return The matching locations, in no particular order.
+     */
+    List<Location> findAllByIds(Collection<Long> ids);
+
+    /**
+     * Finds the stored location closest to the given coordinates, if one lies within the distance.
+     *
+     * @param latitude          The latitude coordinate to search around.
+     * @param longitude         The longitude coordinate to search around.
+     * @param maxDistanceMeters The maximum distance, in meters, of a match.
+     * @return An Optional containing the nearest Location, or empty if none is close enough.
+     */
+    Optional<Location> findNearest(double latitude, double longitude, double maxDistanceMeters);
+
+    /**
+     * Saves a new location as the owner of the given grid cell. If another location already
+     * owns the cell, nothing is inserted and that location is returned instead, so concurrent
+     * creates for the same spot end up sharing one row.
+     *
+     * @param location The Location object to be saved.
+     * @param cell     The grid cell containing the location.
+     * @return The saved Location, or the one that already owned the cell.
+     */
+    Location saveInCell(Location location, GeoCell cell);
+
+    /**
+     * Finds any location with a known address inside the given grid cell.
+     *
+     * @param cell The grid cell to search.
+     * @return An Optional containing one of the locations in the cell, or empty if there is none.
+     */
+    Optional<Location> findAnyInCell(GeoCell cell);
+
+    /**
+     * Finds locations whose stored address equals the given text.
+     *
+     * @param address The address text to match.
+     * @param limit   The maximum number of locations to return.
+     * @return The matching locations, at most {@code limit} of them.
+     */
+    List<Location> findAllByAddress(String address, int limit);
+
+    /**
+     * Replaces the stored address of an existing location.
+     *
+     * @param id      The unique ID of the location.
+     * @param address The new address text.
      */
-    Optional<Location> findByCoordinate(double latitude, double longitude);
+    void updateAddress(long id, String address);
 
     /**
      * Deletes a location by its unique identifier.
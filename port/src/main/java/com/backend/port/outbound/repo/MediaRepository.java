@@ -34,4 +34,13 @@ public interface MediaRepository {
    * @throws Exception if persistence fails
    */
   Optional<Media> findByKey(String key) throws Exception;
+
+  /**
+   * Records the preview generated for a media object.
+   *
+   * @param key        the unique media key
+   * @param previewKey the object key of the preview
+   * @throws Exception if persistence fails
+   */
+  void updatePreviewKey(String key, String previewKey) throws Exception;
 }
@@ -0,0 +1,55 @@
+package com.backend.port.outbound.repo;
+
+import com.backend.domain.actor.UserId;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Repository keeping track of the object keys handed out for direct uploads, so every key is
+ * attached to at most one incident and keys that are never attached can be cleaned up.
+ */
+public interface MediaUploadRepository {
+
+  /**
+   * Records keys issued to a user.
+   *
+   * @param userId    the user the keys were issued to
+   * @param keys      the issued object keys
+   * @param expiresAt instant after which the keys can no longer be attached
+   */
+  void saveAll(UserId userId, Set<String> keys, Instant expiresAt);
+
+  /**
+   * Marks keys as attached to an incident. Either every key is marked or none is.
+   *
+   * @param userId the user attaching the keys
+   * @param keys   the keys to attach
+   * @param now    the current instant
+   * @return {@code true} if every key was issued to the user, is not expired and not attached yet
+   */
+  boolean markAttached(UserId userId, Set<String> keys, Instant now);
+
+  /**
+   * Makes attached keys available again, e.g. when the incident could not be saved.
+   *
+   * @param keys the keys to detach
+   */
+  void markDetached(Set<String> keys);
+
+  /**
+   * Finds keys that expired without being attached.
+   *
+   * @param now   the current instant
+   * @param limit maximum number of keys to return
+   * @return expired, unattached keys
+   */
+  List<String> findExpiredKeys(Instant now, int limit);
+
+  /**
+   * Forgets the given keys.
+   *
+   * @param keys the keys to delete
+   */
+  void deleteAllByKeys(Set<String> keys);
+}
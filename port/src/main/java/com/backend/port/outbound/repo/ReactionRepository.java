@@ -1,6 +1,8 @@
 package com.backend.port.outbound.repo;
 
 import com.backend.port.inbound.commands.ReactionSummary;
+import java.util.Collection;
+import java.util.List;
 
 /**
  * Outbound port describing the operations needed to persist and retrieve incident reactions.
@@ -53,4 +55,13 @@ public interface ReactionRepository {
    * @return aggregate reaction summary
    */
   ReactionSummary getSummary(long incidentId, String userId);
+
+  /**
+   * Retrieves the reaction summaries of several incidents in one round trip.
+   *
+   * @param incidentIds incident identifiers
+   * @param userId      unique user identifier (may be blank for anonymous lookups)
+   * @return one summary per distinct incident, in the order the identifiers were given
+   */
+  List<ReactionSummary> getSummaries(Collection<Long> incidentIds, String userId);
 }
@@ -1,6 +1,8 @@
 package com.backend.port.outbound.repo;
 
 import com.backend.domain.actor.User;
+import java.time.Instant;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -41,4 +43,13 @@ public interface UserRepository {
    * @return true when a record exists, false otherwise
    */
   boolean existsByFirebaseUid(String firebaseUid);
+
+  /**
+   * Records the last login time of many users at once. A stored time is never moved backwards,
+   * and unknown UIDs are ignored.
+   *
+   * @param lastLoginByFirebaseUid last login time keyed by Firebase UID
+   * @return number of users whose last login was updated
+   */
+  int updateLastLogins(Map<String, Instant> lastLoginByFirebaseUid);
 }
@@ -0,0 +1,18 @@
+package com.backend.port.outbound.storage;
+
+import com.backend.domain.media.Media;
+import java.util.Set;
+
+/**
+ * Port for post-upload processing of stored media.
+ */
+public interface MediaProcessingPort {
+
+  /**
+   * Schedules generation of downscaled previews for the given media. Returns immediately;
+   * previews are stored and recorded on the media once they are ready.
+   *
+   * @param media stored media of an incident
+   */
+  void generatePreviews(Set<Media> media);
+}
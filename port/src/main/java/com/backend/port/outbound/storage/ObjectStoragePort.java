@@ -2,7 +2,9 @@ package com.backend.port.outbound.storage;
 
 import com.backend.domain.media.Media;
 import com.backend.port.inbound.commands.UploadMediaCommand;
+import java.io.InputStream;
 import java.time.Duration;
+import java.util.Optional;
 import java.util.Set;
 
 /**
@@ -35,11 +37,40 @@ public interface ObjectStoragePort {
   String presignGet(String key, Duration ttl) throws Exception;
 
   /**
-   * Creates a presigned URL for uploading an object.
+   * Creates a presigned form upload for one object. Storage rejects the upload unless it targets
+   * exactly this key, declares this content type and is at most {@code maxBytes} long.
+   *
+   * @param key         object key
+   * @param ttl         validity of the upload form
+   * @param contentType MIME type the upload must declare
+   * @param maxBytes    maximum size of the upload in bytes
+   * @return URL and form fields of the upload
+   */
+  PresignedUpload presignUpload(String key, Duration ttl, String contentType, long maxBytes) throws Exception;
+
+  /**
+   * Opens the content of an object for reading.
    *
    * @param key object key
-   * @param ttl URL validity duration
-   * @return presigned PUT URL
+   * @return object content, to be closed by the caller
+   */
+  InputStream get(String key) throws Exception;
+
+  /**
+   * Stores an object under the given key, replacing any existing object.
+   *
+   * @param key         object key
+   * @param content     object content
+   * @param size        content length in bytes
+   * @param contentType MIME type of the content
+   */
+  void put(String key, InputStream content, long size, String contentType) throws Exception;
+
+  /**
+   * Reads the metadata of an object without downloading it.
+   *
+   * @param key object key
+   * @return object metadata, or empty if no object exists under the key
    */
-  String presignPut(String key, Duration ttl) throws Exception;
+  Optional<StoredObject> stat(String key) throws Exception;
 }
@@ -0,0 +1,14 @@
+package com.backend.port.outbound.storage;
+
+import java.util.Map;
+
+/**
+ * A presigned form upload: the client sends a multipart POST to {@code url} with every form field
+ * followed by a {@code file} part holding the content.
+ *
+ * @param url        URL the form is posted to
+ * @param formFields fields the form must carry, including the signed policy
+ */
+public record PresignedUpload(
+    String url,
+    Map<String, String> formFields) { }
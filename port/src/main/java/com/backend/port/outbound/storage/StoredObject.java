@@ -0,0 +1,13 @@
+package com.backend.port.outbound.storage;
+
+/**
+ * Metadata of an object that already exists in object storage.
+ *
+ * @param key         object key
+ * @param size        object size in bytes
+ * @param contentType MIME type recorded by the storage
+ */
+public record StoredObject(
+    String key,
+    long size,
+    String contentType) { }